@@ -0,0 +1,39 @@
+package model.brick;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Đo BrickFactory.createRandomBrick với xác suất mặc định của chế độ endless.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BrickFactoryBenchmark {
+
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public Brick createRandomBrick() {
+        return BrickFactory.createRandomBrick(random, 15, 50, 70, 30, 0.40, 0.85);
+    }
+}
@@ -0,0 +1,60 @@
+package model.entity;
+
+import model.brick.Brick;
+import model.brick.StrongBrick;
+import model.manager.GameManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Đo Ball.handleCollisionWith cho trường hợp trượt (phần lớn lời gọi trong game) và trúng gạch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BallCollisionBenchmark {
+
+    private Ball ball;
+    private Brick brick;
+
+    @Setup
+    public void setup() {
+        ball = new Ball(0, 0, 20, 240, -300);
+        // Gạch cứng vô hạn máu để trạng thái không đổi giữa các lần gọi
+        brick = new StrongBrick(100, 100, 70, 30) {
+            @Override
+            public void takeHit() {
+            }
+        };
+    }
+
+    @Benchmark
+    public boolean miss() {
+        ball.setX(10);
+        ball.setY(10);
+        return ball.handleCollisionWith(brick, GameManager.DEFAULT_TICK_RATE);
+    }
+
+    @Benchmark
+    public boolean hitFromBelow() {
+        // Bóng lấn 5px vào mặt dưới gạch khi đang bay lên
+        ball.setX(120);
+        ball.setY(125);
+        ball.setDx(240);
+        ball.setDy(-300);
+        return ball.handleCollisionWith(brick, GameManager.DEFAULT_TICK_RATE);
+    }
+}
@@ -0,0 +1,55 @@
+package model.manager;
+
+import model.brick.BrickGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Đo addRowAtTop (sinh hàng mới của chế độ endless) theo số hàng gạch đang có trên màn hình.
+ * Sau mỗi lần thêm, hàng dư ở dưới cùng bị xoá để số hàng giữ nguyên giữa các lần gọi.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EndlessRowBenchmark {
+
+    @Param({"6", "12", "18"})
+    public int rows;
+
+    private GameManager sim;
+    private BrickGrid grid;
+
+    @Setup
+    public void setup() {
+        sim = GameManager.newSimulation();
+        sim.startGame(42L);
+        grid = sim.getBrickGrid();
+        grid.clear();
+        for (int i = 0; i < rows; i++) {
+            sim.addRowAtTop();
+        }
+    }
+
+    @Benchmark
+    public int addRowAtTop() {
+        sim.addRowAtTop();
+        for (int col = 0; col < grid.getCols(); col++) {
+            grid.set(rows, col, null);
+        }
+        return grid.getLiveCount();
+    }
+}
@@ -0,0 +1,113 @@
+package model.manager;
+
+import model.brick.BrickGrid;
+import model.brick.NormalBrick;
+import model.entity.Ball;
+import model.entity.Paddle;
+import model.state.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Đo một tick mô phỏng (di chuyển, checkCollisions, gỡ gạch vỡ, power-up, kiểm tra thắng/thua)
+ * theo số gạch và số bóng trên màn hình.
+ * Để kịch bản ổn định suốt phép đo: paddle luôn đứng dưới bóng chính, gạch vỡ được bù lại,
+ * số bóng phụ được giữ cố định (sinh lại khi rơi, cắt bớt khi power-up multi-ball sinh thêm)
+ * và số mạng đủ lớn để không bao giờ thua.
+ * Phần bù này chỉ chạy khi có gạch vỡ/bóng rơi nên chiếm tỉ lệ nhỏ trong thời gian đo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameTickBenchmark {
+
+    // Tối đa 14 hàng x 11 cột để gạch không chạm paddle
+    @Param({"11", "66", "154"})
+    public int brickCount;
+
+    @Param({"1", "4", "16"})
+    public int ballCount;
+
+    private GameManager sim;
+    private BrickGrid grid;
+
+    @Setup
+    public void setup() {
+        sim = GameManager.newSimulation();
+        sim.startGame(42L);
+        for (int i = 0; i < 600 && sim.getCurrentState() != GameState.RUNNING; i++) {
+            sim.tick();
+        }
+        if (sim.isEndlessMode()) {
+            sim.toggleEndlessMode();
+        }
+        sim.addLife(1_000_000);
+
+        grid = sim.getBrickGrid();
+        grid.clear();
+        refillBricks();
+        sim.launchBall();
+        sim.tick();
+        refillBalls();
+    }
+
+    @Benchmark
+    public int tick() {
+        Ball ball = sim.getBall();
+        Paddle paddle = sim.getPaddle();
+        if (ball != null) {
+            paddle.setX(ball.getX() + ball.getWidth() / 2 - paddle.getWidth() / 2);
+            if (!ball.isLaunched()) {
+                sim.launchBall();
+            }
+        }
+
+        sim.tick();
+
+        if (grid.getLiveCount() < brickCount) {
+            refillBricks();
+        }
+        // Power-up multi-ball có thể sinh thêm bóng: cắt về đúng số bóng của kịch bản
+        List<Ball> extras = sim.getExtraBalls();
+        if (extras.size() != ballCount - 1) {
+            for (int i = extras.size() - 1; i >= ballCount - 1; i--) {
+                extras.remove(i);
+            }
+            refillBalls();
+        }
+        return sim.getScore();
+    }
+
+    private void refillBricks() {
+        int cols = grid.getCols();
+        for (int i = 0; i < brickCount; i++) {
+            int row = i / cols;
+            int col = i % cols;
+            if (grid.get(row, col) == null) {
+                grid.set(row, col, new NormalBrick(0, 0, 70, 30));
+            }
+        }
+    }
+
+    private void refillBalls() {
+        int missing = ballCount - 1 - sim.getExtraBalls().size();
+        if (missing > 0) {
+            sim.spawnExtraBalls(missing);
+        }
+    }
+}
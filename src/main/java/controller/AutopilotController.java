@@ -0,0 +1,146 @@
+package controller;
+
+import model.entity.Ball;
+import model.entity.Paddle;
+import model.manager.GameEventBuffer;
+import model.manager.GameEventListener;
+import model.manager.GameManager;
+import model.manager.InputCommand;
+import model.state.GameState;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Paddle tự động: sau mỗi tick dự đoán vị trí bóng chính chạm tới độ cao paddle (tính cả dội tường,
+ * bỏ qua gạch) rồi gửi lệnh di chuyển/phóng bóng cho tick kế tiếp qua GameManager.submitInput,
+ * giống hệt người chơi bấm phím, nên ván chơi tự động vẫn được ghi nhật ký và replay được.
+ *
+ * Điểm đỡ được lệch khỏi tâm paddle một khoảng ngẫu nhiên mỗi lần bóng bắt đầu rơi,
+ * để góc nảy thay đổi thay vì lặp lại một quỹ đạo cố định.
+ * Bật trong game bằng -Darkanoid.autopilot; SoakRunner dùng để chạy game nhiều giờ không người chơi,
+ * BalancingRunner dùng để chơi các ván Monte Carlo.
+ */
+public class AutopilotController implements GameEventListener {
+    // Độ lệch tối đa của điểm đỡ so với tâm paddle (% chiều rộng paddle)
+    private static final int MAX_AIM_OFFSET_PERCENT = 30;
+
+    private final GameManager gameManager;
+    private final SplittableRandom random;
+    private int aimOffset = 0;
+    private boolean falling = false;
+
+    /**
+     * @param gameManager mô phỏng cần điều khiển
+     * @param seed seed cho độ lệch điểm đỡ
+     */
+    public AutopilotController(GameManager gameManager, long seed) {
+        this.gameManager = gameManager;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void onTickEvents(GameEventBuffer events) {
+        steer();
+    }
+
+    /**
+     * Gửi lệnh cho tick kế tiếp dựa trên trạng thái hiện tại.
+     */
+    public void steer() {
+        if (gameManager.getCurrentState() != GameState.RUNNING) {
+            return;
+        }
+        Paddle paddle = gameManager.getPaddle();
+        Ball target = pickTarget();
+        if (target == null) {
+            move(paddle, false, false);
+            return;
+        }
+        if (!target.isLaunched()) {
+            if (!gameManager.isResetting()) {
+                gameManager.launchBall();
+            }
+            move(paddle, false, false);
+            return;
+        }
+
+        boolean nowFalling = target.getDy() > 0;
+        if (nowFalling && !falling) {
+            int maxOffset = paddle.getWidth() * MAX_AIM_OFFSET_PERCENT / 100;
+            aimOffset = random.nextInt(-maxOffset, maxOffset + 1);
+        }
+        falling = nowFalling;
+
+        int landingX = predictLandingX(target, paddle.getY(), GameManager.SCREEN_WIDTH);
+        int diff = landingX - (paddle.getX() + paddle.getWidth() / 2 + aimOffset);
+        // Vùng chết bằng một bước di chuyển để paddle không rung qua lại quanh điểm đích
+        int deadZone = Math.max(1, paddle.getMoveSpeed() / gameManager.getTickRate());
+        move(paddle, diff < -deadZone, diff > deadZone);
+    }
+
+    // Bóng chính; nếu không còn bóng chính thì bóng phụ thấp nhất đang rơi
+    private Ball pickTarget() {
+        Ball ball = gameManager.getBall();
+        if (ball != null) {
+            return ball;
+        }
+        Ball target = null;
+        List<Ball> extras = gameManager.getExtraBalls();
+        for (int i = 0; i < extras.size(); i++) {
+            Ball b = extras.get(i);
+            if (b.getDy() > 0 && (target == null || b.getY() > target.getY())) {
+                target = b;
+            }
+        }
+        return target;
+    }
+
+    private void move(Paddle paddle, boolean left, boolean right) {
+        if (left != paddle.isMovingLeft()) {
+            gameManager.submitInput(left ? InputCommand.MOVE_LEFT_PRESS : InputCommand.MOVE_LEFT_RELEASE);
+        }
+        if (right != paddle.isMovingRight()) {
+            gameManager.submitInput(right ? InputCommand.MOVE_RIGHT_PRESS : InputCommand.MOVE_RIGHT_RELEASE);
+        }
+    }
+
+    /**
+     * Dự đoán tâm X của bóng khi đáy bóng chạm độ cao paddleY, giả sử bóng chỉ dội tường trái/phải/trên.
+     * @param ball bóng
+     * @param paddleY đỉnh paddle
+     * @param screenWidth chiều rộng màn hình
+     * @return tâm X dự đoán
+     */
+    public static int predictLandingX(Ball ball, int paddleY, int screenWidth) {
+        int size = ball.getWidth();
+        double dx = ball.getDx();
+        double dy = ball.getDy();
+        if (dy == 0) {
+            return ball.getX() + size / 2;
+        }
+        // Quãng đường dọc còn phải đi: đang bay lên thì lên tới trần rồi rơi xuống
+        double distanceY = dy > 0
+                ? paddleY - (ball.getY() + size)
+                : ball.getY() + (paddleY - size);
+        if (distanceY <= 0) {
+            return ball.getX() + size / 2;
+        }
+        double x = ball.getX() + dx * (distanceY / Math.abs(dy));
+
+        // Dội tường: phản xạ x vào đoạn [0, maxX]
+        double maxX = screenWidth - size;
+        if (maxX <= 0) {
+            return screenWidth / 2;
+        }
+        double period = 2 * maxX;
+        x %= period;
+        if (x < 0) {
+            x += period;
+        }
+        if (x > maxX) {
+            x = period - x;
+        }
+        return (int) Math.round(x) + size / 2;
+    }
+}
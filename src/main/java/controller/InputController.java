@@ -1,12 +1,15 @@
 package controller;
 
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import model.manager.GameManager;
+import model.manager.InputCommand;
 import model.state.GameState;
 import model.state.MenuState;
 import model.state.PauseMenuState;
 import model.state.SettingsState;
+import util.SoundEventAdapter;
 import util.SoundManager;
 
 public class InputController {
@@ -14,20 +17,30 @@ public class InputController {
     private final GameManager gameManager;
 
     private static final int MAX_PLAYER_NAME_LENGTH = 20;
-    private static final int BALL_LAUNCH_SPEED_X = 5;
-    private static final int BALL_LAUNCH_SPEED_Y = 5;
 
     public InputController(GameManager gameManager) {
         this.gameManager = gameManager;
     }
 
     /**
-     * Đăng ký lắng nghe phím cho Scene.
+     * Đăng ký lắng nghe phím cho Scene. Mỗi phím được gửi qua hàng đợi không khoá của GameManager
+     * và xử lý trên luồng mô phỏng, nên đọc/sửa state, menu và paddle không tranh chấp với tick đang chạy.
      * @param scene Scene cần gắn
      */
     public void listenTo(Scene scene) {
-        scene.setOnKeyPressed(event -> handleKeyPressed(event.getCode()));
-        scene.setOnKeyReleased(event -> handleKeyReleased(event.getCode()));
+        scene.setOnKeyPressed(event -> {
+            KeyCode code = event.getCode();
+            gameManager.post(() -> handleKeyPressed(code));
+        });
+        scene.setOnKeyReleased(event -> {
+            KeyCode code = event.getCode();
+            gameManager.post(() -> handleKeyReleased(code));
+        });
+    }
+
+    // Âm thanh giao diện phát trên luồng JavaFX
+    private void playSound(String soundName) {
+        Platform.runLater(() -> SoundManager.getInstance().playSound(soundName));
     }
 
     private void handleKeyPressed(KeyCode code) {
@@ -46,7 +59,7 @@ public class InputController {
 
     private void handleNameInput(KeyCode code) {
         if (code == KeyCode.ENTER) {
-            SoundManager.getInstance().playSound("selected");
+            playSound("selected");
             gameManager.saveHighScore();
         } else if (code == KeyCode.BACK_SPACE) {
             String currentName = gameManager.getCurrentPlayerName();
@@ -74,11 +87,11 @@ public class InputController {
         switch (code) {
             case UP -> {
                 menuState.moveUp();
-                SoundManager.getInstance().playSound("optionChange");
+                playSound("optionChange");
             }
             case DOWN -> {
                 menuState.moveDown();
-                SoundManager.getInstance().playSound("optionChange");
+                playSound("optionChange");
             }
             case ENTER -> executeMenuAction(menuState.confirm());
             default -> {}
@@ -88,14 +101,21 @@ public class InputController {
 
     private void executeMenuAction(MenuState.Action action) {
         if (action != MenuState.Action.NONE) {
-            SoundManager.getInstance().playSound("selected");
+            playSound("selected");
         }
         switch (action) {
-            case START -> gameManager.startGame();
+            case START -> {
+                gameManager.setBallStormMode(false);
+                gameManager.startGame();
+            }
+            case BALL_STORM -> {
+                gameManager.setBallStormMode(true);
+                gameManager.startGame();
+            }
             case EXIT -> System.exit(0);
             case HIGHSCORE -> gameManager.setCurrentState(GameState.HIGHSCORE);
             case INSTRUCTION -> gameManager.setCurrentState(GameState.INSTRUCTION);
-            case SETTINGS -> gameManager.setCurrentState(GameState.SETTINGS);
+            case SETTINGS -> openSettings();
             case NONE -> {}
         }
     }
@@ -108,37 +128,27 @@ public class InputController {
 
     private void handleGameInput(KeyCode code) {
         switch (code) {
-            case LEFT, A -> gameManager.getPaddle().setMovingLeft(true);
-            case RIGHT, D -> gameManager.getPaddle().setMovingRight(true);
+            case LEFT, A -> gameManager.submitInput(InputCommand.MOVE_LEFT_PRESS);
+            case RIGHT, D -> gameManager.submitInput(InputCommand.MOVE_RIGHT_PRESS);
             case ESCAPE -> gameManager.setCurrentState(GameState.MENU);
-            case SPACE -> launchBall();
+            case SPACE -> gameManager.launchBall();
             case P -> gameManager.pauseGame();
+            // Tua lại vài giây (chỉ có tác dụng ở chế độ luyện tập)
+            case R -> gameManager.rewind();
             default -> {}
         }
     }
 
-    private void launchBall() {
-        if (!gameManager.getBall().isLaunched()) {
-            // Nếu bóng đang dính (magnet), launch thẳng lên trên
-            if (gameManager.isMagnetActive()) {
-                gameManager.getBall().launch(0, -BALL_LAUNCH_SPEED_Y);
-            } else {
-                int dx = Math.random() < 0.5 ? -BALL_LAUNCH_SPEED_X : BALL_LAUNCH_SPEED_X;
-                gameManager.getBall().launch(dx, -BALL_LAUNCH_SPEED_Y);
-            }
-        }
-    }
-
     private void handlePausedInput(KeyCode code) {
         switch (code) {
             case P -> gameManager.resumeGame();
             case UP -> {
                 gameManager.getPauseMenuState().moveUp();
-                SoundManager.getInstance().playSound("optionChange");
+                playSound("optionChange");
             }
             case DOWN -> {
                 gameManager.getPauseMenuState().moveDown();
-                SoundManager.getInstance().playSound("optionChange");
+                playSound("optionChange");
             }
             case ENTER -> executePauseAction(gameManager.getPauseMenuState().confirm());
             case ESCAPE -> gameManager.resumeGame();
@@ -148,12 +158,12 @@ public class InputController {
 
     private void executePauseAction(PauseMenuState.Action action) {
         if (action != PauseMenuState.Action.NONE) {
-            SoundManager.getInstance().playSound("selected");
+            playSound("selected");
         }
         switch (action) {
             case RESUME -> gameManager.resumeGame();
             case RESTART -> gameManager.startGame();
-            case SETTINGS -> gameManager.setCurrentState(GameState.SETTINGS);
+            case SETTINGS -> openSettings();
             case MAIN_MENU -> gameManager.setCurrentState(GameState.MENU);
             case EXIT -> System.exit(0);
             case NONE -> {}
@@ -162,7 +172,7 @@ public class InputController {
 
     private void handleGameOverInput(KeyCode code) {
         if (code == KeyCode.SPACE) {
-            SoundManager.getInstance().playSound("selected");
+            playSound("selected");
             gameManager.startGame();
         }
     }
@@ -172,26 +182,26 @@ public class InputController {
         switch (code) {
             case UP -> {
                 settingsState.moveUp();
-                SoundManager.getInstance().playSound("optionChange");
+                playSound("optionChange");
             }
             case DOWN -> {
                 settingsState.moveDown();
-                SoundManager.getInstance().playSound("optionChange");
+                playSound("optionChange");
             }
             case LEFT, A -> {
                 settingsState.adjustVolumeLeft();
                 applyVolumeSettings();
-                SoundManager.getInstance().playSound("optionChange");
+                playSound("optionChange");
             }
             case RIGHT, D -> {
                 settingsState.adjustVolumeRight();
                 applyVolumeSettings();
-                SoundManager.getInstance().playSound("optionChange");
+                playSound("optionChange");
             }
             case ENTER -> {
                 SettingsState.Action action = settingsState.confirm();
                 if (action == SettingsState.Action.BACK) {
-                    SoundManager.getInstance().playSound("selected");
+                    playSound("selected");
                     returnToPreviousState();
                 }
             }
@@ -200,13 +210,25 @@ public class InputController {
         }
     }
 
+    private void openSettings() {
+        // Đồng bộ volume từ SoundManager trước khi vào Settings
+        SettingsState settingsState = gameManager.getSettingsState();
+        settingsState.setMasterVolume(SoundManager.getInstance().getMasterVolume());
+        settingsState.setSfxVolume(SoundManager.getInstance().getSfxVolume());
+        gameManager.setCurrentState(GameState.SETTINGS);
+    }
+
     private void applyVolumeSettings() {
         SettingsState settingsState = gameManager.getSettingsState();
-        util.SoundManager soundManager = util.SoundManager.getInstance();
-        soundManager.setMasterVolume(settingsState.getMasterVolume());
-        soundManager.setSfxVolume(settingsState.getSfxVolume());
-        // SFX volume có thể được áp dụng riêng nếu cần
-        gameManager.refreshMusicVolume();
+        double masterVolume = settingsState.getMasterVolume();
+        double sfxVolume = settingsState.getSfxVolume();
+        Platform.runLater(() -> {
+            util.SoundManager soundManager = util.SoundManager.getInstance();
+            soundManager.setMasterVolume(masterVolume);
+            soundManager.setSfxVolume(sfxVolume);
+            // SFX volume có thể được áp dụng riêng nếu cần
+            SoundEventAdapter.getInstance().refreshMusicVolume();
+        });
     }
 
     private void returnToPreviousState() {
@@ -225,11 +247,11 @@ public class InputController {
             switch (code) {
                 case LEFT:
                 case A:
-                    gameManager.getPaddle().setMovingLeft(false);
+                    gameManager.submitInput(InputCommand.MOVE_LEFT_RELEASE);
                     break;
                 case RIGHT:
                 case D:
-                    gameManager.getPaddle().setMovingRight(false);
+                    gameManager.submitInput(InputCommand.MOVE_RIGHT_RELEASE);
                     break;
                 default:
                     break;
@@ -0,0 +1,232 @@
+package core;
+
+import controller.AutopilotController;
+import model.manager.EndlessConfig;
+import model.manager.GameManager;
+import model.state.GameState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Công cụ dòng lệnh cân bằng chế độ endless bằng Monte Carlo: chơi N ván headless bằng AutopilotController
+ * (cùng paddle tự động với SoakRunner, điều khiển qua lệnh input như người chơi) cho mỗi tổ hợp tham số EndlessConfig, chạy song song trên mọi lõi (fork-join) và in phân phối
+ * thời gian sống sót và điểm số.
+ *
+ * Ví dụ:
+ *   java -cp target/classes core.BalancingRunner --games 10000 --spawn 16,12 --min 6,4 --decay 0.03,0.05
+ *
+ * Tham số (danh sách giá trị cách nhau bởi dấu phẩy tạo thành lưới tham số):
+ *   --spawn, --min, --decay, --empty, --normal   các trường của EndlessConfig (mặc định: giá trị trong game)
+ *   --games       số ván cho mỗi tổ hợp (mặc định 1000)
+ *   --seed        seed gốc, cùng seed cho cùng kết quả (mặc định 42)
+ *   --threads     số luồng (mặc định số lõi)
+ *   --max-minutes giới hạn thời gian mỗi ván tính theo phút mô phỏng (mặc định 30)
+ */
+public final class BalancingRunner {
+
+    private static final int OUTCOME_GAME_OVER = 0;
+    private static final int OUTCOME_CLEARED = 1;
+    private static final int OUTCOME_TIMEOUT = 2;
+
+    // Số ván tối đa một tác vụ lá chạy tuần tự
+    private static final int GAMES_PER_LEAF = 16;
+    // Số tick tối đa chờ chuyển cảnh vào RUNNING
+    private static final int MAX_START_TICKS = 600;
+
+    private BalancingRunner() {
+    }
+
+    public static void main(String[] args) {
+        double[] spawn = {EndlessConfig.DEFAULT.getSpawnIntervalSeconds()};
+        double[] min = {EndlessConfig.DEFAULT.getMinSpawnIntervalSeconds()};
+        double[] decay = {EndlessConfig.DEFAULT.getSpawnIntervalDecayPerSec()};
+        double[] empty = {EndlessConfig.DEFAULT.getEmptyBrickChance()};
+        double[] normal = {EndlessConfig.DEFAULT.getNormalBrickChance()};
+        int games = 1000;
+        long seed = 42L;
+        int threads = Runtime.getRuntime().availableProcessors();
+        double maxMinutes = 30.0;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--spawn" -> spawn = parseList(value);
+                case "--min" -> min = parseList(value);
+                case "--decay" -> decay = parseList(value);
+                case "--empty" -> empty = parseList(value);
+                case "--normal" -> normal = parseList(value);
+                case "--games" -> games = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--max-minutes" -> maxMinutes = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Tham số không hợp lệ: " + args[i]);
+            }
+        }
+
+        List<EndlessConfig> configs = new ArrayList<>();
+        for (double s : spawn) {
+            for (double m : min) {
+                for (double d : decay) {
+                    for (double e : empty) {
+                        for (double n : normal) {
+                            configs.add(new EndlessConfig(s, m, d, e, n));
+                        }
+                    }
+                }
+            }
+        }
+
+        int maxTicks = (int) (maxMinutes * 60.0 * GameManager.DEFAULT_TICK_RATE);
+        System.out.printf("%d cấu hình x %d ván, %d luồng, seed %d%n", configs.size(), games, threads, seed);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        try {
+            for (int c = 0; c < configs.size(); c++) {
+                EndlessConfig config = configs.get(c);
+                int[] survivalTicks = new int[games];
+                int[] scores = new int[games];
+                byte[] outcomes = new byte[games];
+                // Mỗi cấu hình có luồng ngẫu nhiên riêng, suy ra từ seed gốc và chỉ số cấu hình
+                SplittableRandom root = new SplittableRandom(seed + c * 0x9E3779B97F4A7C15L);
+                pool.invoke(new GameBatch(config, maxTicks, root, 0, games, survivalTicks, scores, outcomes));
+                printReport(config, survivalTicks, scores, outcomes);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long total = (long) configs.size() * games;
+        System.out.printf("Tổng %d ván trong %.1f s (%.0f ván/s)%n", total, seconds, total / seconds);
+    }
+
+    /**
+     * Tác vụ fork-join chạy các ván [from, to). Mỗi lần chia đôi tách một SplittableRandom mới,
+     * nên kết quả chỉ phụ thuộc seed chứ không phụ thuộc thứ tự các luồng chạy.
+     */
+    @SuppressWarnings("serial") // Tác vụ chỉ sống trong ForkJoinPool, không bao giờ được tuần tự hoá
+    private static final class GameBatch extends RecursiveAction {
+        private final EndlessConfig config;
+        private final int maxTicks;
+        private final SplittableRandom random;
+        private final int from;
+        private final int to;
+        private final int[] survivalTicks;
+        private final int[] scores;
+        private final byte[] outcomes;
+
+        GameBatch(EndlessConfig config, int maxTicks, SplittableRandom random, int from, int to,
+                  int[] survivalTicks, int[] scores, byte[] outcomes) {
+            this.config = config;
+            this.maxTicks = maxTicks;
+            this.random = random;
+            this.from = from;
+            this.to = to;
+            this.survivalTicks = survivalTicks;
+            this.scores = scores;
+            this.outcomes = outcomes;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_LEAF) {
+                for (int i = from; i < to; i++) {
+                    playGame(i, random.split());
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            GameBatch right = new GameBatch(config, maxTicks, random.split(), mid, to, survivalTicks, scores, outcomes);
+            GameBatch left = new GameBatch(config, maxTicks, random, from, mid, survivalTicks, scores, outcomes);
+            invokeAll(left, right);
+        }
+
+        private void playGame(int index, SplittableRandom gameRandom) {
+            GameManager sim = GameManager.newSimulation();
+            sim.addEventListener(new AutopilotController(sim, gameRandom.nextLong()));
+            sim.setEndlessConfig(config);
+            sim.startGame(gameRandom.nextLong());
+            for (int i = 0; i < MAX_START_TICKS && sim.getCurrentState() != GameState.RUNNING; i++) {
+                sim.tick();
+            }
+
+            int ticks = 0;
+            byte outcome = OUTCOME_TIMEOUT;
+            while (ticks < maxTicks) {
+                sim.tick();
+                ticks++;
+                if (sim.getCurrentState() == GameState.GAME_WON) {
+                    outcome = OUTCOME_CLEARED;
+                    break;
+                }
+                if (sim.getCurrentState() != GameState.RUNNING
+                        || (sim.isTransitionActive() && sim.getTransitionTo() == GameState.NAME_INPUT)) {
+                    outcome = OUTCOME_GAME_OVER;
+                    break;
+                }
+            }
+            survivalTicks[index] = ticks;
+            scores[index] = sim.getScore();
+            outcomes[index] = outcome;
+        }
+    }
+
+    private static void printReport(EndlessConfig config, int[] survivalTicks, int[] scores, byte[] outcomes) {
+        int games = survivalTicks.length;
+        int gameOver = 0;
+        int cleared = 0;
+        for (byte outcome : outcomes) {
+            if (outcome == OUTCOME_GAME_OVER) gameOver++;
+            else if (outcome == OUTCOME_CLEARED) cleared++;
+        }
+        int[] survival = survivalTicks.clone();
+        int[] score = scores.clone();
+        Arrays.sort(survival);
+        Arrays.sort(score);
+        double tickRate = GameManager.DEFAULT_TICK_RATE;
+
+        System.out.println(config);
+        System.out.printf("  thua %.1f%%  dọn sạch %.1f%%  hết giờ %.1f%%%n",
+                100.0 * gameOver / games, 100.0 * cleared / games, 100.0 * (games - gameOver - cleared) / games);
+        System.out.printf("  sống sót (s): mean %.1f  p10 %.1f  p50 %.1f  p90 %.1f  max %.1f%n",
+                mean(survival) / tickRate,
+                percentile(survival, 0.10) / tickRate,
+                percentile(survival, 0.50) / tickRate,
+                percentile(survival, 0.90) / tickRate,
+                survival[games - 1] / tickRate);
+        System.out.printf("  điểm:         mean %.0f  p10 %d  p50 %d  p90 %d  max %d%n",
+                mean(score),
+                percentile(score, 0.10),
+                percentile(score, 0.50),
+                percentile(score, 0.90),
+                score[games - 1]);
+    }
+
+    private static double mean(int[] values) {
+        long sum = 0;
+        for (int v : values) {
+            sum += v;
+        }
+        return (double) sum / values.length;
+    }
+
+    // values phải đã được sắp xếp
+    private static int percentile(int[] values, double p) {
+        int index = (int) Math.ceil(p * values.length) - 1;
+        return values[Math.max(0, Math.min(values.length - 1, index))];
+    }
+
+    private static double[] parseList(String value) {
+        String[] parts = value.split(",");
+        double[] result = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Double.parseDouble(parts[i].trim());
+        }
+        return result;
+    }
+}
@@ -1,8 +1,11 @@
 package core;
 
 import model.manager.GameManager;
+import model.manager.ReplayRecorder;
 import util.AssetManager;
+import util.SoundEventAdapter;
 import view.GameView;
+import controller.AutopilotController;
 import controller.InputController;
 
 import javafx.application.Application;
@@ -10,8 +13,18 @@ import javafx.application.Platform;
 import javafx.stage.Stage;
 import javafx.scene.Scene;
 
+import java.nio.file.Path;
+
 public class Core extends Application {
 
+    // Thư mục lưu replay của mọi ván (đổi bằng -Darkanoid.replayDir)
+    private static final String REPLAY_DIR = System.getProperty("arkanoid.replayDir", "replays");
+    // Paddle tự đỡ bóng (-Darkanoid.autopilot), dùng khi để game chạy nhiều giờ
+    private static final boolean AUTOPILOT = Boolean.getBoolean("arkanoid.autopilot");
+
+    private ReplayRecorder replayRecorder;
+    private SimulationThread simulation;
+
     /**
      * Khởi tạo và thiết lập window.
      * @param primaryStage primaryStage.
@@ -21,21 +34,32 @@ public class Core extends Application {
 
         // Model - quản lí logic game (Singleton)
         GameManager gameManager = GameManager.getInstance();
+        // Âm thanh nghe sự kiện từ mô phỏng
+        gameManager.addEventListener(SoundEventAdapter.getInstance());
+        // Ghi replay của mọi ván xuống đĩa trong lúc chơi
+        replayRecorder = new ReplayRecorder(gameManager, Path.of(REPLAY_DIR));
+        gameManager.addEventListener(replayRecorder);
+        if (AUTOPILOT) {
+            gameManager.addEventListener(new AutopilotController(gameManager, System.nanoTime()));
+        }
+
+        // Mô phỏng chạy trên luồng riêng, công bố bản vẽ cho View
+        simulation = new SimulationThread(gameManager);
+
+        // Tải tài nguyên game (trước View: View lấy sẵn atlas sprite khi khởi tạo)
+        AssetManager.getInstance().loadAssets();
 
         // View - xử lí giao diện
-        GameView gameView = new GameView(gameManager);
+        GameView gameView = new GameView(simulation);
 
         // Controller - xử lí điều khiển
         InputController inputController = new InputController(gameManager);
 
-        // Tải tài nguyên game
-        AssetManager.getInstance().loadAssets();
-        
         // Tải âm thanh (delay để tránh lỗi module access khi chạy từ IDE)
         Platform.runLater(() -> {
             try {
                 util.SoundManager.getInstance().loadSounds();
-                model.manager.GameManager.getInstance().onAudioReady();
+                SoundEventAdapter.getInstance().onAudioReady(simulation.readSnapshot().getState());
             } catch (Exception e) {
                 System.err.println("Không thể tải âm thanh (có thể thiếu VM options): " + e.getMessage());
                 System.err.println("Hãy thêm các VM options sau vào Run Configuration:");
@@ -55,10 +79,24 @@ public class Core extends Application {
         primaryStage.setResizable(false);
         primaryStage.show();
 
-        // Bắt đầu vòng lặp chính của game
+        // Bắt đầu vòng lặp mô phỏng và vòng lặp vẽ
+        simulation.start();
         gameView.startGameLoop();
     }
 
+    /**
+     * Dừng mô phỏng và đóng file replay đang ghi khi thoát ứng dụng.
+     */
+    @Override
+    public void stop() {
+        if (simulation != null) {
+            simulation.stop();
+        }
+        if (replayRecorder != null) {
+            replayRecorder.close();
+        }
+    }
+
     /**
      * Hàm main.
      * @param args agrs.
@@ -0,0 +1,295 @@
+package core;
+
+import model.manager.EndlessConfig;
+import model.manager.GameManager;
+import model.manager.InputLog;
+import model.manager.ReplayReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/**
+ * Xác minh điểm số bằng cách mô phỏng lại file replay (headless, tốc độ tối đa):
+ * điểm chỉ được chấp nhận nếu ván mô phỏng lại kết thúc đúng tick và đúng điểm ghi trong file.
+ * Không tin vào highscores.txt hay điểm người chơi gửi lên, chỉ tin seed và chuỗi lệnh input.
+ * Header cũng không được tin: replay ghi ở tần số tick hoặc bộ tham số endless khác bản chính thức bị từ chối
+ * trước khi mô phỏng; các chế độ chơi hợp lệ (endless, Ball Storm, va chạm liên tục) được trả về trong kết quả
+ * để bảng điểm tách riêng từng chế độ.
+ *
+ * Ví dụ:
+ *   java -cp target/classes core.ReplayVerifier replays/
+ *   java -cp target/classes core.ReplayVerifier --threads 8 a.arkr b.arkr thu_muc/
+ *
+ * Tham số là các file .arkr hoặc thư mục (chỉ lấy file .arkr trực tiếp bên trong).
+ * Thư mục nhiều file được xác minh song song trên mọi lõi. Mã thoát 1 nếu có replay bị từ chối.
+ */
+public final class ReplayVerifier {
+
+    // Giới hạn độ dài ván chấp nhận được (4 giờ chơi) để file giả không bắt server chạy mãi;
+    // tính theo DEFAULT_TICK_RATE vì replay ở tần số khác đã bị từ chối từ header
+    public static final int MAX_REPLAY_SECONDS = 4 * 60 * 60;
+    public static final int MAX_REPLAY_TICKS = MAX_REPLAY_SECONDS * GameManager.DEFAULT_TICK_RATE;
+
+    private static final String REPLAY_EXTENSION = ".arkr";
+
+    /**
+     * Kết quả xác minh.
+     */
+    public enum Status {
+        /** Mô phỏng lại cho đúng điểm và đúng tick kết thúc. */
+        VERIFIED,
+        /** Điểm mô phỏng lại khác điểm ghi trong file. */
+        SCORE_MISMATCH,
+        /** Ván mô phỏng lại không kết thúc đúng tại tick ghi trong file, hoặc có lệnh sau khi ván kết thúc. */
+        END_MISMATCH,
+        /** File bị cắt/hỏng, thiếu trailer hoặc ván dài quá giới hạn. */
+        INCOMPLETE,
+        /** Header ghi tần số tick hoặc tham số endless khác bản chính thức. */
+        UNOFFICIAL_SETTINGS,
+        /** Không đọc được file. */
+        UNREADABLE
+    }
+
+    /**
+     * Kết quả xác minh một file replay.
+     */
+    public static final class Result {
+        private final Path file;
+        private final Status status;
+        private final int claimedScore;
+        private final int simulatedScore;
+        private final int ticks;
+        private final long nanos;
+        private final boolean endlessMode;
+        private final boolean ballStormMode;
+        private final boolean continuousCollision;
+
+        Result(Path file, Status status, InputLog log, int simulatedScore, int ticks, long nanos) {
+            this.file = file;
+            this.status = status;
+            this.claimedScore = log != null ? log.getFinalScore() : 0;
+            this.simulatedScore = simulatedScore;
+            this.ticks = ticks;
+            this.nanos = nanos;
+            this.endlessMode = log != null && log.isEndlessMode();
+            this.ballStormMode = log != null && log.isBallStormMode();
+            this.continuousCollision = log != null && log.isContinuousCollision();
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public boolean isVerified() {
+            return status == Status.VERIFIED;
+        }
+
+        public int getClaimedScore() {
+            return claimedScore;
+        }
+
+        /**
+         * Điểm mô phỏng lại, hoặc -1 nếu không mô phỏng.
+         */
+        public int getSimulatedScore() {
+            return simulatedScore;
+        }
+
+        public int getTicks() {
+            return ticks;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Chế độ endless theo header (false nếu không đọc được file).
+         */
+        public boolean isEndlessMode() {
+            return endlessMode;
+        }
+
+        public boolean isBallStormMode() {
+            return ballStormMode;
+        }
+
+        public boolean isContinuousCollision() {
+            return continuousCollision;
+        }
+
+        /**
+         * Tên chế độ chơi để phân bảng điểm, ví dụ "endless+storm".
+         */
+        public String getMode() {
+            String mode = endlessMode ? "endless" : "classic";
+            if (ballStormMode) mode += "+storm";
+            if (continuousCollision) mode += "+ccd";
+            return mode;
+        }
+    }
+
+    private ReplayVerifier() {
+    }
+
+    /**
+     * Xác minh một file replay.
+     * @param file file .arkr
+     * @return kết quả
+     */
+    public static Result verify(Path file) {
+        long start = System.nanoTime();
+        InputLog log;
+        try {
+            log = ReplayReader.readLog(file);
+        } catch (IOException e) {
+            return new Result(file, Status.UNREADABLE, null, -1, 0, System.nanoTime() - start);
+        }
+        return verify(file, log, start);
+    }
+
+    /**
+     * Xác minh một nhật ký đã kết thúc (điểm cần xác minh là getFinalScore).
+     * @param log nhật ký
+     * @return kết quả (getFile trả về null)
+     */
+    public static Result verify(InputLog log) {
+        return verify(null, log, System.nanoTime());
+    }
+
+    private static Result verify(Path file, InputLog log, long start) {
+        if (!isOfficial(log)) {
+            return new Result(file, Status.UNOFFICIAL_SETTINGS, log, -1, 0, System.nanoTime() - start);
+        }
+        if (!log.isFinished() || log.getEndTick() > MAX_REPLAY_TICKS
+                || (log.size() > 0 && log.getTick(log.size() - 1) > log.getEndTick())) {
+            return new Result(file, Status.INCOMPLETE, log, -1, 0, System.nanoTime() - start);
+        }
+        GameManager sim = GameManager.replay(log);
+        InputLog simulated = sim.getInputLog();
+        Status status;
+        if (!simulated.isFinished() || simulated.getEndTick() != log.getEndTick()
+                || simulated.size() != log.size()) {
+            status = Status.END_MISMATCH;
+        } else if (sim.getScore() != log.getFinalScore()) {
+            status = Status.SCORE_MISMATCH;
+        } else {
+            status = Status.VERIFIED;
+        }
+        return new Result(file, status, log, sim.getScore(), sim.getTickCount(), System.nanoTime() - start);
+    }
+
+    /**
+     * Header có khớp thiết lập của bản chính thức không (tần số tick và tham số endless mặc định).
+     * @param log nhật ký đọc từ file
+     * @return true nếu có thể xác minh
+     */
+    public static boolean isOfficial(InputLog log) {
+        return log.getTickRate() == GameManager.DEFAULT_TICK_RATE
+                && EndlessConfig.DEFAULT.equals(log.getEndlessConfig());
+    }
+
+    /**
+     * Xác minh song song nhiều file replay.
+     * @param files danh sách file
+     * @param threads số luồng
+     * @return kết quả theo đúng thứ tự danh sách file
+     */
+    public static Result[] verifyAll(List<Path> files, int threads) {
+        Result[] results = new Result[files.size()];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new VerifyBatch(files, 0, files.size(), results));
+        } finally {
+            pool.shutdown();
+        }
+        return results;
+    }
+
+    /**
+     * Tác vụ fork-join xác minh các file [from, to); mỗi replay là một mô phỏng độc lập.
+     */
+    @SuppressWarnings("serial") // Tác vụ chỉ sống trong ForkJoinPool, không bao giờ được tuần tự hoá
+    private static final class VerifyBatch extends RecursiveAction {
+        private final List<Path> files;
+        private final int from;
+        private final int to;
+        private final Result[] results;
+
+        VerifyBatch(List<Path> files, int from, int to, Result[] results) {
+            this.files = files;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    results[from] = verify(files.get(from));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new VerifyBatch(files, from, mid, results), new VerifyBatch(files, mid, to, results));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--threads") && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else {
+                collectReplays(Path.of(args[i]), files);
+            }
+        }
+        if (files.isEmpty()) {
+            System.err.println("Không có file replay nào để xác minh");
+            System.exit(2);
+        }
+
+        long start = System.nanoTime();
+        Result[] results = verifyAll(files, threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int verified = 0;
+        long totalTicks = 0;
+        for (Result result : results) {
+            if (result.isVerified()) verified++;
+            totalTicks += result.getTicks();
+            System.out.printf("%-19s %s  [%s]  điểm %d / mô phỏng %d  %d tick  %.1f ms%n",
+                    result.getStatus(), result.getFile(), result.getMode(), result.getClaimedScore(),
+                    result.getSimulatedScore(), result.getTicks(), result.getNanos() / 1e6);
+        }
+        System.out.printf("%d/%d replay hợp lệ trong %.2f s (%.0f tick/s, %d luồng)%n",
+                verified, results.length, seconds, totalTicks / seconds, threads);
+        if (verified != results.length) {
+            System.exit(1);
+        }
+    }
+
+    private static void collectReplays(Path path, List<Path> files) throws IOException {
+        if (!Files.isDirectory(path)) {
+            files.add(path);
+            return;
+        }
+        try (Stream<Path> entries = Files.list(path)) {
+            entries.filter(p -> p.getFileName().toString().endsWith(REPLAY_EXTENSION))
+                    .sorted()
+                    .forEach(files::add);
+        }
+    }
+}
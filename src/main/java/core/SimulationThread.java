@@ -0,0 +1,100 @@
+package core;
+
+import model.manager.GameManager;
+import model.manager.RenderSnapshot;
+import model.ui.FloatingTextEffects;
+import util.TripleBuffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Chạy mô phỏng trên một luồng riêng theo tần số tick của GameManager, tách khỏi luồng JavaFX.
+ * Sau mỗi lần cập nhật, trạng thái cần vẽ được chép vào một RenderSnapshot và công bố qua TripleBuffer;
+ * GameView đọc bản mới nhất mỗi frame mà không khoá, nên frame vẽ chậm không làm chậm mô phỏng và ngược lại.
+ *
+ * Mọi thay đổi trạng thái game từ luồng khác phải đi qua GameManager.submitInput hoặc GameManager.post.
+ * Listener của GameManager được gọi trên luồng này.
+ */
+public final class SimulationThread {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final GameManager gameManager;
+    private final FloatingTextEffects floatingTexts;
+    private final TripleBuffer<RenderSnapshot> snapshots = new TripleBuffer<>(RenderSnapshot::new);
+    private volatile boolean running = false;
+    private Thread thread;
+
+    /**
+     * @param gameManager mô phỏng; từ khi start() chỉ luồng này được gọi trực tiếp vào nó
+     */
+    public SimulationThread(GameManager gameManager) {
+        this.gameManager = gameManager;
+        this.floatingTexts = new FloatingTextEffects(GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
+        gameManager.addEventListener(floatingTexts);
+        publish();
+    }
+
+    /**
+     * Bản vẽ mới nhất; chỉ gọi từ một luồng đọc duy nhất (luồng JavaFX).
+     */
+    public RenderSnapshot readSnapshot() {
+        return snapshots.read();
+    }
+
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Dừng luồng mô phỏng và chờ tick đang chạy kết thúc.
+     */
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    private void run() {
+        long next = System.nanoTime();
+        while (running) {
+            try {
+                gameManager.updateGame();
+                publish();
+            } catch (RuntimeException e) {
+                // Lỗi trong một tick không được giết luồng mô phỏng (game sẽ đứng hình)
+                System.err.println("Lỗi trong vòng lặp mô phỏng: " + e);
+                e.printStackTrace();
+            }
+
+            // Ngủ tới tick kế tiếp; bị trễ quá một tick thì bắt nhịp lại thay vì chạy dồn
+            long period = NANOS_PER_SECOND / gameManager.getTickRate();
+            next += period;
+            long now = System.nanoTime();
+            if (next - now < -period) {
+                next = now;
+            }
+            long sleep = next - now;
+            if (sleep > 0) {
+                LockSupport.parkNanos(sleep);
+            }
+        }
+    }
+
+    private void publish() {
+        snapshots.getWriteBuffer().capture(gameManager, floatingTexts.getTexts());
+        snapshots.publish();
+    }
+}
@@ -0,0 +1,232 @@
+package core;
+
+import controller.AutopilotController;
+import model.manager.GameManager;
+import model.state.GameState;
+import model.ui.FloatingTextEffects;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chạy thử lâu (soak test): chơi endless mode bằng AutopilotController, headless và nhanh hơn thời gian thực,
+ * tự bắt đầu ván mới khi thua. Mỗi chu kỳ lấy mẫu (mặc định một phút mô phỏng) ghi lại heap đang dùng
+ * sau GC, số gạch, chữ nổi, power-up, bóng phụ, bóng Ball Storm và thời gian một tick.
+ * Cuối cùng so sánh cửa sổ mẫu đầu và cuối: nếu mức thấp nhất cuối cùng vẫn cao hơn mức cao nhất lúc đầu
+ * (số đối tượng/heap tăng không giới hạn) hoặc tick chậm đi rõ rệt thì coi là thất bại.
+ *
+ * Ví dụ:
+ *   java -cp target/classes core.SoakRunner --minutes 240
+ *   java -cp target/classes core.SoakRunner --minutes 60 --storm --sample-seconds 30 --seed 7
+ *
+ * Mã thoát 1 nếu phát hiện rò rỉ hoặc chậm dần.
+ */
+public final class SoakRunner {
+
+    /** Tên các chỉ số, theo thứ tự cột trong mẫu. */
+    public static final String[] METRICS = {
+            "heapKiB", "bricks", "floatingTexts", "powerUps", "extraBalls", "stormBalls", "tickNanos"
+    };
+    private static final int HEAP = 0;
+    private static final int TICK_NANOS = 6;
+
+    // Phần mẫu ở đầu/cuối dùng để so sánh
+    private static final double WINDOW_FRACTION = 0.25;
+    // Heap được phép chênh giữa hai cửa sổ (nhiễu GC, JIT)
+    private static final long HEAP_TOLERANCE_KIB = 16 * 1024;
+    // Tick được phép chậm đi bao nhiêu lần trước khi coi là chậm dần
+    private static final double TICK_SLOWDOWN_FACTOR = 3.0;
+    private static final long TICK_TOLERANCE_NANOS = 50_000;
+
+    /**
+     * Kết quả một lần chạy: mọi mẫu và danh sách lỗi phát hiện được.
+     */
+    public static final class Result {
+        private final List<long[]> samples;
+        private final List<String> failures;
+        private final int games;
+
+        Result(List<long[]> samples, List<String> failures, int games) {
+            this.samples = samples;
+            this.failures = failures;
+            this.games = games;
+        }
+
+        /**
+         * Các mẫu theo thời gian; mỗi mẫu có một giá trị cho mỗi chỉ số trong METRICS.
+         */
+        public List<long[]> getSamples() {
+            return samples;
+        }
+
+        public List<String> getFailures() {
+            return failures;
+        }
+
+        public boolean isPassed() {
+            return failures.isEmpty();
+        }
+
+        public int getGames() {
+            return games;
+        }
+    }
+
+    private SoakRunner() {
+    }
+
+    /**
+     * Chạy soak test.
+     * @param seed seed gốc (ván và autopilot)
+     * @param totalTicks tổng số tick mô phỏng
+     * @param sampleTicks số tick giữa hai lần lấy mẫu
+     * @param ballStorm chơi chế độ Ball Storm thay vì bóng thường
+     * @param log nơi in từng mẫu (null để không in)
+     * @return kết quả
+     */
+    public static Result run(long seed, long totalTicks, int sampleTicks, boolean ballStorm, PrintStream log) {
+        GameManager sim = GameManager.newSimulation();
+        FloatingTextEffects texts = new FloatingTextEffects(GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
+        sim.addEventListener(texts);
+        sim.addEventListener(new AutopilotController(sim, seed));
+        sim.setBallStormMode(ballStorm);
+        if (!sim.isEndlessMode()) {
+            sim.toggleEndlessMode();
+        }
+
+        long gameSeed = seed;
+        sim.startGame(gameSeed);
+        int games = 1;
+        List<long[]> samples = new ArrayList<>();
+        if (log != null) {
+            log.println("tick\t" + String.join("\t", METRICS));
+        }
+
+        long tickNanos = 0;
+        for (long tick = 1; tick <= totalTicks; tick++) {
+            if (isGameOver(sim)) {
+                gameSeed = gameSeed * 6364136223846793005L + 1442695040888963407L;
+                sim.startGame(gameSeed);
+                games++;
+            }
+            long start = System.nanoTime();
+            sim.tick();
+            tickNanos += System.nanoTime() - start;
+
+            if (tick % sampleTicks == 0) {
+                long[] sample = new long[METRICS.length];
+                sample[HEAP] = usedHeapKiB();
+                sample[1] = sim.getBrickGrid().getLiveCount();
+                sample[2] = texts.getTexts().size();
+                sample[3] = sim.getPowerUps().size();
+                sample[4] = sim.getExtraBalls().size();
+                sample[5] = sim.getStormBalls().size();
+                sample[TICK_NANOS] = tickNanos / sampleTicks;
+                tickNanos = 0;
+                samples.add(sample);
+                if (log != null) {
+                    StringBuilder line = new StringBuilder().append(tick);
+                    for (long value : sample) {
+                        line.append('\t').append(value);
+                    }
+                    log.println(line);
+                }
+            }
+        }
+        return new Result(samples, findGrowth(samples), games);
+    }
+
+    private static boolean isGameOver(GameManager sim) {
+        GameState state = sim.getCurrentState();
+        if (sim.isTransitionActive()) {
+            return false;
+        }
+        return state == GameState.NAME_INPUT || state == GameState.GAME_OVER || state == GameState.GAME_WON;
+    }
+
+    private static long usedHeapKiB() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return (runtime.totalMemory() - runtime.freeMemory()) / 1024;
+    }
+
+    /**
+     * So sánh cửa sổ đầu và cuối (bỏ mẫu đầu tiên vì JIT/khởi động).
+     * Số lượng/heap: lỗi nếu mức thấp nhất ở cửa sổ cuối vượt mức cao nhất ở cửa sổ đầu (cộng dung sai),
+     * tức là ngay cả lúc "sạch" nhất về sau vẫn giữ nhiều hơn lúc đầu.
+     * Thời gian tick: lỗi nếu trung bình cửa sổ cuối chậm hơn nhiều lần cửa sổ đầu.
+     */
+    public static List<String> findGrowth(List<long[]> samples) {
+        List<String> failures = new ArrayList<>();
+        int n = samples.size() - 1;
+        if (n < 4) {
+            return failures;
+        }
+        int window = Math.max(1, (int) (n * WINDOW_FRACTION));
+        for (int m = 0; m < METRICS.length; m++) {
+            long firstMax = Long.MIN_VALUE;
+            long lastMin = Long.MAX_VALUE;
+            long firstSum = 0;
+            long lastSum = 0;
+            for (int i = 0; i < window; i++) {
+                long first = samples.get(1 + i)[m];
+                long last = samples.get(samples.size() - 1 - i)[m];
+                firstMax = Math.max(firstMax, first);
+                lastMin = Math.min(lastMin, last);
+                firstSum += first;
+                lastSum += last;
+            }
+            if (m == TICK_NANOS) {
+                double firstMean = (double) firstSum / window;
+                double lastMean = (double) lastSum / window;
+                if (lastMean > firstMean * TICK_SLOWDOWN_FACTOR + TICK_TOLERANCE_NANOS) {
+                    failures.add(String.format("tick chậm dần: %.0f ns -> %.0f ns", firstMean, lastMean));
+                }
+            } else {
+                long tolerance = m == HEAP ? HEAP_TOLERANCE_KIB : 0;
+                if (lastMin > firstMax + tolerance) {
+                    failures.add(METRICS[m] + " tăng không giới hạn: cao nhất lúc đầu " + firstMax
+                            + ", thấp nhất về sau " + lastMin);
+                }
+            }
+        }
+        return failures;
+    }
+
+    public static void main(String[] args) {
+        double minutes = 240;
+        double sampleSeconds = 60;
+        long seed = 42L;
+        boolean ballStorm = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--minutes" -> minutes = Double.parseDouble(args[++i]);
+                case "--sample-seconds" -> sampleSeconds = Double.parseDouble(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--storm" -> ballStorm = true;
+                default -> throw new IllegalArgumentException("Tham số không hợp lệ: " + args[i]);
+            }
+        }
+
+        int tickRate = GameManager.DEFAULT_TICK_RATE;
+        long totalTicks = (long) (minutes * 60 * tickRate);
+        int sampleTicks = Math.max(1, (int) (sampleSeconds * tickRate));
+        System.out.printf("Soak test %.0f phút mô phỏng, lấy mẫu mỗi %.0f s, seed %d%s%n",
+                minutes, sampleSeconds, seed, ballStorm ? ", Ball Storm" : "");
+
+        long start = System.nanoTime();
+        Result result = run(seed, totalTicks, sampleTicks, ballStorm, System.out);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d ván, %d tick trong %.1f s (x%.0f thời gian thực)%n",
+                result.getGames(), totalTicks, seconds, totalTicks / (double) tickRate / seconds);
+
+        if (!result.isPassed()) {
+            for (String failure : result.getFailures()) {
+                System.out.println("LỖI: " + failure);
+            }
+            System.exit(1);
+        }
+        System.out.println("Không phát hiện rò rỉ hay chậm dần");
+    }
+}
@@ -1,12 +1,38 @@
 package model.brick;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public final class BrickFactory {
 
+    // Mã loại gạch dùng khi lưu trạng thái lưới (0 = ô trống)
+    public static final int TYPE_NORMAL = 1;
+    public static final int TYPE_STRONG = 2;
+    public static final int TYPE_POWER_UP = 3;
+
     private BrickFactory() {
     }
 
+    /**
+     * Mã loại của một viên gạch.
+     */
+    public static int typeOf(Brick brick) {
+        if (brick instanceof StrongBrick) return TYPE_STRONG;
+        if (brick instanceof PowerUpBrick) return TYPE_POWER_UP;
+        return TYPE_NORMAL;
+    }
+
+    /**
+     * Tạo gạch theo mã loại (TYPE_*).
+     */
+    public static Brick createOfType(int type, int x, int y, int width, int height) {
+        return switch (type) {
+            case TYPE_NORMAL -> new NormalBrick(x, y, width, height);
+            case TYPE_STRONG -> new StrongBrick(x, y, width, height);
+            case TYPE_POWER_UP -> new PowerUpBrick(x, y, width, height);
+            default -> throw new IllegalArgumentException("Loại gạch không hợp lệ: " + type);
+        };
+    }
+
     /**
      * Tạo gạch ngẫu nhiên dựa trên xác suất.
      * @param random random
@@ -18,7 +44,7 @@ public final class BrickFactory {
      * @param normalChance xác suất gạch thường
      * @return Brick hoặc null nếu ô trống
      */
-    public static Brick createRandomBrick(Random random,
+    public static Brick createRandomBrick(RandomGenerator random,
                                           int x,
                                           int y,
                                           int width,
@@ -54,7 +80,7 @@ public final class BrickFactory {
     /**
      * Tạo gạch dựa trên pattern nhưng có ngẫu nhiên.
      */
-    public static Brick createFromPatternRandomized(Random random,
+    public static Brick createFromPatternRandomized(RandomGenerator random,
                                                    int type,
                                                    int x,
                                                    int y,
@@ -0,0 +1,333 @@
+package model.brick;
+
+import java.util.Arrays;
+
+/**
+ * Kho gạch dạng vòng (ring buffer) theo hàng, đồng thời là lưới broadphase cho va chạm bóng-gạch.
+ * Gạch luôn nằm trên lưới cố định BRICK_WIDTH x BRICK_HEIGHT nên mỗi ô chứa tối đa một viên.
+ * Thêm một hàng ở trên cùng chỉ dịch con trỏ đầu vòng và xoá một hàng (O(cols)); tọa độ Y
+ * của gạch được suy ra từ chỉ số hàng logic và được ghi lại vào Brick khi gạch được truy cập.
+ * Số gạch còn sống và hàng trên/dưới cùng còn gạch được cập nhật dần khi đặt/gỡ gạch,
+ * nên kiểm tra thắng/thua là O(1).
+ * Mỗi thay đổi nhìn thấy được (đặt/gỡ gạch, gạch mất máu, đẩy hàng) tăng số phiên bản,
+ * để lớp vẽ gạch biết khi nào cần vẽ lại thay vì vẽ mọi viên gạch mỗi frame.
+ */
+public class BrickGrid {
+    private final int originX;
+    private final int originY;
+    private final int cols;
+    private final int rows;
+    private final int cellWidth;
+    private final int cellHeight;
+    private final Brick[] cells;
+    // Số gạch trong mỗi hàng vật lý
+    private final int[] rowLiveCounts;
+
+    // Chỉ số hàng vật lý của hàng logic 0 (hàng trên cùng)
+    private int head = 0;
+    private int liveCount = 0;
+    // Hàng logic trên/dưới cùng còn gạch, -1 khi lưới trống
+    private int topRow = -1;
+    private int bottomRow = -1;
+    private int version = 0;
+
+    /**
+     * Khởi tạo lưới.
+     * @param originX tọa độ X của cột 0
+     * @param originY tọa độ Y của hàng 0
+     * @param cols số cột
+     * @param rows số hàng (hàng cuối bị bỏ khi đẩy thêm hàng mới)
+     * @param cellWidth chiều rộng ô
+     * @param cellHeight chiều cao ô
+     */
+    public BrickGrid(int originX, int originY, int cols, int rows, int cellWidth, int cellHeight) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cols = cols;
+        this.rows = rows;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.cells = new Brick[cols * rows];
+        this.rowLiveCounts = new int[rows];
+    }
+
+    /**
+     * Xoá toàn bộ gạch khỏi lưới.
+     */
+    public void clear() {
+        Arrays.fill(cells, null);
+        Arrays.fill(rowLiveCounts, 0);
+        head = 0;
+        liveCount = 0;
+        topRow = -1;
+        bottomRow = -1;
+        version++;
+    }
+
+    /**
+     * Đẩy một hàng trống vào trên cùng; mọi hàng hiện có dịch xuống một hàng.
+     * Hàng dưới cùng (đã ra khỏi màn hình) bị bỏ đi.
+     */
+    public void pushRowTop() {
+        head = (head - 1 + rows) % rows;
+        Arrays.fill(cells, head * cols, head * cols + cols, null);
+        liveCount -= rowLiveCounts[head];
+        rowLiveCounts[head] = 0;
+        version++;
+
+        if (liveCount == 0) {
+            topRow = -1;
+            bottomRow = -1;
+            return;
+        }
+        topRow++;
+        bottomRow++;
+        if (bottomRow >= rows) {
+            // Hàng dưới cùng vừa bị bỏ: tìm hàng còn gạch kế trên
+            bottomRow = scanUpForOccupied(rows - 1);
+        }
+    }
+
+    /**
+     * Đặt gạch vào ô (row, col) và cập nhật tọa độ của gạch theo ô.
+     * @param row hàng logic (0 = trên cùng)
+     * @param col cột
+     * @param brick gạch, hoặc null để làm trống ô
+     */
+    public void set(int row, int col, Brick brick) {
+        int index = indexOf(row, col);
+        if (cells[index] != null) {
+            removeAt(row, index);
+        }
+        if (brick == null) {
+            return;
+        }
+        brick.setX(columnX(col));
+        brick.setY(rowY(row));
+        cells[index] = brick;
+        version++;
+        rowLiveCounts[physicalRow(row)]++;
+        liveCount++;
+        if (topRow < 0 || row < topRow) {
+            topRow = row;
+        }
+        if (row > bottomRow) {
+            bottomRow = row;
+        }
+    }
+
+    /**
+     * Lấy gạch ở ô (row, col), đồng bộ tọa độ Y của gạch với vị trí hàng hiện tại.
+     * @param row hàng logic
+     * @param col cột
+     * @return gạch hoặc null nếu ô trống
+     */
+    public Brick get(int row, int col) {
+        Brick brick = cells[indexOf(row, col)];
+        if (brick != null) {
+            brick.setY(rowY(row));
+        }
+        return brick;
+    }
+
+    /**
+     * Gỡ một viên gạch khỏi lưới (gạch phải vừa được lấy qua get/query để tọa độ còn đúng).
+     * @param brick gạch
+     */
+    public void remove(Brick brick) {
+        int col = Math.floorDiv(brick.getX() - originX, cellWidth);
+        int row = Math.floorDiv(brick.getY() - originY, cellHeight);
+        if (col < 0 || col >= cols || row < 0 || row >= rows) {
+            return;
+        }
+        int index = indexOf(row, col);
+        if (cells[index] == brick) {
+            removeAt(row, index);
+        }
+    }
+
+    /**
+     * Gỡ gạch khỏi lưới nếu nó vừa bị phá huỷ (gọi ngay sau Brick.takeHit).
+     * Gạch chưa vỡ vẫn được tính là thay đổi vì máu (và hình vẽ) của nó vừa đổi.
+     * @param brick gạch vừa bị đánh trúng
+     * @return true nếu gạch đã bị phá huỷ và được gỡ
+     */
+    public boolean removeIfDestroyed(Brick brick) {
+        version++;
+        if (!brick.isDestroyed()) {
+            return false;
+        }
+        remove(brick);
+        return true;
+    }
+
+    private void removeAt(int row, int index) {
+        cells[index] = null;
+        version++;
+        int physical = physicalRow(row);
+        rowLiveCounts[physical]--;
+        liveCount--;
+        if (rowLiveCounts[physical] > 0) {
+            return;
+        }
+        if (liveCount == 0) {
+            topRow = -1;
+            bottomRow = -1;
+            return;
+        }
+        // Chỉ dò lại khi hàng biên vừa trống hẳn
+        if (row == topRow) {
+            topRow = scanDownForOccupied(row + 1);
+        }
+        if (row == bottomRow) {
+            bottomRow = scanUpForOccupied(row - 1);
+        }
+    }
+
+    private int scanDownForOccupied(int fromRow) {
+        for (int row = fromRow; row < rows; row++) {
+            if (rowLiveCounts[physicalRow(row)] > 0) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private int scanUpForOccupied(int fromRow) {
+        for (int row = fromRow; row >= 0; row--) {
+            if (rowLiveCounts[physicalRow(row)] > 0) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Lấy các viên gạch nằm trong các ô chồng lên hình chữ nhật [minX, maxX) x [minY, maxY).
+     * Không cấp phát bộ nhớ; kết quả ghi vào mảng out theo thứ tự hàng rồi cột.
+     * @param minX biên trái
+     * @param minY biên trên
+     * @param maxX biên phải
+     * @param maxY biên dưới
+     * @param out mảng nhận kết quả
+     * @return số viên gạch đã ghi vào out
+     */
+    public int query(int minX, int minY, int maxX, int maxY, Brick[] out) {
+        int count = 0;
+        int firstCol = Math.max(0, Math.floorDiv(minX - originX, cellWidth));
+        int lastCol = Math.min(cols - 1, Math.floorDiv(maxX - 1 - originX, cellWidth));
+        int firstRow = Math.max(0, Math.floorDiv(minY - originY, cellHeight));
+        int lastRow = Math.min(rows - 1, Math.floorDiv(maxY - 1 - originY, cellHeight));
+
+        for (int row = firstRow; row <= lastRow && count < out.length; row++) {
+            for (int col = firstCol; col <= lastCol && count < out.length; col++) {
+                Brick brick = get(row, col);
+                if (brick != null) {
+                    out[count++] = brick;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Hàng logic trên cùng còn gạch.
+     * @return chỉ số hàng, hoặc -1 nếu lưới trống
+     */
+    public int getTopOccupiedRow() {
+        return topRow;
+    }
+
+    /**
+     * Hàng logic dưới cùng còn gạch.
+     * @return chỉ số hàng, hoặc -1 nếu lưới trống
+     */
+    public int getBottomOccupiedRow() {
+        return bottomRow;
+    }
+
+    /**
+     * Số gạch còn trên lưới.
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Số phiên bản, tăng sau mỗi thay đổi của lưới. Hai lần đọc bằng nhau nghĩa là không có gì cần vẽ lại.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Tọa độ Y trên màn hình của hàng logic.
+     */
+    public int rowY(int row) {
+        return originY + row * cellHeight;
+    }
+
+    /**
+     * Tọa độ X trên màn hình của cột.
+     */
+    public int columnX(int col) {
+        return originX + col * cellWidth;
+    }
+
+    private int physicalRow(int row) {
+        return (head + row) % rows;
+    }
+
+    private int indexOf(int row, int col) {
+        return physicalRow(row) * cols + col;
+    }
+
+    /**
+     * Ghi loại gạch và máu của mọi ô (theo hàng logic rồi cột) vào mảng, mỗi ô một byte:
+     * 4 bit cao là loại gạch (0 = trống, xem BrickFactory.TYPE_*), 4 bit thấp là máu còn lại.
+     * @param out mảng có ít nhất cols * rows phần tử
+     */
+    public void writeCells(byte[] out) {
+        int i = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Brick brick = cells[indexOf(row, col)];
+                out[i++] = brick == null ? 0 : (byte) (BrickFactory.typeOf(brick) << 4 | brick.hitPoints);
+            }
+        }
+    }
+
+    /**
+     * Dựng lại lưới từ mảng do writeCells ghi (tạo gạch mới cho mỗi ô không trống).
+     * @param in mảng do writeCells ghi
+     */
+    public void readCells(byte[] in) {
+        clear();
+        int i = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int cell = in[i++];
+                if (cell == 0) continue;
+                Brick brick = BrickFactory.createOfType((cell >> 4) & 0xF, 0, 0, cellWidth, cellHeight);
+                brick.hitPoints = cell & 0xF;
+                set(row, col, brick);
+            }
+        }
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    public int getCellHeight() {
+        return cellHeight;
+    }
+}
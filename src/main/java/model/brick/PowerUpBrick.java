@@ -1,10 +1,8 @@
 package model.brick;
 
-import model.powerup.ExpandPaddlePowerUp;
-import model.powerup.PowerUp;
-import model.powerup.ExtraLifePowerUp;
-import model.powerup.MultiBallPowerUp;
-import model.powerup.MagnetPowerUp;
+import model.powerup.PowerUpType;
+
+import java.util.random.RandomGenerator;
 
 public class PowerUpBrick extends Brick {
     /**
@@ -19,23 +17,20 @@ public class PowerUpBrick extends Brick {
     }
 
     /**
-     * Random ra power-up tương ứng khi gạch bị vỡ
-     * @return power-up rơi xuống
+     * Random ra loại power-up rơi xuống khi gạch bị vỡ
+     * @param random nguồn ngẫu nhiên của mô phỏng
+     * @return loại power-up
      */
-    public PowerUp spawnPowerUp() {
-        int centerX = getX() + getWidth() / 2 - 10;
-        int y = getY() + getHeight();
-        double r = Math.random();
+    public PowerUpType rollPowerUp(RandomGenerator random) {
+        double r = random.nextDouble();
         if (r < 0.40) {
-            return new ExpandPaddlePowerUp(centerX, y);
+            return PowerUpType.EXPAND;
         } else if (r < 0.65) {
-            return new MultiBallPowerUp(centerX, y);
+            return PowerUpType.MULTI;
         } else if (r < 0.85) {
-            return new MagnetPowerUp(centerX, y);
+            return PowerUpType.MAGNET;
         } else {
-            return new ExtraLifePowerUp(centerX, y);
+            return PowerUpType.EXTRA_LIFE;
         }
     }
 }
-
-
@@ -1,14 +1,14 @@
 package model.entity;
 
 import model.brick.Brick;
-import java.awt.Rectangle;
 
 public class Ball extends MovableObject {
     private boolean launched = false;
 
     private static final double MAX_BOUNCE_ANGLE_DEGREES = 60;
     private static final double MIN_BOUNCE_ANGLE_DEGREES = 20;
-    private static final int MIN_HORIZONTAL_SPEED = 2;
+    // pixel/giây
+    private static final int MIN_HORIZONTAL_SPEED = 120;
     private static final int COLLISION_OFFSET = 5;
 
     public Ball(int x, int y, int size, int dx, int dy) {
@@ -84,11 +84,12 @@ public class Ball extends MovableObject {
 
         double currentSpeed = Math.sqrt(dx * dx + dy * dy);
         if (currentSpeed == 0) {
-            currentSpeed = Math.sqrt(Math.pow(MIN_HORIZONTAL_SPEED, 2) + Math.pow(Math.max(1, Math.abs(dy)), 2));
+            currentSpeed = Math.sqrt(StrictMath.pow(MIN_HORIZONTAL_SPEED, 2) + StrictMath.pow(Math.max(1, Math.abs(dy)), 2));
         }
 
-        double newDx = currentSpeed * Math.sin(desiredAngle);
-        double newDy = -currentSpeed * Math.cos(desiredAngle);
+        // StrictMath cho kết quả giống nhau trên mọi JVM để replay tái hiện đúng từng bit
+        double newDx = currentSpeed * StrictMath.sin(desiredAngle);
+        double newDy = -currentSpeed * StrictMath.cos(desiredAngle);
 
         dx = (int) Math.round(newDx);
         dy = (int) Math.round(newDy);
@@ -103,55 +104,54 @@ public class Ball extends MovableObject {
     /**
      * Xử lý va chạm với gạch, cập nhật vị trí/vận tốc và trừ HP gạch.
      * @param brick gạch
+     * @param tickRate số tick mỗi giây (bóng đi thêm một tick sau khi nảy)
      * @return true nếu có va chạm
      */
-    public boolean handleCollisionWith(Brick brick) {
-        if (!this.getBounds().intersects(brick.getBounds())) {
+    public boolean handleCollisionWith(Brick brick, int tickRate) {
+        if (!intersects(brick)) {
             return false;
         }
 
-        Rectangle ballBounds = this.getBounds();
-        Rectangle brickBounds = brick.getBounds();
-        Rectangle intersection = ballBounds.intersection(brickBounds);
-        if (intersection.isEmpty()) {
-            return false;
-        }
-
-        if (intersection.width < intersection.height) {
-            handleHorizontalCollision(brick, ballBounds, brickBounds);
+        if (overlapWidth(brick) < overlapHeight(brick)) {
+            handleHorizontalCollision(brick);
         } else {
-            handleVerticalCollision(brick, ballBounds, brickBounds);
+            handleVerticalCollision(brick);
         }
 
         brick.takeHit();
-        this.move();
+        this.move(tickRate);
         return true;
     }
 
-    private void handleHorizontalCollision(Brick brick, Rectangle ballBounds, Rectangle brickBounds) {
+    // So sánh tâm bằng 2*x + w để tránh phép chia và số thực
+    private void handleHorizontalCollision(Brick brick) {
         this.bounceX();
-        if (ballBounds.getCenterX() < brickBounds.getCenterX()) {
+        if (2 * getX() + getWidth() < 2 * brick.getX() + brick.getWidth()) {
             setX(brick.getX() - getWidth() - COLLISION_OFFSET);
         } else {
             setX(brick.getX() + brick.getWidth() + COLLISION_OFFSET);
         }
     }
 
-    private void handleVerticalCollision(Brick brick, Rectangle ballBounds, Rectangle brickBounds) {
+    private void handleVerticalCollision(Brick brick) {
         this.bounceY();
-        if (ballBounds.getCenterY() < brickBounds.getCenterY()) {
+        if (2 * getY() + getHeight() < 2 * brick.getY() + brick.getHeight()) {
             setY(brick.getY() - getHeight() - COLLISION_OFFSET);
         } else {
             setY(brick.getY() + brick.getHeight() + COLLISION_OFFSET);
         }
     }
 
-    @Override
     /**
-     * Cập nhật vị trí theo vận tốc (1 bước).
+     * Cập nhật vị trí theo vận tốc (1 tick).
+     * @param tickRate số tick mỗi giây
      */
+    public void update(int tickRate) {
+        this.move(tickRate);
+    }
+
+    @Override
     public void update() {
-        this.move();
     }
 
     /**
@@ -170,8 +170,8 @@ public class Ball extends MovableObject {
 
     /**
      * Phóng bóng với vận tốc cho trước.
-     * @param dx vận tốc x
-     * @param dy vận tốc y
+     * @param dx vận tốc x (pixel/giây)
+     * @param dy vận tốc y (pixel/giây)
      */
     public void launch(int dx, int dy) {
         this.dx = dx;
@@ -0,0 +1,129 @@
+package model.entity;
+
+/**
+ * Kho bóng dạng struct-of-arrays cho chế độ Ball Storm: vị trí, vận tốc và cờ trạng thái
+ * nằm trong các mảng nguyên thuỷ song song, bóng bị gỡ bằng swap-remove (O(1), không dồn mảng).
+ * Vận tốc tính theo pixel/giây; phần lẻ dưới một pixel (subXs, subYs) có đơn vị 1/tickRate pixel như MovableObject.
+ * Các mảng trả về từ getter chỉ dùng để đọc trong vòng lặp render, chỉ có size() phần tử đầu hợp lệ.
+ */
+public class BallPool {
+    public static final byte FLAG_NONE = 0;
+    public static final byte FLAG_HIT_THIS_TICK = 1;
+
+    private final int capacity;
+    private final int ballSize;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] dxs;
+    private final int[] dys;
+    private final int[] subXs;
+    private final int[] subYs;
+    private final byte[] flags;
+    private int size = 0;
+
+    /**
+     * Khởi tạo kho bóng với sức chứa cố định.
+     * @param capacity số bóng tối đa
+     * @param ballSize kích thước (cạnh) mỗi bóng
+     */
+    public BallPool(int capacity, int ballSize) {
+        this.capacity = capacity;
+        this.ballSize = ballSize;
+        this.xs = new int[capacity];
+        this.ys = new int[capacity];
+        this.dxs = new int[capacity];
+        this.dys = new int[capacity];
+        this.subXs = new int[capacity];
+        this.subYs = new int[capacity];
+        this.flags = new byte[capacity];
+    }
+
+    /**
+     * Thêm một bóng mới nằm đúng tại pixel (x, y).
+     * @return chỉ số của bóng, hoặc -1 nếu kho đã đầy
+     */
+    public int spawn(int x, int y, int dx, int dy) {
+        return spawn(x, y, dx, dy, 0, 0);
+    }
+
+    /**
+     * Thêm một bóng mới kèm phần lẻ dưới một pixel (khôi phục từ snapshot).
+     * @return chỉ số của bóng, hoặc -1 nếu kho đã đầy
+     */
+    public int spawn(int x, int y, int dx, int dy, int subX, int subY) {
+        if (size >= capacity) {
+            return -1;
+        }
+        int i = size++;
+        xs[i] = x;
+        ys[i] = y;
+        dxs[i] = dx;
+        dys[i] = dy;
+        subXs[i] = subX;
+        subYs[i] = subY;
+        flags[i] = FLAG_NONE;
+        return i;
+    }
+
+    /**
+     * Gỡ bóng tại vị trí i bằng cách chép bóng cuối cùng vào chỗ trống.
+     * Khi duyệt xuôi, cần xét lại chỉ số i sau khi gọi hàm này.
+     * @param i chỉ số bóng
+     */
+    public void removeAt(int i) {
+        int last = --size;
+        if (i != last) {
+            xs[i] = xs[last];
+            ys[i] = ys[last];
+            dxs[i] = dxs[last];
+            dys[i] = dys[last];
+            subXs[i] = subXs[last];
+            subYs[i] = subYs[last];
+            flags[i] = flags[last];
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getBallSize() {
+        return ballSize;
+    }
+
+    public int[] getXs() {
+        return xs;
+    }
+
+    public int[] getYs() {
+        return ys;
+    }
+
+    public int[] getDxs() {
+        return dxs;
+    }
+
+    public int[] getDys() {
+        return dys;
+    }
+
+    public int[] getSubXs() {
+        return subXs;
+    }
+
+    public int[] getSubYs() {
+        return subYs;
+    }
+
+    public byte[] getFlags() {
+        return flags;
+    }
+}
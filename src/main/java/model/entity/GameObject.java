@@ -27,6 +27,49 @@ public abstract class GameObject {
     public Rectangle getBounds() {
         return new Rectangle(x, y, width, height);
     }
+
+    /**
+     * Kiểm tra AABB chồng lên nhau mà không tạo Rectangle (giống Rectangle.intersects).
+     * @param other đối tượng còn lại
+     * @return true nếu hai hình chữ nhật giao nhau
+     */
+    public boolean intersects(GameObject other) {
+        return intersects(other.x, other.y, other.width, other.height);
+    }
+
+    /**
+     * Kiểm tra AABB chồng lên một hình chữ nhật cho bởi tọa độ nguyên.
+     * @param otherX x
+     * @param otherY y
+     * @param otherWidth chiều rộng
+     * @param otherHeight chiều cao
+     * @return true nếu hai hình chữ nhật giao nhau
+     */
+    public boolean intersects(int otherX, int otherY, int otherWidth, int otherHeight) {
+        if (width <= 0 || height <= 0 || otherWidth <= 0 || otherHeight <= 0) {
+            return false;
+        }
+        return x < otherX + otherWidth && otherX < x + width
+                && y < otherY + otherHeight && otherY < y + height;
+    }
+
+    /**
+     * Độ chồng lấn theo trục X (chiều rộng phần giao), <= 0 nếu không giao.
+     * @param other đối tượng còn lại
+     * @return số pixel chồng lấn theo X
+     */
+    public int overlapWidth(GameObject other) {
+        return Math.min(x + width, other.x + other.width) - Math.max(x, other.x);
+    }
+
+    /**
+     * Độ chồng lấn theo trục Y (chiều cao phần giao), <= 0 nếu không giao.
+     * @param other đối tượng còn lại
+     * @return số pixel chồng lấn theo Y
+     */
+    public int overlapHeight(GameObject other) {
+        return Math.min(y + height, other.y + other.height) - Math.max(y, other.y);
+    }
     public int getX() {
         return x;
     }
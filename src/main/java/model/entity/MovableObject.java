@@ -1,8 +1,15 @@
 package model.entity;
 
+/**
+ * Đối tượng di chuyển với vận tốc tính theo pixel mỗi giây. Vị trí vẫn là pixel nguyên;
+ * phần lẻ dưới một pixel được giữ dạng fixed-point (subX, subY, đơn vị 1/tickRate pixel)
+ * nên quãng đường đi trong một giây mô phỏng như nhau ở mọi tần số tick và không có sai số làm tròn tích luỹ.
+ */
 public abstract class MovableObject extends GameObject {
     protected int dx;
     protected int dy;
+    protected int subX;
+    protected int subY;
 
     public MovableObject(int x, int y, int width, int height, int dx, int dy) {
         super(x, y, width, height);
@@ -10,11 +17,37 @@ public abstract class MovableObject extends GameObject {
         this.dy = dy;
     }
 
-    public void move() {
-        setX(getX() + dx);
-        setY(getY() + dy);
+    /**
+     * Di chuyển một tick.
+     * @param tickRate số tick mỗi giây
+     */
+    public void move(int tickRate) {
+        subX += dx;
+        subY += dy;
+        setX(getX() + Math.floorDiv(subX, tickRate));
+        setY(getY() + Math.floorDiv(subY, tickRate));
+        subX = Math.floorMod(subX, tickRate);
+        subY = Math.floorMod(subY, tickRate);
     }
 
+    /**
+     * Đặt vị trí chính xác (pixel thực), phần lẻ được làm tròn tới 1/tickRate pixel gần nhất.
+     * @param exactX x thực
+     * @param exactY y thực
+     * @param tickRate số tick mỗi giây
+     */
+    public void setExactPosition(double exactX, double exactY, int tickRate) {
+        long fixedX = Math.round(exactX * tickRate);
+        long fixedY = Math.round(exactY * tickRate);
+        setX((int) Math.floorDiv(fixedX, tickRate));
+        setY((int) Math.floorDiv(fixedY, tickRate));
+        subX = Math.floorMod(fixedX, tickRate);
+        subY = Math.floorMod(fixedY, tickRate);
+    }
+
+    /**
+     * Vận tốc theo trục X (pixel/giây).
+     */
     public double getDx() {
         return dx;
     }
@@ -23,6 +56,9 @@ public abstract class MovableObject extends GameObject {
         this.dx = dx;
     }
 
+    /**
+     * Vận tốc theo trục Y (pixel/giây).
+     */
     public double getDy() {
         return dy;
     }
@@ -30,4 +66,26 @@ public abstract class MovableObject extends GameObject {
     public void setDy(int dy) {
         this.dy = dy;
     }
+
+    /**
+     * Phần lẻ dưới một pixel theo X, đơn vị 1/tickRate pixel.
+     */
+    public int getSubX() {
+        return subX;
+    }
+
+    /**
+     * Phần lẻ dưới một pixel theo Y, đơn vị 1/tickRate pixel.
+     */
+    public int getSubY() {
+        return subY;
+    }
+
+    /**
+     * Đặt phần lẻ dưới một pixel (khôi phục từ snapshot hoặc đặt lại khi đổi vị trí).
+     */
+    public void setSubPixel(int subX, int subY) {
+        this.subX = subX;
+        this.subY = subY;
+    }
 }
@@ -11,37 +11,29 @@ public class Paddle extends MovableObject {
      * @param y tọa độ Y
      * @param width chiều rộng
      * @param height chiều cao
-     * @param moveSpeed tốc độ di chuyển
+     * @param moveSpeed tốc độ di chuyển (pixel/giây)
      */
     public Paddle(int x, int y, int width, int height, int moveSpeed) {
         super(x, y, width, height, 0, 0);
         this.moveSpeed = moveSpeed;
     }
 
-    private void moveLeft() {
-        setX(getX() - moveSpeed);
-    }
-
-    private void moveRight() {
-        setX(getX() + moveSpeed);
-    }
-
     /**
-     * Cập nhật vị trí paddle theo hướng di chuyển và kiểm tra va chạm cạnh màn hình.
+     * Cập nhật vị trí paddle trong một tick theo hướng di chuyển và kiểm tra va chạm cạnh màn hình.
      * @param screenWidth độ rộng của màn hình
+     * @param tickRate số tick mỗi giây
      */
-    public void update(int screenWidth) {
-        if (movingRight) {
-            moveRight();
-        }
-        if (movingLeft) {
-            moveLeft();
-        }
+    public void update(int screenWidth, int tickRate) {
+        // Nhấn cả hai phím thì đứng yên
+        dx = ((movingRight ? 1 : 0) - (movingLeft ? 1 : 0)) * moveSpeed;
+        move(tickRate);
         if (getX() < 0) {
             setX(0);
+            subX = 0;
         }
         if (getX() + getWidth() > screenWidth) {
             setX(screenWidth - getWidth());
+            subX = 0;
         }
     }
 
@@ -61,6 +53,9 @@ public class Paddle extends MovableObject {
         return movingRight;
     }
 
+    /**
+     * Tốc độ di chuyển (pixel/giây).
+     */
     public int getMoveSpeed() {
         return moveSpeed;
     }
@@ -0,0 +1,100 @@
+package model.entity;
+
+/**
+ * Va chạm liên tục (swept AABB): tính thời điểm va chạm sớm nhất của một hộp đang di chuyển
+ * với một hộp đứng yên trong một tick, tránh việc bóng nhanh "xuyên" qua gạch hoặc paddle.
+ * Kết quả của lần quét gần nhất được giữ trong các trường để không phải cấp phát đối tượng.
+ */
+public class SweptAabb {
+    private double time;
+    private int normalX;
+    private int normalY;
+
+    /**
+     * Quét hộp (x, y, w, h) di chuyển theo (vx, vy) mỗi đơn vị thời gian với hộp tĩnh (ox, oy, ow, oh).
+     * @param x x của hộp động
+     * @param y y của hộp động
+     * @param w chiều rộng hộp động
+     * @param h chiều cao hộp động
+     * @param vx vận tốc X
+     * @param vy vận tốc Y
+     * @param ox x của hộp tĩnh
+     * @param oy y của hộp tĩnh
+     * @param ow chiều rộng hộp tĩnh
+     * @param oh chiều cao hộp tĩnh
+     * @param maxTime chỉ nhận va chạm có thời điểm không vượt quá giá trị này
+     * @return true nếu hai hộp chạm nhau trong [0, maxTime]; khi đó getTime/getNormalX/getNormalY hợp lệ
+     */
+    public boolean sweep(double x, double y, int w, int h, double vx, double vy,
+                         int ox, int oy, int ow, int oh, double maxTime) {
+        double entryX;
+        double exitX;
+        if (vx > 0) {
+            entryX = (ox - (x + w)) / vx;
+            exitX = (ox + ow - x) / vx;
+        } else if (vx < 0) {
+            entryX = (ox + ow - x) / vx;
+            exitX = (ox - (x + w)) / vx;
+        } else {
+            if (x + w <= ox || x >= ox + ow) {
+                return false;
+            }
+            entryX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        }
+
+        double entryY;
+        double exitY;
+        if (vy > 0) {
+            entryY = (oy - (y + h)) / vy;
+            exitY = (oy + oh - y) / vy;
+        } else if (vy < 0) {
+            entryY = (oy + oh - y) / vy;
+            exitY = (oy - (y + h)) / vy;
+        } else {
+            if (y + h <= oy || y >= oy + oh) {
+                return false;
+            }
+            entryY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        }
+
+        double entry = Math.max(entryX, entryY);
+        double exit = Math.min(exitX, exitY);
+        // entry < 0: đã chồng lên từ trước hoặc đang đi ra xa; entry >= exit: chỉ sượt qua góc
+        if (entry < 0.0 || entry >= exit || entry > maxTime) {
+            return false;
+        }
+
+        time = entry;
+        if (entryX > entryY) {
+            normalX = vx > 0 ? -1 : 1;
+            normalY = 0;
+        } else {
+            normalX = 0;
+            normalY = vy > 0 ? -1 : 1;
+        }
+        return true;
+    }
+
+    /**
+     * Thời điểm va chạm của lần quét gần nhất (0..maxTime).
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * Pháp tuyến X của mặt bị chạm (-1, 0, 1).
+     */
+    public int getNormalX() {
+        return normalX;
+    }
+
+    /**
+     * Pháp tuyến Y của mặt bị chạm (-1, 0, 1).
+     */
+    public int getNormalY() {
+        return normalY;
+    }
+}
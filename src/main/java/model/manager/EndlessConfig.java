@@ -0,0 +1,93 @@
+package model.manager;
+
+/**
+ * Bộ tham số độ khó của chế độ endless (bất biến), dùng chung cho game thật và công cụ cân bằng.
+ */
+public final class EndlessConfig {
+
+    /** Giá trị đang dùng trong game. */
+    public static final EndlessConfig DEFAULT = new EndlessConfig(16.0, 6.0, 0.03, 0.40, 0.85);
+
+    private final double spawnIntervalSeconds;
+    private final double minSpawnIntervalSeconds;
+    private final double spawnIntervalDecayPerSec;
+    private final double emptyBrickChance;
+    private final double normalBrickChance;
+
+    /**
+     * Khởi tạo bộ tham số.
+     * @param spawnIntervalSeconds thời gian sinh hàng mới lúc bắt đầu
+     * @param minSpawnIntervalSeconds thời gian sinh hàng tối thiểu (floor để game không quá khó)
+     * @param spawnIntervalDecayPerSec lượng giảm thời gian sinh hàng mỗi giây chơi
+     * @param emptyBrickChance xác suất ô trống
+     * @param normalBrickChance ngưỡng tích luỹ của gạch thường (phần còn lại là gạch cứng)
+     */
+    public EndlessConfig(double spawnIntervalSeconds,
+                         double minSpawnIntervalSeconds,
+                         double spawnIntervalDecayPerSec,
+                         double emptyBrickChance,
+                         double normalBrickChance) {
+        if (minSpawnIntervalSeconds <= 0.0 || spawnIntervalSeconds < minSpawnIntervalSeconds) {
+            throw new IllegalArgumentException("Thời gian sinh hàng không hợp lệ");
+        }
+        if (emptyBrickChance < 0.0 || emptyBrickChance > normalBrickChance || normalBrickChance > 1.0) {
+            throw new IllegalArgumentException("Xác suất gạch không hợp lệ");
+        }
+        this.spawnIntervalSeconds = spawnIntervalSeconds;
+        this.minSpawnIntervalSeconds = minSpawnIntervalSeconds;
+        this.spawnIntervalDecayPerSec = spawnIntervalDecayPerSec;
+        this.emptyBrickChance = emptyBrickChance;
+        this.normalBrickChance = normalBrickChance;
+    }
+
+    public double getSpawnIntervalSeconds() {
+        return spawnIntervalSeconds;
+    }
+
+    public double getMinSpawnIntervalSeconds() {
+        return minSpawnIntervalSeconds;
+    }
+
+    public double getSpawnIntervalDecayPerSec() {
+        return spawnIntervalDecayPerSec;
+    }
+
+    public double getEmptyBrickChance() {
+        return emptyBrickChance;
+    }
+
+    public double getNormalBrickChance() {
+        return normalBrickChance;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EndlessConfig)) return false;
+        EndlessConfig other = (EndlessConfig) o;
+        return Double.compare(spawnIntervalSeconds, other.spawnIntervalSeconds) == 0
+                && Double.compare(minSpawnIntervalSeconds, other.minSpawnIntervalSeconds) == 0
+                && Double.compare(spawnIntervalDecayPerSec, other.spawnIntervalDecayPerSec) == 0
+                && Double.compare(emptyBrickChance, other.emptyBrickChance) == 0
+                && Double.compare(normalBrickChance, other.normalBrickChance) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = Double.hashCode(spawnIntervalSeconds);
+        h = 31 * h + Double.hashCode(minSpawnIntervalSeconds);
+        h = 31 * h + Double.hashCode(spawnIntervalDecayPerSec);
+        h = 31 * h + Double.hashCode(emptyBrickChance);
+        h = 31 * h + Double.hashCode(normalBrickChance);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "spawn=" + spawnIntervalSeconds
+                + " min=" + minSpawnIntervalSeconds
+                + " decay=" + spawnIntervalDecayPerSec
+                + " empty=" + emptyBrickChance
+                + " normal=" + normalBrickChance;
+    }
+}
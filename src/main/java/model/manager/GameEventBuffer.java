@@ -0,0 +1,116 @@
+package model.manager;
+
+import java.util.Arrays;
+
+/**
+ * Bộ đệm sự kiện của một tick mô phỏng. Trong lúc chạy tick, GameManager chỉ ghi sự kiện vào đây;
+ * cuối tick cả bộ đệm được giao một lần cho mọi listener (GameEventListener.onTickEvents) rồi xoá.
+ * Nhờ vậy âm thanh/hiệu ứng có thể gộp lại (ví dụ một tick đánh vỡ nhiều gạch chỉ phát một tiếng)
+ * và mô phỏng không phải gọi JavaFX ngay giữa vòng va chạm.
+ *
+ * Mỗi sự kiện gồm loại và bốn số nguyên (a, b, x, y), ý nghĩa tuỳ loại (xem các hằng số).
+ * Lưu trong mảng nguyên thuỷ, chỉ cấp phát khi số sự kiện trong một tick vượt mức cao nhất trước đó.
+ */
+public final class GameEventBuffer {
+    /** Bóng chạm paddle. a: 1 nếu là bóng chính, b: 1 nếu magnet đang bật, x: tâm bóng, y: đỉnh paddle. */
+    public static final byte PADDLE_HIT = 0;
+    /** Bóng đánh trúng gạch. a: điểm cộng thêm, b: hệ số combo (1 nếu chưa có combo, 0 với bóng Ball Storm), x: tâm gạch, y: đỉnh gạch. */
+    public static final byte BRICK_HIT = 1;
+    /** Gạch vừa vỡ. a: loại gạch (BrickFactory.TYPE_*), x: tâm gạch, y: đỉnh gạch. */
+    public static final byte BRICK_DESTROYED = 2;
+    /** Paddle nhặt power-up (hiệu ứng đã áp dụng). a: ordinal của PowerUpType, x/y: góc trái trên power-up. */
+    public static final byte POWER_UP_COLLECTED = 3;
+    /** Mất một mạng. a: số mạng còn lại. */
+    public static final byte LIFE_LOST = 4;
+    /** Đổi state. a: ordinal state cũ, b: ordinal state mới. */
+    public static final byte STATE_CHANGED = 5;
+    /** Điểm vừa vượt một mốc. a: mốc điểm. */
+    public static final byte SCORE_MILESTONE = 6;
+
+    private static final int KIND_COUNT = 7;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private int[] as = new int[INITIAL_CAPACITY];
+    private int[] bs = new int[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    // Số sự kiện theo từng loại, để listener gộp hiệu ứng mà không cần duyệt bộ đệm
+    private final int[] counts = new int[KIND_COUNT];
+    private int tick;
+
+    /**
+     * Ghi một sự kiện.
+     * @param kind loại sự kiện
+     */
+    public void add(byte kind, int a, int b, int x, int y) {
+        if (size == kinds.length) {
+            int capacity = size * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            as = Arrays.copyOf(as, capacity);
+            bs = Arrays.copyOf(bs, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        kinds[size] = kind;
+        as[size] = a;
+        bs[size] = b;
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+        counts[kind]++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Số sự kiện thuộc một loại trong bộ đệm.
+     * @param kind loại sự kiện
+     */
+    public int count(byte kind) {
+        return counts[kind];
+    }
+
+    public byte getKind(int i) {
+        return kinds[i];
+    }
+
+    public int getA(int i) {
+        return as[i];
+    }
+
+    public int getB(int i) {
+        return bs[i];
+    }
+
+    public int getX(int i) {
+        return xs[i];
+    }
+
+    public int getY(int i) {
+        return ys[i];
+    }
+
+    /**
+     * Tick vừa chạy xong khi bộ đệm được giao cho listener.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    void setTick(int tick) {
+        this.tick = tick;
+    }
+
+    public void clear() {
+        size = 0;
+        Arrays.fill(counts, 0);
+    }
+}
@@ -0,0 +1,53 @@
+package model.manager;
+
+import model.state.GameState;
+
+/**
+ * Nhận sự kiện từ mô phỏng (GameManager). Được gọi đồng bộ trên luồng chạy tick,
+ * nên phần xử lý phải ngắn và không được sửa trạng thái game.
+ * Sự kiện gameplay (va chạm, nhặt power-up, mất mạng...) được gom theo tick và giao qua onTickEvents;
+ * các sự kiện vòng đời ván (bắt đầu, đổi state, ghi input, kết thúc) vẫn được gọi ngay khi xảy ra.
+ * Âm thanh/nhạc nền (JavaFX) đăng ký qua interface này thay vì để GameManager gọi trực tiếp.
+ */
+public interface GameEventListener {
+
+    /**
+     * Gọi một lần sau mỗi tick với toàn bộ sự kiện của tick đó (có thể rỗng), theo đúng thứ tự xảy ra.
+     * Bộ đệm bị xoá ngay sau khi mọi listener xử lý xong nên không được giữ lại tham chiếu.
+     * @param events sự kiện của tick
+     */
+    default void onTickEvents(GameEventBuffer events) {}
+
+    /**
+     * startGame vừa được gọi.
+     * @param alreadyRunning true nếu game đang RUNNING nên ván hiện tại được giữ nguyên,
+     *                       false nếu ván mới vừa được khởi tạo và đang chuyển cảnh vào RUNNING
+     */
+    default void onGameStarted(boolean alreadyRunning) {}
+
+    /**
+     * State của game vừa thay đổi.
+     * @param from state cũ
+     * @param to state mới
+     */
+    default void onStateChanged(GameState from, GameState to) {}
+
+    /**
+     * Một lệnh input vừa được áp dụng và ghi vào nhật ký của ván.
+     * @param tick tick áp dụng lệnh
+     * @param command lệnh
+     */
+    default void onInputRecorded(int tick, InputCommand command) {}
+
+    /**
+     * Ván chơi vừa kết thúc (thua, thắng hoặc thoát về menu) và nhật ký đã được chốt.
+     * @param log nhật ký của ván
+     */
+    default void onGameFinished(InputLog log) {}
+
+    /**
+     * Mô phỏng vừa được đưa về một snapshot (tua lại); nhật ký input đã bị cắt về tick đó.
+     * @param tick tick của snapshot
+     */
+    default void onSnapshotRestored(int tick) {}
+}
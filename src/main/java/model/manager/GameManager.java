@@ -1,12 +1,15 @@
 
 package model.manager;
 
-import javafx.scene.media.MediaPlayer;
-import javafx.scene.paint.Color;
-import model.powerup.PowerUp;
+import model.powerup.PowerUpEventQueue;
+import model.powerup.PowerUpPool;
+import model.powerup.PowerUpType;
 import model.entity.Ball;
+import model.entity.BallPool;
 import model.entity.Paddle;
+import model.entity.SweptAabb;
 import model.brick.Brick;
+import model.brick.BrickGrid;
 import model.brick.PowerUpBrick;
 import model.brick.StrongBrick;
 import model.brick.BrickFactory;
@@ -15,14 +18,19 @@ import model.state.MenuState;
 import model.state.PauseMenuState;
 import model.state.SettingsState;
 import model.state.StateTransition;
-import model.ui.FloatingText;
-import util.SoundManager;
+import util.FixedTimestep;
+import util.GameRandom;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
-
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * Mô phỏng game (luật chơi, va chạm, điểm, state) thuần Java, không phụ thuộc JavaFX.
+ * Âm thanh và hiển thị nhận thông tin qua GameEventListener và các getter trạng thái.
+ */
 public class GameManager {
 
     // Singleton duy nhất
@@ -35,35 +43,61 @@ public class GameManager {
     private static final int INITIAL_LIVES = 3;
     private static final int SCORE_PER_BRICK = 10;
     private static final int INITIAL_BRICK_ROWS = 6;
-    private static final int BRICK_WIDTH = 70;
-    private static final int BRICK_HEIGHT = 30;
+    public static final int BRICK_WIDTH = 70;
+    public static final int BRICK_HEIGHT = 30;
     private static final int BRICK_OFFSET_Y = 50;
+    private static final int BRICK_GRID_ROWS = (SCREEN_HEIGHT + BRICK_HEIGHT - BRICK_OFFSET_Y) / BRICK_HEIGHT + 1;
+    private static final int MAX_BRICK_CANDIDATES = 32;
+    private static final int MAX_SWEEP_ITERATIONS = 4;
+    private static final int SWEEP_NONE = 0;
+    private static final int SWEEP_LEFT_WALL = 1;
+    private static final int SWEEP_RIGHT_WALL = 2;
+    private static final int SWEEP_TOP_WALL = 3;
+    private static final int SWEEP_PADDLE = 4;
+    private static final int SWEEP_BRICK = 5;
 
     // Hằng số paddle
     private static final int PADDLE_INIT_X = SCREEN_WIDTH / 2 - 50;
     private static final int PADDLE_INIT_Y = 550;
-    private static final int PADDLE_WIDTH = 100;
-    private static final int PADDLE_HEIGHT = 20;
-    private static final int PADDLE_SPEED = 12;
+    public static final int PADDLE_WIDTH = 100;
+    public static final int PADDLE_HEIGHT = 20;
+    private static final int PADDLE_SPEED = 720; // pixel/giây
 
-    // Hằng số bóng
-    private static final int BALL_SIZE = 20;
+    // Hằng số bóng (vận tốc tính theo pixel/giây)
+    public static final int BALL_SIZE = 20;
     private static final int BALL_OFFSET_FROM_PADDLE = 2;
-
-    // Hằng số cho chế độ endless mode
-    private static final double SPAWN_INTERVAL_SECONDS = 16.0;
-    private static final double MIN_SPAWN_INTERVAL_SECONDS = 6.0; // floor để game không quá khó
-    private static final double SPAWN_INTERVAL_DECAY_PER_SEC = 0.03; // giảm dần theo thời gian thực
-    private static final double EMPTY_BRICK_CHANCE = 0.40;
-    private static final double NORMAL_BRICK_CHANCE = 0.85;
+    private static final int BALL_LAUNCH_SPEED_X = 300;
+    private static final int BALL_LAUNCH_SPEED_Y = 300;
+
+    // Hằng số chế độ Ball Storm (hàng nghìn bóng lưu trong BallPool)
+    private static final int STORM_CAPACITY = 4096;
+    private static final int STORM_BALLS_PER_SECOND = 480;
+    private static final int STORM_BALL_SPEED_Y = 360;
+    private static final int STORM_MAX_SPEED_X = 360;
+    // Số hướng bắn mỗi bên của quạt bóng storm
+    private static final int STORM_FAN_STEPS = 6;
+
+    // Hằng số cho chế độ endless mode (các tham số độ khó nằm trong EndlessConfig)
     private static final int MAX_PATTERN_ATTEMPTS = 5;
 
+    // Hằng số vòng lặp mô phỏng (fixed timestep).
+    // Vận tốc của ball/paddle/power-up tính theo pixel mỗi giây nên tốc độ chơi không phụ thuộc tần số tick.
+    public static final int DEFAULT_TICK_RATE = 60;
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
     private Ball ball;
     private final List<Ball> extraBalls = new ArrayList<>();
     private Paddle paddle;
-    private List<Brick> bricks;
-    private final List<FloatingText> floatingTexts = new ArrayList<>();
-    private final List<PowerUp> powerUps = new ArrayList<>();
+    private BrickGrid brickGrid;
+    private final Brick[] brickCandidates = new Brick[MAX_BRICK_CANDIDATES];
+
+    // Va chạm liên tục (swept) cho bóng nhanh; tắt thì dùng kiểm tra chồng lấn cuối mỗi tick
+    private boolean continuousCollision = Boolean.getBoolean("arkanoid.continuousCollision");
+    private final SweptAabb sweep = new SweptAabb();
+    // Power-up đang rơi (mảng nguyên thuỷ) và sự kiện rơi/nhặt chờ xử lý cuối tick
+    private static final int MAX_POWER_UPS = 256;
+    private final PowerUpPool powerUps = new PowerUpPool(MAX_POWER_UPS);
+    private final PowerUpEventQueue powerUpEvents = new PowerUpEventQueue();
 
     private int score;
     private int lives;
@@ -76,14 +110,28 @@ public class GameManager {
     private String currentPlayerName = "";
     private int scoreToSave = 0;
 
-    private final Random random = new Random();
+    // Seed cố định cho mọi ván (-Darkanoid.seed), null thì mỗi ván một seed mới
+    private static final Long FIXED_SEED = Long.getLong("arkanoid.seed");
+    private final SplittableRandom seedSource = new SplittableRandom();
+    private long seed = seedSource.nextLong();
+    // Mọi phép ngẫu nhiên của mô phỏng đều lấy từ đây để ván chơi phát lại được từ seed
+    private GameRandom random = new GameRandom(seed);
     private boolean endlessMode = true;
-    private double spawnInterval = SPAWN_INTERVAL_SECONDS;
+    private EndlessConfig endlessConfig = EndlessConfig.DEFAULT;
+
+    private boolean ballStormMode = false;
+    private final BallPool stormBalls = new BallPool(STORM_CAPACITY, BALL_SIZE);
+    private int stormEmitCounter = 0;
+    // Phần lẻ của số bóng storm cần phát, đơn vị 1/tickRate bóng
+    private int stormEmitBudget = 0;
+    private double spawnInterval = endlessConfig.getSpawnIntervalSeconds();
     private double spawnTimer = 0.0;
 
     private int cols;
     private int offsetX;
-    private double lastUpdateNano = System.nanoTime();
+    // Tần số tick mô phỏng (-Darkanoid.tickRate), đổi được bằng setTickRate trước khi bắt đầu ván
+    private FixedTimestep timestep = new FixedTimestep(
+            Integer.getInteger("arkanoid.tickRate", DEFAULT_TICK_RATE), MAX_CATCH_UP_TICKS);
 
     // Hiệu ứng power-up mở rộng paddle (expand)
     private boolean paddleExpanded = false;
@@ -96,7 +144,7 @@ public class GameManager {
     private double ballPaddleOffset = 0.0; // độ lệch tâm bóng so với tâm paddle khi đang dính
 
     // Hiển thị mốc điểm (score milestone)
-    private int nextScoreMilestone = 250;
+    private final ScoreMilestones milestones = new ScoreMilestones();
 
     // Hệ thống combo
     private int comboCount = 0;
@@ -112,10 +160,23 @@ public class GameManager {
     private final StateTransition stateTransition = new StateTransition();
     private static final double STATE_TRANSITION_DURATION = 0.4;
 
-    private MediaPlayer menuMusicPlayer;
-    private MediaPlayer gameMusicPlayer;
-    private MediaPlayer gameOverMusicPlayer;
+    private final List<GameEventListener> listeners = new ArrayList<>();
+    // Sự kiện gameplay của tick đang chạy, giao cho listener một lần cuối tick
+    private final GameEventBuffer events = new GameEventBuffer();
+
+    // Lệnh input chờ áp dụng ở đầu tick kế tiếp và nhật ký lệnh của ván hiện tại.
+    // Hàng đợi không khoá: luồng JavaFX ghi, luồng mô phỏng đọc
+    private final ConcurrentLinkedQueue<InputCommand> pendingInputs = new ConcurrentLinkedQueue<>();
+    // Thao tác menu/điều hướng gửi từ luồng khác, chạy trên luồng mô phỏng trong updateGame
+    private final ConcurrentLinkedQueue<Runnable> pendingActions = new ConcurrentLinkedQueue<>();
+    private int tickCount = 0;
+    private InputLog inputLog;
 
+    // Chế độ luyện tập: giữ lịch sử snapshot để tua lại (-Darkanoid.practice)
+    private static final int REWIND_HISTORY_SECONDS = 10;
+    private static final int REWIND_SNAPSHOTS_PER_SECOND = 4;
+    private static final double REWIND_STEP_SECONDS = 2.0;
+    private SnapshotRing rewindHistory = Boolean.getBoolean("arkanoid.practice") ? newRewindHistory() : null;
 
     // Private constructor cho Singleton; cờ nội bộ để phân biệt với truy cập từ bên ngoài
     private GameManager(boolean internal) {
@@ -130,12 +191,33 @@ public class GameManager {
         return INSTANCE;
     }
 
+    /**
+     * Tạo một mô phỏng mới, độc lập với Singleton và không có listener nào
+     * (dùng để chạy game headless, ví dụ trên CI hoặc trong test).
+     */
+    public static GameManager newSimulation() {
+        return new GameManager(true);
+    }
+
+    public void addEventListener(GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeEventListener(GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
     public void initGame() {
         score = 0;
         lives = INITIAL_LIVES;
 
         cols = Math.max(1, SCREEN_WIDTH / BRICK_WIDTH);
         offsetX = (SCREEN_WIDTH - cols * BRICK_WIDTH) / 2;
+        // Dùng lại một lưới cho mọi ván: số phiên bản tăng liên tục qua các ván nên bản vẽ không nhầm lưới
+        // của ván mới với lưới cũ (loadLevel xoá lưới trước khi xếp gạch)
+        if (brickGrid == null) {
+            brickGrid = new BrickGrid(offsetX, BRICK_OFFSET_Y, cols, BRICK_GRID_ROWS, BRICK_WIDTH, BRICK_HEIGHT);
+        }
 
         paddle = new Paddle(PADDLE_INIT_X, PADDLE_INIT_Y, PADDLE_WIDTH, PADDLE_HEIGHT, PADDLE_SPEED);
         resetBallAndPaddle();
@@ -145,12 +227,24 @@ public class GameManager {
 
         // Reset các bộ đếm thời gian
         spawnTimer = 0.0;
-        lastUpdateNano = System.nanoTime();
+        spawnInterval = endlessConfig.getSpawnIntervalSeconds();
+        timestep.reset(System.nanoTime());
         powerUps.clear();
+        powerUpEvents.clear();
         extraBalls.clear();
+        stormBalls.clear();
+        stormEmitCounter = 0;
+        stormEmitBudget = 0;
         clearExpandEffect();
         comboCount = 0;
         comboTimer = 0.0;
+        milestones.reset();
+        // Không để trạng thái của ván trước ảnh hưởng tới ván mới (cần cho replay)
+        magnetActive = false;
+        magnetTimer = 0.0;
+        ballPaddleOffset = 0.0;
+        isResetting = false;
+        resetTimer = 0.0;
     }
 
     public GameState getCurrentState() {
@@ -161,31 +255,162 @@ public class GameManager {
         // Lưu previous state khi vào Settings
         if (state == GameState.SETTINGS && currentState != GameState.SETTINGS) {
             this.previousState = currentState;
-            // Đồng bộ volume từ SoundManager
-            settingsState.setMasterVolume(SoundManager.getInstance().getMasterVolume());
-            settingsState.setSfxVolume(SoundManager.getInstance().getSfxVolume());
         }
         GameState previous = this.currentState;
         this.currentState = state;
-        handleMusicForTransition(previous, state);
+        fireStateChanged(previous, state);
     }
     
     public GameState getPreviousState() {
         return previousState;
     }
 
+    /**
+     * Bắt đầu ván mới với seed mới (hoặc seed cố định nếu chạy với -Darkanoid.seed).
+     */
     public void startGame() {
+        startGame(FIXED_SEED != null ? FIXED_SEED : seedSource.nextLong());
+    }
+
+    /**
+     * Bắt đầu ván mới mà mọi phép ngẫu nhiên đều suy ra từ seed; cùng seed và cùng nhật ký input
+     * cho ra đúng cùng một ván chơi.
+     * @param seed seed của ván
+     */
+    public void startGame(long seed) {
         if (currentState != GameState.RUNNING) {
+            this.seed = seed;
+            random = new GameRandom(seed);
             initGame();
+            tickCount = 0;
+            pendingInputs.clear();
+            if (rewindHistory != null) {
+                rewindHistory.clear();
+            }
+            inputLog = new InputLog(seed, getTickRate(), endlessMode, ballStormMode,
+                    continuousCollision, endlessConfig);
             startStateTransition(GameState.RUNNING);
-            lastUpdateNano = System.nanoTime();
-            stopGameMusic();
-            stopMenuMusic();
-            stopGameOverMusic();
+            timestep.reset(System.nanoTime());
+            fireGameStarted(false);
+        } else {
+            fireGameStarted(true);
+        }
+    }
+
+    /**
+     * Phát lại một ván đã ghi với tốc độ tối đa, không cần render hay thời gian thực.
+     * @param log nhật ký đã kết thúc
+     * @return mô phỏng ở trạng thái cuối ván
+     * @throws IllegalArgumentException nếu nhật ký chưa kết thúc
+     */
+    public static GameManager replay(InputLog log) {
+        if (!log.isFinished()) {
+            throw new IllegalArgumentException("Nhật ký chưa kết thúc");
+        }
+        GameManager sim = newReplaySimulation(log);
+
+        int next = 0;
+        while (sim.tickCount < log.getEndTick()) {
+            while (next < log.size() && log.getTick(next) == sim.tickCount) {
+                sim.submitInput(log.getCommand(next++));
+            }
+            sim.tick();
+        }
+        return sim;
+    }
+
+    /**
+     * Phát lại trực tiếp từ file replay mà không nạp cả file vào bộ nhớ.
+     * Nếu file không có trailer (ván bị ngắt hoặc đuôi file hỏng) thì dừng ngay sau lệnh hợp lệ cuối cùng.
+     * @param reader file replay vừa mở, chưa đọc lệnh nào
+     * @return mô phỏng ở trạng thái cuối replay
+     */
+    public static GameManager replay(ReplayReader reader) throws IOException {
+        GameManager sim = newReplaySimulation(reader.getSeed(), reader.getTickRate(), reader.isEndlessMode(),
+                reader.isBallStormMode(), reader.isContinuousCollision(), reader.getEndlessConfig());
+
+        while (reader.next()) {
+            while (sim.tickCount < reader.getTick()) {
+                sim.tick();
+            }
+            sim.submitInput(reader.getCommand());
+        }
+        if (reader.isComplete()) {
+            while (sim.tickCount < reader.getEndTick()) {
+                sim.tick();
+            }
         } else {
-            stopMenuMusic();
-            stopGameOverMusic();
-            startGameMusic();
+            // Áp dụng các lệnh còn trong hàng đợi
+            sim.tick();
+        }
+        return sim;
+    }
+
+    /**
+     * Tạo mô phỏng vừa bắt đầu ván với seed và thiết lập của nhật ký (chưa áp dụng lệnh nào).
+     */
+    static GameManager newReplaySimulation(InputLog log) {
+        return newReplaySimulation(log.getSeed(), log.getTickRate(), log.isEndlessMode(),
+                log.isBallStormMode(), log.isContinuousCollision(), log.getEndlessConfig());
+    }
+
+    private static GameManager newReplaySimulation(long seed, int tickRate, boolean endlessMode, boolean ballStormMode,
+                                                   boolean continuousCollision, EndlessConfig endlessConfig) {
+        GameManager sim = newSimulation();
+        sim.setTickRate(tickRate);
+        sim.endlessMode = endlessMode;
+        sim.setBallStormMode(ballStormMode);
+        sim.setContinuousCollision(continuousCollision);
+        sim.setEndlessConfig(endlessConfig);
+        sim.startGame(seed);
+        return sim;
+    }
+
+    /**
+     * Xếp hàng một lệnh input; lệnh được áp dụng (và ghi vào nhật ký) ở đầu tick kế tiếp.
+     * Gọi được từ bất kỳ luồng nào.
+     * @param command lệnh
+     */
+    public void submitInput(InputCommand command) {
+        pendingInputs.add(command);
+    }
+
+    private void applyPendingInputs() {
+        InputCommand command;
+        while ((command = pendingInputs.poll()) != null) {
+            if (isRedundant(command)) {
+                // Phím giữ lâu sinh nhiều sự kiện nhấn lặp lại: bỏ để nhật ký gọn
+                continue;
+            }
+            if (inputLog != null && !inputLog.isFinished()) {
+                inputLog.record(tickCount, command);
+                for (int i = 0; i < listeners.size(); i++) {
+                    listeners.get(i).onInputRecorded(tickCount, command);
+                }
+            }
+            applyInput(command);
+        }
+    }
+
+    private boolean isRedundant(InputCommand command) {
+        return switch (command) {
+            case MOVE_LEFT_PRESS -> paddle.isMovingLeft();
+            case MOVE_LEFT_RELEASE -> !paddle.isMovingLeft();
+            case MOVE_RIGHT_PRESS -> paddle.isMovingRight();
+            case MOVE_RIGHT_RELEASE -> !paddle.isMovingRight();
+            default -> false;
+        };
+    }
+
+    private void applyInput(InputCommand command) {
+        switch (command) {
+            case MOVE_LEFT_PRESS -> paddle.setMovingLeft(true);
+            case MOVE_LEFT_RELEASE -> paddle.setMovingLeft(false);
+            case MOVE_RIGHT_PRESS -> paddle.setMovingRight(true);
+            case MOVE_RIGHT_RELEASE -> paddle.setMovingRight(false);
+            case LAUNCH -> applyLaunch();
+            case PAUSE -> applyPause();
+            case RESUME -> applyResume();
         }
     }
 
@@ -194,6 +419,7 @@ public class GameManager {
             paddle = new Paddle(PADDLE_INIT_X, PADDLE_INIT_Y, PADDLE_WIDTH, PADDLE_HEIGHT, PADDLE_SPEED);
         }
         paddle.setX(SCREEN_WIDTH / 2 - paddle.getWidth() / 2);
+        paddle.setSubPixel(0, 0);
         int ballX = paddle.getX() + paddle.getWidth() / 2 - BALL_SIZE / 2;
         int ballY = paddle.getY() - BALL_SIZE - BALL_OFFSET_FROM_PADDLE;
         ball = new Ball(ballX, ballY, BALL_SIZE, 0, 0);
@@ -201,7 +427,7 @@ public class GameManager {
     }
 
     private void loadLevel() {
-        bricks = new ArrayList<>();
+        brickGrid.clear();
 
         for (int row = 0; row < INITIAL_BRICK_ROWS; row++) {
             int forcedEmpty = (cols > 0) ? random.nextInt(cols) : -1;
@@ -212,7 +438,7 @@ public class GameManager {
                 int y = BRICK_OFFSET_Y + row * BRICK_HEIGHT;
                 Brick brick = createRandomBrick(x, y);
                 if (brick != null) {
-                    bricks.add(brick);
+                    brickGrid.set(row, col, brick);
                 }
             }
         }
@@ -226,15 +452,59 @@ public class GameManager {
                 y,
                 BRICK_WIDTH,
                 BRICK_HEIGHT,
-                EMPTY_BRICK_CHANCE,
-                NORMAL_BRICK_CHANCE
+                endlessConfig.getEmptyBrickChance(),
+                endlessConfig.getNormalBrickChance()
         );
     }
 
+    /**
+     * Gửi một thao tác (menu, đổi state, bắt đầu ván...) để chạy trên luồng mô phỏng ở lần updateGame kế tiếp,
+     * trước các tick của lần đó. Gọi được từ bất kỳ luồng nào; các thao tác chạy theo thứ tự gửi.
+     * @param action thao tác
+     */
+    public void post(Runnable action) {
+        pendingActions.add(action);
+    }
+
+    /**
+     * Gọi đều đặn từ vòng lặp mô phỏng: chạy các thao tác đã gửi qua post rồi chạy số tick
+     * tương ứng với thời gian thực đã trôi qua.
+     */
     public void updateGame() {
-        long now = System.nanoTime();
-        double deltaTime = (now - lastUpdateNano) / 1_000_000_000.0;
-        lastUpdateNano = now;
+        Runnable action;
+        while ((action = pendingActions.poll()) != null) {
+            action.run();
+        }
+        int ticks = timestep.advance(System.nanoTime());
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Chạy đúng một bước mô phỏng với thời lượng cố định, không phụ thuộc tần số màn hình.
+     */
+    public void tick() {
+        applyPendingInputs();
+        tickCount++;
+        simulateTick();
+        if (rewindHistory != null && currentState == GameState.RUNNING) {
+            rewindHistory.onTick(this);
+        }
+        dispatchEvents();
+    }
+
+    // Giao sự kiện của tick (kể cả sự kiện ghi giữa hai tick, ví dụ đổi state từ menu) rồi xoá bộ đệm
+    private void dispatchEvents() {
+        events.setTick(tickCount);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTickEvents(events);
+        }
+        events.clear();
+    }
+
+    private void simulateTick() {
+        double deltaTime = timestep.getTickSeconds();
 
         // Cập nhật chuyển cảnh ở mọi state
         stateTransition.update(deltaTime);
@@ -242,8 +512,8 @@ public class GameManager {
             GameState from = currentState;
             GameState to = stateTransition.getToState();
             currentState = to;
-            handleMusicForTransition(from, to);
             stateTransition.markSwitchedHandled();
+            fireStateChanged(from, to);
         }
 
         if (currentState != GameState.RUNNING) {
@@ -262,7 +532,7 @@ public class GameManager {
                 resetTimer = 0.0;
             }
             // Cho phép paddle di chuyển khi reset và vẫn giữ bóng dính
-            paddle.update(SCREEN_WIDTH);
+            paddle.update(SCREEN_WIDTH, getTickRate());
             if (ball != null && !ball.isLaunched()) {
                 updateBallAttachedPosition();
             }
@@ -271,19 +541,22 @@ public class GameManager {
 
         // Không cần chặn physics; chuyển cảnh xử lý chung
 
-        paddle.update(SCREEN_WIDTH);
+        int tickRate = getTickRate();
+        paddle.update(SCREEN_WIDTH, tickRate);
         if (ball != null) {
             if (!ball.isLaunched()) {
         // Bóng đang dính paddle: cập nhật theo vị trí paddle
                 updateBallAttachedPosition();
-            } else {
-        // Bóng đang bay: cập nhật bình thường
-                ball.update();
+            } else if (!continuousCollision) {
+        // Bóng đang bay: cập nhật bình thường (chế độ liên tục di chuyển bóng trong checkCollisions)
+                ball.update(tickRate);
             }
         }
         // Cập nhật các bóng phụ
-        for (Ball eb : new ArrayList<>(extraBalls)) {
-            eb.update();
+        if (!continuousCollision) {
+            for (int i = 0; i < extraBalls.size(); i++) {
+                extraBalls.get(i).update(tickRate);
+            }
         }
 
         if (endlessMode) {
@@ -291,11 +564,13 @@ public class GameManager {
         }
 
         checkCollisions();
-        updatePowerUps(deltaTime);
+        if (ballStormMode) {
+            updateBallStorm();
+        }
+        updatePowerUps();
+        processPowerUpEvents();
         updateEffects(deltaTime);
         updateCombo(deltaTime);
-        updateFloatingTexts();
-        cleanupBricks();
         checkBricksReachedPaddle();
         checkWinCondition();
     }
@@ -330,11 +605,13 @@ public class GameManager {
         
         ball.setX((int) ballX);
         ball.setY(paddle.getY() - ball.getHeight() - BALL_OFFSET_FROM_PADDLE);
+        ball.setSubPixel(0, 0);
     }
 
     private void updateEndlessMode(double deltaTime) {
         // Giảm dần thời gian sinh hàng để tăng độ khó
-        spawnInterval = Math.max(MIN_SPAWN_INTERVAL_SECONDS, spawnInterval - SPAWN_INTERVAL_DECAY_PER_SEC * deltaTime);
+        spawnInterval = Math.max(endlessConfig.getMinSpawnIntervalSeconds(),
+                spawnInterval - endlessConfig.getSpawnIntervalDecayPerSec() * deltaTime);
 
         spawnTimer += deltaTime;
         if (spawnTimer >= spawnInterval) {
@@ -354,225 +631,179 @@ public class GameManager {
         }
     }
 
-    private void updateFloatingTexts() {
-        floatingTexts.removeIf(f -> !f.isActive());
-        floatingTexts.forEach(FloatingText::update);
-    }
-
-    private void cleanupBricks() {
-        bricks.removeIf(b -> b.isDestroyed() ||
-            b.getY() > SCREEN_HEIGHT + BRICK_HEIGHT ||
-            b.getY() < -BRICK_HEIGHT);
-    }
-
-    private boolean isMenuState(GameState state) {
-        return state == GameState.MENU
-                || state == GameState.HIGHSCORE
-                || state == GameState.INSTRUCTION
-                || state == GameState.SETTINGS;
-    }
-
-    private boolean isGameOverState(GameState state) {
-        return state == GameState.NAME_INPUT
-                || state == GameState.GAME_OVER
-                || state == GameState.GAME_WON;
-    }
-
-    private void handleMusicForTransition(GameState from, GameState to) {
-        if (from == to) {
-            return;
-        }
-
-        if (from == GameState.RUNNING && to == GameState.PAUSED) {
-            pauseGameMusic();
-            stopMenuMusic();
-            stopGameOverMusic();
-            return;
-        }
-
-        if (from == GameState.PAUSED && to == GameState.RUNNING) {
-            stopMenuMusic();
-            stopGameOverMusic();
-            resumeGameMusic();
-            return;
-        }
-
-        if (to == GameState.RUNNING) {
-            stopMenuMusic();
-            stopGameOverMusic();
-            startGameMusic();
-            return;
-        }
-
-        if (from == GameState.RUNNING) {
-            stopGameMusic();
-        } else if (from == GameState.PAUSED) {
-            stopGameMusic();
-        }
 
-        if (isGameOverState(to)) {
-            stopMenuMusic();
-            startGameOverMusic();
-            return;
-        }
-
-        if (isMenuState(to)) {
-            stopGameOverMusic();
-            startMenuMusic();
-        } else {
-            stopMenuMusic();
-            stopGameOverMusic();
+    private void checkBricksReachedPaddle() {
+        int bottomRow = brickGrid.getBottomOccupiedRow();
+        if (bottomRow >= 0 && brickGrid.rowY(bottomRow) + BRICK_HEIGHT >= paddle.getY() - 1) {
+            triggerGameOver();
         }
     }
 
-    private void startMenuMusic() {
-        if (menuMusicPlayer != null) {
+    private void triggerGameOver() {
+        // Điều kiện thua có thể còn đúng ở các tick sau: không khởi động lại chuyển cảnh đang chạy
+        if (stateTransition.isActive() && stateTransition.getToState() == GameState.NAME_INPUT) {
             return;
         }
-        double volume = SoundManager.getInstance().getMasterVolume();
-        menuMusicPlayer = SoundManager.getInstance().playSoundLooping("mainMenuBGM", volume);
-        if (menuMusicPlayer == null) {
-            System.err.println("Không thể phát menu BGM");
-        }
-    }
-
-    private void stopMenuMusic() {
-        if (menuMusicPlayer != null) {
-            SoundManager.getInstance().stopLoop(menuMusicPlayer);
-            menuMusicPlayer = null;
-        }
+        // Chuẩn bị dữ liệu NAME_INPUT và bắt đầu chuyển cảnh
+        scoreToSave = score;
+        currentPlayerName = "";
+        startStateTransition(GameState.NAME_INPUT);
     }
 
-    private void startGameMusic() {
-        double volume = SoundManager.getInstance().getMasterVolume();
-        if (gameMusicPlayer == null) {
-            gameMusicPlayer = SoundManager.getInstance().playSoundLooping("inGameBGM", volume);
-            if (gameMusicPlayer == null) {
-                System.err.println("Không thể phát in-game BGM");
-                return;
-            }
-        } else {
-            gameMusicPlayer.setVolume(volume);
-            if (gameMusicPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
-                gameMusicPlayer.play();
-            }
-        }
-    }
 
-    private void stopGameMusic() {
-        if (gameMusicPlayer != null) {
-            SoundManager.getInstance().stopLoop(gameMusicPlayer);
-            gameMusicPlayer = null;
+    private void checkScoreMilestone(int oldScore, int newScore) {
+        int reached = milestones.advance(newScore);
+        if (reached >= 0) {
+            events.add(GameEventBuffer.SCORE_MILESTONE, reached, 0, 0, 0);
         }
     }
 
-    private void pauseGameMusic() {
-        if (gameMusicPlayer != null && gameMusicPlayer.getStatus() == MediaPlayer.Status.PLAYING) {
-            gameMusicPlayer.pause();
-        }
-    }
+    /**
+     * Kiểm tra toàn bộ va chạm trong frame hiện tại:
+     * - Bóng với tường, đáy màn hình (mất mạng)
+     * - Bóng với thanh đỡ (tính toán góc nảy)
+     * - Bóng với gạch (cập nhật điểm, hiệu ứng chữ nổi)
+     */
+    private void checkCollisions() {
+        if (ball == null && extraBalls.isEmpty()) return;
 
-    private void resumeGameMusic() {
-        if (gameMusicPlayer != null) {
-            gameMusicPlayer.setVolume(SoundManager.getInstance().getMasterVolume());
-            if (gameMusicPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
-                gameMusicPlayer.play();
+        // Kiểm tra bóng chính
+        if (ball != null) {
+            if (continuousCollision) {
+                moveBallSwept(ball, true);
+            } else {
+                checkCollisionsFor(ball, true);
             }
-        } else {
-            startGameMusic();
         }
-    }
-
-    private void startGameOverMusic() {
-        double volume = SoundManager.getInstance().getMasterVolume();
-        if (gameOverMusicPlayer == null) {
-            gameOverMusicPlayer = SoundManager.getInstance().playSoundLooping("gameOverBGM", volume);
-            if (gameOverMusicPlayer == null) {
-                System.err.println("Không thể phát game-over BGM");
-            }
-        } else {
-            gameOverMusicPlayer.setVolume(volume);
-            if (gameOverMusicPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
-                gameOverMusicPlayer.play();
+        // Kiểm tra bóng phụ (duyệt ngược vì bóng có thể bị gỡ khỏi danh sách khi rơi)
+        for (int i = extraBalls.size() - 1; i >= 0; i--) {
+            if (i < extraBalls.size()) {
+                if (continuousCollision) {
+                    moveBallSwept(extraBalls.get(i), false);
+                } else {
+                    checkCollisionsFor(extraBalls.get(i), false);
+                }
             }
         }
     }
 
-    private void stopGameOverMusic() {
-        if (gameOverMusicPlayer != null) {
-            SoundManager.getInstance().stopLoop(gameOverMusicPlayer);
-            gameOverMusicPlayer = null;
-        }
-    }
+    /**
+     * Di chuyển bóng trọn một tick với va chạm liên tục: tìm va chạm sớm nhất (tường, paddle, gạch)
+     * trên quãng đường còn lại, đặt bóng tại điểm chạm, đổi hướng rồi đi tiếp phần thời gian còn lại.
+     * @param b bóng
+     * @param isPrimary có phải bóng chính không
+     */
+    private void moveBallSwept(Ball b, boolean isPrimary) {
+        if (!b.isLaunched()) return;
 
-    public void refreshMusicVolume() {
-        double volume = SoundManager.getInstance().getMasterVolume();
-        if (menuMusicPlayer != null) {
-            menuMusicPlayer.setVolume(volume);
+        // Paddle đã tự di chuyển đè lên bóng trong tick này: xử lý như va chạm thường
+        if (b.getDy() > 0 && b.intersects(paddle)) {
+            handlePaddleHit(b, isPrimary);
+            if (!b.isLaunched()) return;
         }
-        if (gameMusicPlayer != null) {
-            gameMusicPlayer.setVolume(volume);
-        }
-        if (gameOverMusicPlayer != null) {
-            gameOverMusicPlayer.setVolume(volume);
-        }
-    }
 
-    private void checkBricksReachedPaddle() {
-        for (Brick b : bricks) {
-            if (!b.isDestroyed() && (b.getY() + b.getHeight() >= paddle.getY() - 1)) {
-                triggerGameOver();
-                return;
+        // Vị trí thực (kể cả phần lẻ) và vận tốc tính theo pixel mỗi tick
+        int tickRate = getTickRate();
+        int w = b.getWidth();
+        int h = b.getHeight();
+        double x = b.getX() + b.getSubX() / (double) tickRate;
+        double y = b.getY() + b.getSubY() / (double) tickRate;
+        double remaining = 1.0;
+
+        for (int iteration = 0; iteration < MAX_SWEEP_ITERATIONS && remaining > 0.0; iteration++) {
+            double vx = b.getDx() / tickRate;
+            double vy = b.getDy() / tickRate;
+            double hitTime = remaining;
+            int hitKind = SWEEP_NONE;
+            Brick hitBrick = null;
+            int hitNormalX = 0;
+
+            // Tường trái/phải/trên
+            if (vx < 0) {
+                double t = Math.max(0.0, -x / vx);
+                if (t < hitTime) { hitTime = t; hitKind = SWEEP_LEFT_WALL; }
+            } else if (vx > 0) {
+                double t = Math.max(0.0, (SCREEN_WIDTH - w - x) / vx);
+                if (t < hitTime) { hitTime = t; hitKind = SWEEP_RIGHT_WALL; }
+            }
+            if (vy < 0) {
+                double t = Math.max(0.0, -y / vy);
+                if (t < hitTime) { hitTime = t; hitKind = SWEEP_TOP_WALL; }
             }
-        }
-    }
 
-    private void triggerGameOver() {
-        // Chuẩn bị dữ liệu NAME_INPUT và bắt đầu chuyển cảnh
-        scoreToSave = score;
-        currentPlayerName = "";
-        startStateTransition(GameState.NAME_INPUT);
-    }
+            // Paddle (chỉ khi bóng đang rơi xuống)
+            if (vy > 0 && sweep.sweep(x, y, w, h, vx, vy,
+                    paddle.getX(), paddle.getY(), paddle.getWidth(), paddle.getHeight(), hitTime)
+                    && sweep.getTime() < hitTime) {
+                hitTime = sweep.getTime();
+                hitKind = SWEEP_PADDLE;
+            }
 
+            // Gạch trong vùng quét của quãng đường còn lại
+            double endX = x + vx * hitTime;
+            double endY = y + vy * hitTime;
+            int candidateCount = brickGrid.query(
+                    (int) Math.floor(Math.min(x, endX)),
+                    (int) Math.floor(Math.min(y, endY)),
+                    (int) Math.ceil(Math.max(x, endX)) + w,
+                    (int) Math.ceil(Math.max(y, endY)) + h,
+                    brickCandidates);
+            for (int i = 0; i < candidateCount; i++) {
+                Brick brick = brickCandidates[i];
+                brickCandidates[i] = null;
+                if (brick.isDestroyed()) continue;
+                if (sweep.sweep(x, y, w, h, vx, vy,
+                        brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight(), hitTime)
+                        && (hitKind == SWEEP_NONE || sweep.getTime() < hitTime)) {
+                    hitTime = sweep.getTime();
+                    hitKind = SWEEP_BRICK;
+                    hitBrick = brick;
+                    hitNormalX = sweep.getNormalX();
+                }
+            }
 
-    private void checkScoreMilestone(int oldScore, int newScore) {
-        while (newScore >= nextScoreMilestone) {
-            String label = formatScore(nextScoreMilestone) + "!";
-            double cx = SCREEN_WIDTH / 2.0 - 80;
-            double cy = SCREEN_HEIGHT / 2.0 - 40;
-            floatingTexts.add(new FloatingText(cx, cy, label, Color.BEIGE, 60, -0.6, 0.015));
-            nextScoreMilestone += 250;
-        }
-    }
+            x += vx * hitTime;
+            y += vy * hitTime;
+            remaining -= hitTime;
 
-    private String formatScore(int value) {
-        String s = Integer.toString(value);
-        StringBuilder out = new StringBuilder();
-        int len = s.length();
-        for (int i = 0; i < len; i++) {
-            out.append(s.charAt(i));
-            int remaining = len - i - 1;
-            if (remaining > 0 && remaining % 3 == 0) out.append(',');
+            if (hitKind == SWEEP_NONE) {
+                break;
+            }
+            if (hitKind == SWEEP_LEFT_WALL) {
+                b.resolveLeftWallCollision();
+                x = b.getX();
+            } else if (hitKind == SWEEP_RIGHT_WALL) {
+                b.resolveRightWallCollision(SCREEN_WIDTH);
+                x = b.getX();
+            } else if (hitKind == SWEEP_TOP_WALL) {
+                b.setDy((int) Math.abs(b.getDy()));
+                y = 0;
+            } else if (hitKind == SWEEP_PADDLE) {
+                b.setX((int) Math.round(x));
+                handlePaddleHit(b, isPrimary);
+                if (!b.isLaunched()) return;
+                x = b.getX();
+                y = b.getY();
+            } else {
+                // Đặt bóng sát mặt gạch theo trục bị chạm để tick sau không bị chồng lấn
+                if (hitNormalX != 0) {
+                    x = hitNormalX < 0 ? hitBrick.getX() - w : hitBrick.getX() + hitBrick.getWidth();
+                    b.bounceX();
+                } else {
+                    y = vy > 0 ? hitBrick.getY() - h : hitBrick.getY() + hitBrick.getHeight();
+                    b.bounceY();
+                }
+                hitBrick.takeHit();
+                brickGrid.removeIfDestroyed(hitBrick);
+                onBrickHit(hitBrick);
+            }
         }
-        return out.toString();
-    }
 
-    /**
-     * Kiểm tra toàn bộ va chạm trong frame hiện tại:
-     * - Bóng với tường, đáy màn hình (mất mạng)
-     * - Bóng với thanh đỡ (tính toán góc nảy)
-     * - Bóng với gạch (cập nhật điểm, hiệu ứng chữ nổi)
-     */
-    private void checkCollisions() {
-        if (ball == null && extraBalls.isEmpty()) return;
+        // Phần lẻ được giữ lại nên tick sau quét tiếp từ đúng vị trí thực, không lấn vào vật cản
+        b.setExactPosition(x, y, tickRate);
 
-        // Kiểm tra bóng chính
-        if (ball != null) {
-            checkCollisionsFor(ball, true);
-        }
-        // Kiểm tra bóng phụ
-        for (Ball eb : new ArrayList<>(extraBalls)) {
-            checkCollisionsFor(eb, false);
+        if (b.getY() + b.getHeight() >= SCREEN_HEIGHT) {
+            handleBallOutOfBounds(b, isPrimary);
         }
     }
 
@@ -594,66 +825,97 @@ public class GameManager {
         }
 
         // Paddle
-        if (b.getBounds().intersects(paddle.getBounds())) {
-            if (isPrimary && magnetActive) {
-                // Dính bóng chính vào tâm paddle; chờ SPACE để phóng
-                // Dừng chuyển động ngay
-                b.setDx(0);
-                b.setDy(0);
-                b.setLaunched(false);
-                // Gắn vào tâm paddle
-                double paddleCenterX = paddle.getX() + paddle.getWidth() / 2.0;
-                attachBallToPaddleAt(paddleCenterX);
-            } else {
-                if (!isPrimary && magnetActive) {
-                    // Hiện "!extra" khi bóng phụ chạm paddle trong hiệu ứng magnet
-                    double textX = b.getX() + b.getWidth() / 2.0;
-                    floatingTexts.add(new FloatingText(textX, paddle.getY() - 20, "!extra", Color.web("#ffcdcd"), 24, -0.8, 0.015));
-                }
-                b.calculateBounceFromPaddle(paddle);
-            }
-            SoundManager.getInstance().playSound("paddleHit");
+        if (b.intersects(paddle)) {
+            handlePaddleHit(b, isPrimary);
         }
 
-        // Gạch
-        for (Brick brick : new ArrayList<>(bricks)) {
+        // Gạch: chỉ xét các ô lưới mà vùng quét của bóng trong tick này chồng lên
+        int tickRate = getTickRate();
+        int prevX = b.getX() - maxStepPixels(b.getDx(), tickRate);
+        int prevY = b.getY() - maxStepPixels(b.getDy(), tickRate);
+        int candidateCount = brickGrid.query(
+                Math.min(prevX, b.getX()),
+                Math.min(prevY, b.getY()),
+                Math.max(prevX, b.getX()) + b.getWidth(),
+                Math.max(prevY, b.getY()) + b.getHeight(),
+                brickCandidates);
+        for (int i = 0; i < candidateCount; i++) {
+            Brick brick = brickCandidates[i];
+            brickCandidates[i] = null;
             if (brick.isDestroyed()) continue;
-            if (b.handleCollisionWith(brick)) {
-                int oldScore = score;
-                
-                // Tăng combo và reset timer
-                comboCount++;
-                comboTimer = COMBO_TIMEOUT;
-                
-                // Tính điểm với hệ số combo
-                int baseScore = SCORE_PER_BRICK;
-                int comboMultiplier = (comboCount >= COMBO_MULTIPLIER_START) ? comboCount : 1;
-                int actualScore = baseScore * comboMultiplier;
-                score += actualScore;
-                
-                // Phát âm thanh khi gạch vỡ
-                SoundManager.getInstance().playSound("brickHit");
-                
-                // Hiển thị điểm và combo
-                double textX = brick.getX() + brick.getWidth() / 2.0;
-                if (comboCount >= COMBO_MULTIPLIER_START) {
-                    floatingTexts.add(new FloatingText(textX, brick.getY(), "+" + actualScore + " (x" + comboCount + ")", Color.color(0.82, 0.83, 0.71, 0.9), 28, -0.8, 0.015));
-                } else {
-                    floatingTexts.add(new FloatingText(textX, brick.getY(), "+" + actualScore));
-                }
-                
-                checkScoreMilestone(oldScore, score);
-                if (brick.isDestroyed() && brick instanceof PowerUpBrick) {
-                    PowerUp p = ((PowerUpBrick) brick).spawnPowerUp();
-                    if (p != null) {
-                        powerUps.add(p);
-                    }
+            if (b.handleCollisionWith(brick, tickRate)) {
+                brickGrid.removeIfDestroyed(brick);
+                onBrickHit(brick);
+                for (int j = i + 1; j < candidateCount; j++) {
+                    brickCandidates[j] = null;
                 }
                 break;
             }
         }
     }
 
+    // Số pixel nguyên lớn nhất (cùng dấu với vận tốc) một bóng có thể đi trong một tick
+    private static int maxStepPixels(double velocity, int tickRate) {
+        int pixels = (int) Math.ceil(Math.abs(velocity) / tickRate);
+        return velocity < 0 ? -pixels : pixels;
+    }
+
+    /**
+     * Xử lý bóng chạm paddle: dính vào paddle nếu đang có magnet, ngược lại tính góc nảy.
+     * @param b bóng
+     * @param isPrimary có phải bóng chính không
+     */
+    private void handlePaddleHit(Ball b, boolean isPrimary) {
+        if (isPrimary && magnetActive) {
+            // Dính bóng chính vào tâm paddle; chờ SPACE để phóng
+            // Dừng chuyển động ngay
+            b.setDx(0);
+            b.setDy(0);
+            b.setLaunched(false);
+            // Gắn vào tâm paddle
+            double paddleCenterX = paddle.getX() + paddle.getWidth() / 2.0;
+            attachBallToPaddleAt(paddleCenterX);
+        } else {
+            b.calculateBounceFromPaddle(paddle);
+        }
+        events.add(GameEventBuffer.PADDLE_HIT, isPrimary ? 1 : 0, magnetActive ? 1 : 0,
+                b.getX() + b.getWidth() / 2, paddle.getY());
+    }
+
+    /**
+     * Cộng điểm/combo, hiệu ứng và rơi power-up sau khi bóng vừa đánh trúng một viên gạch.
+     * @param brick gạch vừa bị đánh trúng
+     */
+    private void onBrickHit(Brick brick) {
+        int oldScore = score;
+        
+        // Tăng combo và reset timer
+        comboCount++;
+        comboTimer = COMBO_TIMEOUT;
+        
+        // Tính điểm với hệ số combo
+        int baseScore = SCORE_PER_BRICK;
+        int comboMultiplier = (comboCount >= COMBO_MULTIPLIER_START) ? comboCount : 1;
+        int actualScore = baseScore * comboMultiplier;
+        score += actualScore;
+        
+        // Âm thanh và chữ nổi điểm/combo do listener xử lý cuối tick
+        addBrickEvents(brick, actualScore, comboMultiplier);
+        
+        checkScoreMilestone(oldScore, score);
+        if (brick.isDestroyed() && brick instanceof PowerUpBrick) {
+            queuePowerUpDrop((PowerUpBrick) brick);
+        }
+    }
+
+    private void addBrickEvents(Brick brick, int points, int combo) {
+        int x = brick.getX() + brick.getWidth() / 2;
+        events.add(GameEventBuffer.BRICK_HIT, points, combo, x, brick.getY());
+        if (brick.isDestroyed()) {
+            events.add(GameEventBuffer.BRICK_DESTROYED, BrickFactory.typeOf(brick), 0, x, brick.getY());
+        }
+    }
+
     private void handleBallOutOfBounds(Ball b, boolean isPrimary) {
         int total = (ball != null ? 1 : 0) + extraBalls.size();
         if (total > 1) {
@@ -673,47 +935,153 @@ public class GameManager {
     }
 
     /**
-     * Thêm một hàng gạch mới ở trên cùng cho chế độ vô tận, đồng thời đẩy các hàng hiện tại xuống dưới.
-     * Có logic chống lặp mẫu để tạo cảm giác đa dạng theo thời gian.
+     * Cập nhật toàn bộ bóng của Ball Storm trong một vòng lặp trên các mảng nguyên thuỷ:
+     * phát thêm bóng từ paddle, di chuyển, dội tường/paddle/gạch và gỡ bóng rơi khỏi màn hình.
      */
-    private void addRowAtTop() {
-        int topRowY = findTopRowY();
-        int[] previousPattern = captureTopRowPattern(topRowY);
+    private void updateBallStorm() {
+        if (ball != null && ball.isLaunched()) {
+            emitStormBalls();
+        }
 
-        shiftBricksDown();
+        int tickRate = getTickRate();
+        int size = stormBalls.getBallSize();
+        int[] xs = stormBalls.getXs();
+        int[] ys = stormBalls.getYs();
+        int[] subXs = stormBalls.getSubXs();
+        int[] subYs = stormBalls.getSubYs();
+        int[] dxs = stormBalls.getDxs();
+        int[] dys = stormBalls.getDys();
+        byte[] flags = stormBalls.getFlags();
+        int paddleX = paddle.getX();
+        int paddleY = paddle.getY();
+        int paddleW = paddle.getWidth();
+        int paddleH = paddle.getHeight();
+        int paddleCenter2 = 2 * paddleX + paddleW;
+
+        int i = 0;
+        while (i < stormBalls.size()) {
+            flags[i] = BallPool.FLAG_NONE;
+            int subX = subXs[i] + dxs[i];
+            int subY = subYs[i] + dys[i];
+            int x = xs[i] + Math.floorDiv(subX, tickRate);
+            int y = ys[i] + Math.floorDiv(subY, tickRate);
+            subXs[i] = Math.floorMod(subX, tickRate);
+            subYs[i] = Math.floorMod(subY, tickRate);
+
+            if (y + size >= SCREEN_HEIGHT) {
+                stormBalls.removeAt(i);
+                continue;
+            }
+            if (x <= 0) {
+                x = 0;
+                dxs[i] = Math.abs(dxs[i]);
+            } else if (x + size >= SCREEN_WIDTH) {
+                x = SCREEN_WIDTH - size;
+                dxs[i] = -Math.abs(dxs[i]);
+            }
+            if (y <= 0) {
+                y = 0;
+                dys[i] = Math.abs(dys[i]);
+            }
 
-        int[] newPattern = generateNewRowPattern(previousPattern);
-        spawnNewRow(topRowY, newPattern);
+            // Paddle: góc nảy đơn giản theo khoảng cách từ tâm paddle
+            if (dys[i] > 0 && x < paddleX + paddleW && paddleX < x + size
+                    && y < paddleY + paddleH && paddleY < y + size) {
+                int dx = ((2 * x + size - paddleCenter2) * STORM_MAX_SPEED_X) / paddleW;
+                dx = Math.max(-STORM_MAX_SPEED_X, Math.min(STORM_MAX_SPEED_X, dx));
+                int minDx = STORM_MAX_SPEED_X / STORM_FAN_STEPS;
+                dxs[i] = dx != 0 ? dx : (dxs[i] < 0 ? -minDx : minDx);
+                dys[i] = -Math.abs(dys[i]);
+                y = paddleY - size - 1;
+            }
 
-        spawnTimer = 0.0;
+            // Gạch: tối đa một viên mỗi tick cho mỗi bóng
+            int candidateCount = brickGrid.query(x, y, x + size, y + size, brickCandidates);
+            for (int c = 0; c < candidateCount; c++) {
+                Brick brick = brickCandidates[c];
+                brickCandidates[c] = null;
+                if (flags[i] != BallPool.FLAG_NONE || brick.isDestroyed()) continue;
+                int overlapW = Math.min(x + size, brick.getX() + brick.getWidth()) - Math.max(x, brick.getX());
+                int overlapH = Math.min(y + size, brick.getY() + brick.getHeight()) - Math.max(y, brick.getY());
+                if (overlapW <= 0 || overlapH <= 0) continue;
+
+                if (overlapW < overlapH) {
+                    dxs[i] = -dxs[i];
+                    x += (2 * x + size < 2 * brick.getX() + brick.getWidth()) ? -overlapW : overlapW;
+                } else {
+                    dys[i] = -dys[i];
+                    y += (2 * y + size < 2 * brick.getY() + brick.getHeight()) ? -overlapH : overlapH;
+                }
+                flags[i] = BallPool.FLAG_HIT_THIS_TICK;
+                brick.takeHit();
+                brickGrid.removeIfDestroyed(brick);
+                onStormBrickHit(brick);
+            }
+
+            xs[i] = x;
+            ys[i] = y;
+            i++;
+        }
     }
 
-    private int findTopRowY() {
-        int minY = Integer.MAX_VALUE;
-        for (Brick b : bricks) {
-            if (!b.isDestroyed()) {
-                minY = Math.min(minY, b.getY());
+    private void emitStormBalls() {
+        int x = paddle.getX() + paddle.getWidth() / 2 - BALL_SIZE / 2;
+        int y = paddle.getY() - BALL_SIZE - BALL_OFFSET_FROM_PADDLE;
+        // Số bóng mỗi giây cố định; phần lẻ dồn sang tick sau
+        int tickRate = getTickRate();
+        stormEmitBudget += STORM_BALLS_PER_SECOND;
+        int count = stormEmitBudget / tickRate;
+        stormEmitBudget %= tickRate;
+        for (int n = 0; n < count; n++) {
+            // Quạt hướng bắn lần lượt từ trái sang phải, bỏ qua hướng thẳng đứng
+            int step = (stormEmitCounter % (2 * STORM_FAN_STEPS)) - STORM_FAN_STEPS;
+            if (step >= 0) step++;
+            stormEmitCounter++;
+            int dx = step * STORM_MAX_SPEED_X / STORM_FAN_STEPS;
+            if (stormBalls.spawn(x, y, dx, -STORM_BALL_SPEED_Y) < 0) {
+                return;
             }
         }
-        return minY == Integer.MAX_VALUE ? BRICK_OFFSET_Y : minY;
     }
 
-    private int[] captureTopRowPattern(int topRowY) {
-        int[] pattern = new int[cols];
-        for (Brick b : bricks) {
-            if (b.isDestroyed() || b.getY() != topRowY) continue;
-            int colIndex = (b.getX() - offsetX) / BRICK_WIDTH;
-            if (colIndex >= 0 && colIndex < cols) {
-                pattern[colIndex] = (b instanceof StrongBrick) ? 2 : 1;
-            }
+    private void onStormBrickHit(Brick brick) {
+        int oldScore = score;
+        score += SCORE_PER_BRICK;
+        // Combo 0: bóng storm không hiện chữ nổi; listener tự gộp âm thanh của cả tick
+        addBrickEvents(brick, SCORE_PER_BRICK, 0);
+        checkScoreMilestone(oldScore, score);
+        if (brick.isDestroyed() && brick instanceof PowerUpBrick) {
+            queuePowerUpDrop((PowerUpBrick) brick);
         }
-        return pattern;
     }
 
-    private void shiftBricksDown() {
-        for (Brick b : bricks) {
-            b.setY(b.getY() + BRICK_HEIGHT);
+    /**
+     * Thêm một hàng gạch mới ở trên cùng cho chế độ vô tận, đồng thời đẩy các hàng hiện tại xuống dưới.
+     * Có logic chống lặp mẫu để tạo cảm giác đa dạng theo thời gian.
+     * Để package-private cho benchmark JMH (src/jmh/java) gọi trực tiếp.
+     */
+    void addRowAtTop() {
+        // Hàng mới nằm ngay vị trí của hàng trên cùng hiện tại; các hàng cũ dịch xuống một hàng
+        int topRow = Math.max(0, brickGrid.getTopOccupiedRow());
+        int[] previousPattern = captureRowPattern(topRow);
+
+        brickGrid.pushRowTop();
+
+        int[] newPattern = generateNewRowPattern(previousPattern);
+        spawnNewRow(topRow, newPattern);
+
+        spawnTimer = 0.0;
+    }
+
+    private int[] captureRowPattern(int row) {
+        int[] pattern = new int[cols];
+        for (int c = 0; c < cols; c++) {
+            Brick b = brickGrid.get(row, c);
+            if (b != null && !b.isDestroyed()) {
+                pattern[c] = (b instanceof StrongBrick) ? 2 : 1;
+            }
         }
+        return pattern;
     }
 
     private int[] generateNewRowPattern(int[] previousPattern) {
@@ -731,9 +1099,9 @@ public class GameManager {
     private void generateRandomPattern(int[] pattern) {
         for (int c = 0; c < cols; c++) {
             int r = random.nextInt(100);
-            if (r < (int)(EMPTY_BRICK_CHANCE * 100)) {
+            if (r < (int)(endlessConfig.getEmptyBrickChance() * 100)) {
                 pattern[c] = 0;
-            } else if (r < (int)(NORMAL_BRICK_CHANCE * 100)) {
+            } else if (r < (int)(endlessConfig.getNormalBrickChance() * 100)) {
                 pattern[c] = 1;
             } else {
                 pattern[c] = 2;
@@ -755,12 +1123,11 @@ public class GameManager {
         pattern[colToFlip] = (previousPattern[colToFlip] == 0) ? 1 : 0;
     }
 
-    private void spawnNewRow(int rowY, int[] pattern) {
+    private void spawnNewRow(int row, int[] pattern) {
         for (int c = 0; c < cols; c++) {
-            int x = offsetX + c * BRICK_WIDTH;
-            Brick brick = createBrickFromPattern(pattern[c], x, rowY);
+            Brick brick = createBrickFromPattern(pattern[c], brickGrid.columnX(c), brickGrid.rowY(row));
             if (brick != null) {
-                bricks.add(brick);
+                brickGrid.set(row, c, brick);
             }
         }
     }
@@ -775,6 +1142,7 @@ public class GameManager {
             return;
         }
         lives--;
+        events.add(GameEventBuffer.LIFE_LOST, lives, 0, 0, 0);
         if (lives <= 0) {
             triggerGameOver();
         } else {
@@ -782,6 +1150,7 @@ public class GameManager {
             isResetting = true;
             resetTimer = 0.0;
             extraBalls.clear();
+            stormBalls.clear();
         }
     }
 
@@ -795,40 +1164,390 @@ public class GameManager {
     }
 
     private void checkWinCondition() {
-        boolean allDestroyed = bricks.stream().allMatch(Brick::isDestroyed);
-        if (allDestroyed) {
-            setCurrentState(GameState.GAME_WON);
+        if (brickGrid.getLiveCount() > 0) {
+            return;
+        }
+        if (ballStormMode) {
+            // Ball Storm không có điểm kết thúc: dọn sạch màn thì sinh ngay hàng mới
+            addRowAtTop();
+            return;
         }
+        setCurrentState(GameState.GAME_WON);
     }
 
+    /**
+     * Tạm dừng game ở đầu tick kế tiếp (đi qua hàng đợi input để replay tái hiện được).
+     */
     public void pauseGame() {
+        submitInput(InputCommand.PAUSE);
+    }
+
+    /**
+     * Tiếp tục game ở đầu tick kế tiếp.
+     */
+    public void resumeGame() {
+        submitInput(InputCommand.RESUME);
+    }
+
+    private void applyPause() {
         if (currentState == GameState.RUNNING) {
             GameState previous = currentState;
             currentState = GameState.PAUSED;
             spawnTimer = 0.0;
-            handleMusicForTransition(previous, currentState);
+            fireStateChanged(previous, currentState);
         }
     }
 
-    public void resumeGame() {
+    private void applyResume() {
         if (currentState == GameState.PAUSED) {
             GameState previous = currentState;
             currentState = GameState.RUNNING;
-            lastUpdateNano = System.nanoTime();
-            handleMusicForTransition(previous, currentState);
+            timestep.reset(System.nanoTime());
+            fireStateChanged(previous, currentState);
         }
     }
 
-    public void onAudioReady() {
-        if (currentState == GameState.RUNNING) {
-            startGameMusic();
-        } else if (isGameOverState(currentState)) {
-            startGameOverMusic();
-        } else if (isMenuState(currentState)) {
-            startMenuMusic();
+    private void fireStateChanged(GameState from, GameState to) {
+        events.add(GameEventBuffer.STATE_CHANGED, from.ordinal(), to.ordinal(), 0, 0);
+        // Rời khỏi ván đang chơi: chốt nhật ký input
+        if (inputLog != null && !inputLog.isFinished() && isPlaying(from) && !isPlaying(to)) {
+            inputLog.finish(tickCount, score);
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onGameFinished(inputLog);
+            }
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onStateChanged(from, to);
+        }
+    }
+
+    private boolean isPlaying(GameState state) {
+        return state == GameState.RUNNING || state == GameState.PAUSED;
+    }
+
+    private void fireGameStarted(boolean alreadyRunning) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onGameStarted(alreadyRunning);
+        }
+    }
+
+    /**
+     * Đổi tần số tick mô phỏng (gọi trước startGame; ván đang chơi sẽ ghi sai tần số vào nhật ký).
+     * Vận tốc tính theo pixel/giây và bộ đếm tính theo giây nên tốc độ chơi không đổi,
+     * chỉ độ mịn của mô phỏng thay đổi.
+     * @param tickRate số tick mỗi giây
+     */
+    public void setTickRate(int tickRate) {
+        timestep = new FixedTimestep(tickRate, MAX_CATCH_UP_TICKS);
+        timestep.reset(System.nanoTime());
+        if (rewindHistory != null) {
+            rewindHistory = newRewindHistory();
         }
     }
 
+    public int getTickRate() { return timestep.getTickRate(); }
+
+    public boolean isContinuousCollision() { return continuousCollision; }
+
+    /**
+     * Bật/tắt va chạm liên tục (swept) cho bóng; cần khi tốc độ bóng vượt quá chiều cao gạch.
+     * @param enabled true để dùng va chạm liên tục
+     */
+    public void setContinuousCollision(boolean enabled) { continuousCollision = enabled; }
+
+    /**
+     * Phóng bóng đang dính paddle ở đầu tick kế tiếp.
+     */
+    public void launchBall() {
+        submitInput(InputCommand.LAUNCH);
+    }
+
+    // Thẳng lên khi có magnet, ngược lại chéo sang trái/phải ngẫu nhiên
+    private void applyLaunch() {
+        if (ball == null || ball.isLaunched()) return;
+        if (magnetActive) {
+            ball.launch(0, -BALL_LAUNCH_SPEED_Y);
+        } else {
+            int dx = random.nextBoolean() ? -BALL_LAUNCH_SPEED_X : BALL_LAUNCH_SPEED_X;
+            ball.launch(dx, -BALL_LAUNCH_SPEED_Y);
+        }
+    }
+
+    /**
+     * Chụp trạng thái mô phỏng hiện tại vào snapshot (ghi đè nội dung cũ, dùng lại các mảng của nó).
+     * @param snapshot snapshot đích
+     */
+    public void saveSnapshot(GameSnapshot snapshot) {
+        snapshot.tick = tickCount;
+        snapshot.randomState = random.getState();
+
+        int[] ints = snapshot.ints;
+        int k = 0;
+        ints[k++] = score;
+        ints[k++] = lives;
+        ints[k++] = currentState.ordinal();
+        ints[k++] = comboCount;
+        ints[k++] = milestones.getNext();
+        ints[k++] = isResetting ? 1 : 0;
+        ints[k++] = magnetActive ? 1 : 0;
+        ints[k++] = paddleExpanded ? 1 : 0;
+        ints[k++] = originalPaddleWidth;
+        ints[k++] = stormEmitCounter;
+        ints[k++] = stormEmitBudget;
+        ints[k++] = scoreToSave;
+        ints[k++] = paddle.getX();
+        ints[k++] = paddle.getSubX();
+        ints[k++] = paddle.getY();
+        ints[k++] = paddle.getWidth();
+        ints[k++] = paddle.isMovingLeft() ? 1 : 0;
+        ints[k++] = paddle.isMovingRight() ? 1 : 0;
+        ints[k++] = ball != null ? 1 : 0;
+        ints[k++] = stateTransition.isActive() ? 1 : 0;
+        ints[k++] = stateTransition.getFromState() != null ? stateTransition.getFromState().ordinal() : -1;
+        ints[k++] = stateTransition.getToState() != null ? stateTransition.getToState().ordinal() : -1;
+        ints[k++] = stateTransition.isSwitched() ? 1 : 0;
+
+        double[] doubles = snapshot.doubles;
+        k = 0;
+        doubles[k++] = comboTimer;
+        doubles[k++] = spawnInterval;
+        doubles[k++] = spawnTimer;
+        doubles[k++] = resetTimer;
+        doubles[k++] = magnetTimer;
+        doubles[k++] = expandTimer;
+        doubles[k++] = ballPaddleOffset;
+        doubles[k++] = stateTransition.getTimer();
+        doubles[k++] = stateTransition.getDuration();
+
+        int cells = brickGrid.getCols() * brickGrid.getRows();
+        if (snapshot.bricks.length != cells) {
+            snapshot.bricks = new byte[cells];
+        }
+        brickGrid.writeCells(snapshot.bricks);
+
+        // Bóng chính (nếu có) đứng đầu, sau đó là các bóng phụ theo thứ tự
+        int ballCount = (ball != null ? 1 : 0) + extraBalls.size();
+        int[] balls = GameSnapshot.ensureCapacity(snapshot.balls, ballCount * GameSnapshot.BALL_STRIDE);
+        k = 0;
+        if (ball != null) {
+            k = writeBall(balls, k, ball);
+        }
+        for (int i = 0; i < extraBalls.size(); i++) {
+            k = writeBall(balls, k, extraBalls.get(i));
+        }
+        snapshot.balls = balls;
+        snapshot.ballCount = ballCount;
+
+        int[] ups = GameSnapshot.ensureCapacity(snapshot.powerUps, powerUps.size() * GameSnapshot.POWER_UP_STRIDE);
+        k = 0;
+        for (int i = 0; i < powerUps.size(); i++) {
+            ups[k++] = powerUps.getTypes()[i];
+            ups[k++] = powerUps.getX(i);
+            ups[k++] = powerUps.getY(i);
+            ups[k++] = powerUps.getFallSpeed(i);
+            ups[k++] = powerUps.getSubY(i);
+        }
+        snapshot.powerUps = ups;
+        snapshot.powerUpCount = powerUps.size();
+
+        int stormCount = stormBalls.size();
+        int[] storm = GameSnapshot.ensureCapacity(snapshot.storm, stormCount * GameSnapshot.STORM_STRIDE);
+        int[] xs = stormBalls.getXs();
+        int[] ys = stormBalls.getYs();
+        int[] dxs = stormBalls.getDxs();
+        int[] dys = stormBalls.getDys();
+        int[] subXs = stormBalls.getSubXs();
+        int[] subYs = stormBalls.getSubYs();
+        k = 0;
+        for (int i = 0; i < stormCount; i++) {
+            storm[k++] = xs[i];
+            storm[k++] = ys[i];
+            storm[k++] = dxs[i];
+            storm[k++] = dys[i];
+            storm[k++] = subXs[i];
+            storm[k++] = subYs[i];
+        }
+        snapshot.storm = storm;
+        snapshot.stormCount = stormCount;
+    }
+
+    private int writeBall(int[] balls, int k, Ball b) {
+        balls[k++] = b.getX();
+        balls[k++] = b.getY();
+        balls[k++] = (int) b.getDx();
+        balls[k++] = (int) b.getDy();
+        balls[k++] = b.getSubX();
+        balls[k++] = b.getSubY();
+        balls[k++] = b.isLaunched() ? 1 : 0;
+        return k;
+    }
+
+    /**
+     * Đưa mô phỏng về đúng trạng thái của snapshot. Lệnh chờ và chữ nổi bị bỏ;
+     * nhật ký input bị cắt về tick của snapshot (lệnh sau đó thuộc nhánh thời gian đã tua lại).
+     * @param snapshot snapshot do saveSnapshot ghi
+     */
+    public void restoreSnapshot(GameSnapshot snapshot) {
+        if (snapshot.tick < 0) {
+            throw new IllegalArgumentException("Snapshot trống");
+        }
+        GameState[] states = GameState.values();
+        GameState previous = currentState;
+        tickCount = snapshot.tick;
+        random.setState(snapshot.randomState);
+
+        int[] ints = snapshot.ints;
+        int k = 0;
+        score = ints[k++];
+        lives = ints[k++];
+        currentState = states[ints[k++]];
+        comboCount = ints[k++];
+        milestones.setNext(ints[k++]);
+        isResetting = ints[k++] != 0;
+        magnetActive = ints[k++] != 0;
+        paddleExpanded = ints[k++] != 0;
+        originalPaddleWidth = ints[k++];
+        stormEmitCounter = ints[k++];
+        stormEmitBudget = ints[k++];
+        scoreToSave = ints[k++];
+        paddle.setX(ints[k++]);
+        paddle.setSubPixel(ints[k++], 0);
+        paddle.setY(ints[k++]);
+        paddle.setWidth(ints[k++]);
+        paddle.setMovingLeft(ints[k++] != 0);
+        paddle.setMovingRight(ints[k++] != 0);
+        boolean hasPrimary = ints[k++] != 0;
+        boolean transitionActive = ints[k++] != 0;
+        int transitionFrom = ints[k++];
+        int transitionTo = ints[k++];
+        boolean transitionSwitched = ints[k++] != 0;
+
+        double[] doubles = snapshot.doubles;
+        k = 0;
+        comboTimer = doubles[k++];
+        spawnInterval = doubles[k++];
+        spawnTimer = doubles[k++];
+        resetTimer = doubles[k++];
+        magnetTimer = doubles[k++];
+        expandTimer = doubles[k++];
+        ballPaddleOffset = doubles[k++];
+        double transitionTimer = doubles[k++];
+        double transitionDuration = doubles[k++];
+        stateTransition.restore(transitionActive,
+                transitionFrom >= 0 ? states[transitionFrom] : null,
+                transitionTo >= 0 ? states[transitionTo] : null,
+                transitionTimer, transitionDuration, transitionSwitched);
+
+        brickGrid.readCells(snapshot.bricks);
+
+        int[] balls = snapshot.balls;
+        k = 0;
+        ball = hasPrimary ? readBall(balls, k) : null;
+        if (hasPrimary) {
+            k += GameSnapshot.BALL_STRIDE;
+        }
+        extraBalls.clear();
+        for (int i = hasPrimary ? 1 : 0; i < snapshot.ballCount; i++) {
+            extraBalls.add(readBall(balls, k));
+            k += GameSnapshot.BALL_STRIDE;
+        }
+
+        int[] ups = snapshot.powerUps;
+        powerUps.clear();
+        k = 0;
+        for (int i = 0; i < snapshot.powerUpCount; i++) {
+            powerUps.spawn(PowerUpType.fromOrdinal(ups[k]), ups[k + 1], ups[k + 2], ups[k + 3], ups[k + 4]);
+            k += GameSnapshot.POWER_UP_STRIDE;
+        }
+
+        int[] storm = snapshot.storm;
+        stormBalls.clear();
+        k = 0;
+        for (int i = 0; i < snapshot.stormCount; i++) {
+            stormBalls.spawn(storm[k], storm[k + 1], storm[k + 2], storm[k + 3], storm[k + 4], storm[k + 5]);
+            k += GameSnapshot.STORM_STRIDE;
+        }
+
+        powerUpEvents.clear();
+        events.clear();
+        pendingInputs.clear();
+        if (inputLog != null) {
+            inputLog.truncate(tickCount);
+        }
+        timestep.reset(System.nanoTime());
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onSnapshotRestored(tickCount);
+        }
+        if (previous != currentState) {
+            // Không qua fireStateChanged: nhật ký vừa được mở lại, không được chốt lại lần nữa
+            events.add(GameEventBuffer.STATE_CHANGED, previous.ordinal(), currentState.ordinal(), 0, 0);
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onStateChanged(previous, currentState);
+            }
+        }
+    }
+
+    private Ball readBall(int[] balls, int k) {
+        Ball b = new Ball(balls[k], balls[k + 1], BALL_SIZE, balls[k + 2], balls[k + 3]);
+        b.setSubPixel(balls[k + 4], balls[k + 5]);
+        b.setLaunched(balls[k + 6] != 0);
+        return b;
+    }
+
+    /**
+     * Bật/tắt chế độ luyện tập: khi bật, giữ lịch sử REWIND_HISTORY_SECONDS giây để tua lại bằng rewind().
+     * @param enabled true để bật
+     */
+    public void setPracticeMode(boolean enabled) {
+        rewindHistory = enabled ? newRewindHistory() : null;
+    }
+
+    public boolean isPracticeMode() {
+        return rewindHistory != null;
+    }
+
+    /**
+     * Tua lại khoảng REWIND_STEP_SECONDS giây (về snapshot gần nhất không muộn hơn mốc đó).
+     * Chỉ có tác dụng ở chế độ luyện tập, khi đang chơi.
+     * @return true nếu đã tua lại
+     */
+    public boolean rewind() {
+        if (rewindHistory == null || (currentState != GameState.RUNNING && currentState != GameState.PAUSED)) {
+            return false;
+        }
+        int target = Math.max(0, tickCount - (int) Math.round(REWIND_STEP_SECONDS * getTickRate()));
+        if (rewindHistory.findAtOrBefore(target) == null) {
+            // Lịch sử chưa đủ dài: về snapshot cũ nhất còn giữ
+            target = rewindHistory.getOldestTick();
+        }
+        return target >= 0 && rewindHistory.restoreAtOrBefore(this, target) >= 0;
+    }
+
+    private SnapshotRing newRewindHistory() {
+        int perSecond = REWIND_SNAPSHOTS_PER_SECOND;
+        return new SnapshotRing(REWIND_HISTORY_SECONDS * perSecond, Math.max(1, getTickRate() / perSecond));
+    }
+
+    public long getSeed() { return seed; }
+
+    /**
+     * Số tick đã chạy kể từ startGame.
+     */
+    public int getTickCount() { return tickCount; }
+
+    /**
+     * Nhật ký input của ván hiện tại (hoặc ván vừa kết thúc), null nếu chưa chơi ván nào.
+     */
+    public InputLog getInputLog() { return inputLog; }
+
+    public EndlessConfig getEndlessConfig() { return endlessConfig; }
+
+    /**
+     * Đặt tham số độ khó endless; áp dụng đầy đủ từ ván kế tiếp (startGame).
+     * @param endlessConfig tham số độ khó
+     */
+    public void setEndlessConfig(EndlessConfig endlessConfig) { this.endlessConfig = endlessConfig; }
+
     public boolean isEndlessMode() { return endlessMode; }
     public void toggleEndlessMode() { endlessMode = !endlessMode; }
     public double getSpawnProgress() {
@@ -844,14 +1563,13 @@ public class GameManager {
 
     public Ball getBall() { return ball; }
     public Paddle getPaddle() { return paddle; }
-    public List<Brick> getBricks() { return bricks; }
+    public BrickGrid getBrickGrid() { return brickGrid; }
     public int getScore() { return score; }
     public int getLives() { return lives; }
     public int getComboCount() { return comboCount; }
     public MenuState getMenuState() { return menuState; }
     public PauseMenuState getPauseMenuState() { return pauseMenuState; }
     public SettingsState getSettingsState() { return settingsState; }
-    public List<FloatingText> getFloatingTexts() { return floatingTexts; }
 
     public String getCurrentPlayerName() {
         return currentPlayerName;
@@ -885,19 +1603,65 @@ public class GameManager {
     public GameState getTransitionFrom() { return stateTransition.getFromState(); }
     public GameState getTransitionTo() { return stateTransition.getToState(); }
 
-    private void updatePowerUps(double deltaTime) {
-        for (PowerUp p : new ArrayList<>(powerUps)) {
-            p.update();
-            if (p.getY() > SCREEN_HEIGHT) {
-                powerUps.remove(p);
+    private void queuePowerUpDrop(PowerUpBrick brick) {
+        PowerUpType type = brick.rollPowerUp(random);
+        int x = brick.getX() + brick.getWidth() / 2 - PowerUpType.SIZE / 2;
+        int y = brick.getY() + brick.getHeight();
+        powerUpEvents.add(PowerUpEventQueue.DROP, type, x, y);
+    }
+
+    // Di chuyển power-up; chạm paddle thì ghi sự kiện nhặt, rơi khỏi màn hình thì gỡ
+    private void updatePowerUps() {
+        int tickRate = getTickRate();
+        int[] xs = powerUps.getXs();
+        int[] ys = powerUps.getYs();
+        int[] fallSpeeds = powerUps.getFallSpeeds();
+        int[] subYs = powerUps.getSubYs();
+        int size = PowerUpType.SIZE;
+        int i = 0;
+        while (i < powerUps.size()) {
+            int subY = subYs[i] + fallSpeeds[i];
+            ys[i] += Math.floorDiv(subY, tickRate);
+            subYs[i] = Math.floorMod(subY, tickRate);
+            if (ys[i] > SCREEN_HEIGHT) {
+                powerUps.removeAt(i);
+                continue;
+            }
+            if (paddle.intersects(xs[i], ys[i], size, size)) {
+                powerUpEvents.add(PowerUpEventQueue.PICKUP, powerUps.getType(i), xs[i], ys[i]);
+                powerUps.removeAt(i);
                 continue;
             }
-            if (p.getBounds().intersects(paddle.getBounds())) {
-                p.apply(this);
-                SoundManager.getInstance().playSound("powerUp");
-                powerUps.remove(p);
+            i++;
+        }
+    }
+
+    /**
+     * Xử lý mọi sự kiện power-up của tick theo thứ tự: thêm power-up vừa rơi vào kho,
+     * áp dụng hiệu ứng của power-up vừa nhặt.
+     */
+    private void processPowerUpEvents() {
+        for (int i = 0; i < powerUpEvents.size(); i++) {
+            PowerUpType type = powerUpEvents.getType(i);
+            if (powerUpEvents.getKind(i) == PowerUpEventQueue.DROP) {
+                // Kho đầy thì bỏ power-up mới
+                powerUps.spawn(type, powerUpEvents.getX(i), powerUpEvents.getY(i), PowerUpType.FALL_SPEED);
+            } else {
+                applyPowerUp(type);
+                events.add(GameEventBuffer.POWER_UP_COLLECTED, type.ordinal(), 0,
+                        powerUpEvents.getX(i), powerUpEvents.getY(i));
             }
         }
+        powerUpEvents.clear();
+    }
+
+    private void applyPowerUp(PowerUpType type) {
+        switch (type) {
+            case EXPAND -> applyExpandPaddleEffect(paddle, type.getMagnitude(), type.getDurationSeconds());
+            case EXTRA_LIFE -> addLife((int) type.getMagnitude());
+            case MULTI -> spawnExtraBalls((int) type.getMagnitude());
+            case MAGNET -> activateMagnet(type.getDurationSeconds());
+        }
     }
 
     private void updateEffects(double deltaTime) {
@@ -960,10 +1724,26 @@ public class GameManager {
         return magnetActive ? Math.max(0.0, magnetTimer) : 0.0;
     }
 
-    public List<PowerUp> getPowerUps() {
+    public PowerUpPool getPowerUps() {
         return powerUps;
     }
 
+    public boolean isBallStormMode() {
+        return ballStormMode;
+    }
+
+    /**
+     * Chọn chế độ cho ván kế tiếp (áp dụng khi gọi startGame).
+     * @param enabled true để chơi Ball Storm
+     */
+    public void setBallStormMode(boolean enabled) {
+        ballStormMode = enabled;
+    }
+
+    public BallPool getStormBalls() {
+        return stormBalls;
+    }
+
     public List<Ball> getExtraBalls() {
         return extraBalls;
     }
@@ -975,10 +1755,10 @@ public class GameManager {
         int originY = ball.getY();
         int size = BALL_SIZE;
         int[][] velocities = new int[][]{
-            { 4, -5 },
-            { -4, -5 },
-            { 5, -4 },
-            { -5, -4 }
+            { 240, -300 },
+            { -240, -300 },
+            { 300, -240 },
+            { -300, -240 }
         };
         int idx = 0;
         for (int i = 0; i < count; i++) {
@@ -0,0 +1,54 @@
+package model.manager;
+
+import java.util.Arrays;
+
+/**
+ * Ảnh chụp trạng thái mô phỏng tại cuối một tick, lưu hoàn toàn trong mảng nguyên thuỷ.
+ * Các mảng được giữ lại và ghi đè ở lần chụp sau, nên chụp lại vào cùng một snapshot
+ * không cấp phát bộ nhớ (trừ khi số bóng/power-up vượt quá lần trước).
+ *
+ * Chỉ lưu trạng thái ảnh hưởng tới mô phỏng; chữ nổi (FloatingText) không được lưu.
+ * Ghi và đọc do GameManager.saveSnapshot / restoreSnapshot đảm nhiệm.
+ */
+public final class GameSnapshot {
+    // Số phần tử mỗi bóng / power-up / bóng storm trong mảng tương ứng
+    static final int BALL_STRIDE = 7;
+    static final int POWER_UP_STRIDE = 5;
+    static final int STORM_STRIDE = 6;
+
+    int tick = -1;
+    long randomState;
+    final int[] ints = new int[24];
+    final double[] doubles = new double[12];
+    byte[] bricks = new byte[0];
+
+    int ballCount;
+    int[] balls = new int[BALL_STRIDE * 4];
+    int powerUpCount;
+    int[] powerUps = new int[POWER_UP_STRIDE * 4];
+    int stormCount;
+    int[] storm = new int[0];
+
+    /**
+     * Tick tại thời điểm chụp, hoặc -1 nếu snapshot chưa được dùng.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Dung lượng các mảng đang giữ (byte), để ước lượng bộ nhớ của lịch sử tua lại.
+     */
+    public int getSizeInBytes() {
+        return 8 + ints.length * 4 + doubles.length * 8 + bricks.length
+                + (balls.length + powerUps.length + storm.length) * 4;
+    }
+
+    // Trả về mảng đủ chứa `length` phần tử, chỉ cấp phát mới khi mảng cũ quá nhỏ
+    static int[] ensureCapacity(int[] array, int length) {
+        if (array.length >= length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(length, array.length * 2));
+    }
+}
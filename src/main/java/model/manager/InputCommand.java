@@ -0,0 +1,47 @@
+package model.manager;
+
+/**
+ * Lệnh điều khiển của người chơi ảnh hưởng tới mô phỏng. Lệnh được xếp hàng và chỉ áp dụng
+ * ở đầu tick kế tiếp, nên một ván chơi được mô tả đầy đủ bởi seed và danh sách (tick, lệnh).
+ * Mã byte của mỗi lệnh là cố định để ghi vào nhật ký replay.
+ */
+public enum InputCommand {
+    MOVE_LEFT_PRESS(1),
+    MOVE_LEFT_RELEASE(2),
+    MOVE_RIGHT_PRESS(3),
+    MOVE_RIGHT_RELEASE(4),
+    LAUNCH(5),
+    PAUSE(6),
+    RESUME(7);
+
+    private static final InputCommand[] BY_CODE = new InputCommand[8];
+
+    static {
+        for (InputCommand command : values()) {
+            BY_CODE[command.code] = command;
+        }
+    }
+
+    private final byte code;
+
+    InputCommand(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Tra lệnh theo mã byte.
+     * @param code mã lệnh
+     * @return lệnh tương ứng
+     * @throws IllegalArgumentException nếu mã không hợp lệ
+     */
+    public static InputCommand fromCode(byte code) {
+        if (code <= 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("Mã lệnh không hợp lệ: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
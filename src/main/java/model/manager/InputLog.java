@@ -0,0 +1,133 @@
+package model.manager;
+
+import java.util.Arrays;
+
+/**
+ * Nhật ký một ván chơi: seed, các thiết lập ảnh hưởng tới mô phỏng và danh sách lệnh input
+ * gắn số tick mà lệnh được áp dụng. Mỗi lệnh chỉ tốn một int và một byte trong bộ nhớ;
+ * phát lại nhật ký cho ra đúng ván chơi ban đầu (xem GameManager.replay).
+ */
+public class InputLog {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final long seed;
+    private final int tickRate;
+    private final boolean endlessMode;
+    private final boolean ballStormMode;
+    private final boolean continuousCollision;
+    private final EndlessConfig endlessConfig;
+
+    private int[] ticks = new int[INITIAL_CAPACITY];
+    private byte[] commands = new byte[INITIAL_CAPACITY];
+    private int size = 0;
+
+    private boolean finished = false;
+    private int endTick = -1;
+    private int finalScore = 0;
+
+    public InputLog(long seed, int tickRate, boolean endlessMode, boolean ballStormMode,
+                    boolean continuousCollision, EndlessConfig endlessConfig) {
+        this.seed = seed;
+        this.tickRate = tickRate;
+        this.endlessMode = endlessMode;
+        this.ballStormMode = ballStormMode;
+        this.continuousCollision = continuousCollision;
+        this.endlessConfig = endlessConfig;
+    }
+
+    /**
+     * Ghi một lệnh được áp dụng ở đầu tick cho trước.
+     * @param tick số thứ tự tick (tính từ lúc startGame)
+     * @param command lệnh
+     */
+    public void record(int tick, InputCommand command) {
+        if (finished) {
+            throw new IllegalStateException("Nhật ký đã kết thúc");
+        }
+        if (size > 0 && tick < ticks[size - 1]) {
+            throw new IllegalArgumentException("Tick phải không giảm: " + tick);
+        }
+        if (size == ticks.length) {
+            ticks = Arrays.copyOf(ticks, size * 2);
+            commands = Arrays.copyOf(commands, size * 2);
+        }
+        ticks[size] = tick;
+        commands[size] = command.getCode();
+        size++;
+    }
+
+    /**
+     * Đánh dấu ván chơi đã kết thúc.
+     * @param endTick tổng số tick đã chạy
+     * @param finalScore điểm cuối cùng
+     */
+    public void finish(int endTick, int finalScore) {
+        this.endTick = endTick;
+        this.finalScore = finalScore;
+        this.finished = true;
+    }
+
+    /**
+     * Bỏ các lệnh từ tick cho trước trở đi và mở lại nhật ký (dùng khi tua lại về một snapshot).
+     * @param tick tick đầu tiên bị bỏ
+     */
+    public void truncate(int tick) {
+        while (size > 0 && ticks[size - 1] >= tick) {
+            size--;
+        }
+        finished = false;
+        endTick = -1;
+        finalScore = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getTick(int index) {
+        return ticks[index];
+    }
+
+    public InputCommand getCommand(int index) {
+        return InputCommand.fromCode(commands[index]);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public boolean isEndlessMode() {
+        return endlessMode;
+    }
+
+    public boolean isBallStormMode() {
+        return ballStormMode;
+    }
+
+    public boolean isContinuousCollision() {
+        return continuousCollision;
+    }
+
+    public EndlessConfig getEndlessConfig() {
+        return endlessConfig;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Tổng số tick của ván, hoặc -1 nếu ván chưa kết thúc.
+     */
+    public int getEndTick() {
+        return endTick;
+    }
+
+    public int getFinalScore() {
+        return finalScore;
+    }
+}
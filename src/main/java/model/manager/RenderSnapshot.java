@@ -0,0 +1,309 @@
+package model.manager;
+
+import model.brick.BrickGrid;
+import model.entity.Ball;
+import model.entity.BallPool;
+import model.entity.Paddle;
+import model.powerup.PowerUpPool;
+import model.state.GameState;
+import model.ui.FloatingText;
+import model.ui.FloatingTextPool;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mọi thứ GameView cần để vẽ một frame, chép từ mô phỏng sau mỗi lần cập nhật.
+ * Luồng mô phỏng ghi bằng capture rồi công bố qua TripleBuffer; luồng JavaFX chỉ đọc bản đã công bố,
+ * nên vẽ không cần khoá và không bao giờ thấy trạng thái đang cập nhật dở.
+ * Các mảng được giữ lại và ghi đè ở lần chụp sau, chỉ cấp phát khi số đối tượng vượt mức cao nhất trước đó.
+ */
+public final class RenderSnapshot {
+    private int tick;
+    private GameState state = GameState.MENU;
+
+    // Menu, cài đặt, nhập tên
+    private String[] menuOptions = new String[0];
+    private int menuSelectedIndex;
+    private String[] pauseOptions = new String[0];
+    private int pauseSelectedIndex;
+    private String[] settingsOptions = new String[0];
+    private int settingsSelectedIndex;
+    private double masterVolume;
+    private double sfxVolume;
+    private String playerName = "";
+    private int scoreToSave;
+
+    // Chuyển cảnh
+    private boolean resetting;
+    private double resetProgress;
+    private boolean transitionActive;
+    private double transitionProgress;
+
+    // Paddle và bóng (bóng chính trước, rồi các bóng phụ)
+    private int paddleX;
+    private int paddleY;
+    private int paddleWidth;
+    private int paddleHeight;
+    private int ballCount;
+    private int[] ballXs = new int[4];
+    private int[] ballYs = new int[4];
+    private int[] ballSizes = new int[4];
+
+    // Ball Storm
+    private int stormCount;
+    private int stormBallSize;
+    private int[] stormXs = new int[0];
+    private int[] stormYs = new int[0];
+    private byte[] stormFlags = new byte[0];
+
+    // Lưới gạch: mỗi ô một byte như BrickGrid.writeCells (loại << 4 | máu, 0 = trống)
+    private int brickVersion = -1;
+    // Lưới đã chép lần trước: phiên bản chỉ có nghĩa trong cùng một lưới
+    private BrickGrid brickGrid;
+    private int brickCols;
+    private int brickRows;
+    private int brickOriginX;
+    private int brickOriginY;
+    private int brickWidth;
+    private int brickHeight;
+    private int brickCount;
+    private byte[] brickCells = new byte[0];
+
+    // Power-up đang rơi (ordinal của PowerUpType)
+    private int powerUpCount;
+    private byte[] powerUpTypes = new byte[0];
+    private int[] powerUpXs = new int[0];
+    private int[] powerUpYs = new int[0];
+
+    // Chữ nổi
+    private int textCount;
+    private String[] texts = new String[0];
+    private double[] textXs = new double[0];
+    private double[] textYs = new double[0];
+    private double[] textOpacities = new double[0];
+    private double[] textFontSizes = new double[0];
+    private int[] textColors = new int[0];
+
+    // HUD
+    private int score;
+    private int lives;
+    private int comboCount;
+    private boolean ballStormMode;
+    private boolean endlessMode;
+    private double spawnTimeRemaining;
+    private boolean paddleExpanded;
+    private double expandTimeRemaining;
+    private boolean magnetActive;
+    private double magnetTimeRemaining;
+
+    /**
+     * Chép trạng thái hiện tại của mô phỏng. Chỉ gọi trên luồng chạy mô phỏng.
+     * @param game mô phỏng
+     * @param floatingTexts chữ nổi đang hiển thị (có thể null)
+     */
+    public void capture(GameManager game, FloatingTextPool floatingTexts) {
+        tick = game.getTickCount();
+        state = game.getCurrentState();
+
+        menuOptions = game.getMenuState().getOptions();
+        menuSelectedIndex = game.getMenuState().getSelectedIndex();
+        pauseOptions = game.getPauseMenuState().getOptions();
+        pauseSelectedIndex = game.getPauseMenuState().getSelectedIndex();
+        settingsOptions = game.getSettingsState().getOptions();
+        settingsSelectedIndex = game.getSettingsState().getSelectedIndex();
+        masterVolume = game.getSettingsState().getMasterVolume();
+        sfxVolume = game.getSettingsState().getSfxVolume();
+        playerName = game.getCurrentPlayerName();
+        scoreToSave = game.getScoreToSave();
+
+        resetting = game.isResetting();
+        resetProgress = game.getResetProgress();
+        transitionActive = game.isTransitionActive();
+        transitionProgress = game.getTransitionProgress();
+
+        Paddle paddle = game.getPaddle();
+        paddleX = paddle.getX();
+        paddleY = paddle.getY();
+        paddleWidth = paddle.getWidth();
+        paddleHeight = paddle.getHeight();
+        captureBalls(game.getBall(), game.getExtraBalls());
+        captureStorm(game.getStormBalls());
+        captureBricks(game.getBrickGrid());
+        capturePowerUps(game.getPowerUps());
+        captureTexts(floatingTexts);
+
+        score = game.getScore();
+        lives = game.getLives();
+        comboCount = game.getComboCount();
+        ballStormMode = game.isBallStormMode();
+        endlessMode = game.isEndlessMode();
+        spawnTimeRemaining = game.getSpawnTimeRemainingSeconds();
+        paddleExpanded = game.isPaddleExpanded();
+        expandTimeRemaining = game.getExpandTimeRemaining();
+        magnetActive = game.isMagnetActive();
+        magnetTimeRemaining = game.getMagnetTimeRemaining();
+    }
+
+    private void captureBalls(Ball ball, List<Ball> extraBalls) {
+        int count = (ball != null ? 1 : 0) + extraBalls.size();
+        if (ballXs.length < count) {
+            ballXs = Arrays.copyOf(ballXs, count * 2);
+            ballYs = Arrays.copyOf(ballYs, count * 2);
+            ballSizes = Arrays.copyOf(ballSizes, count * 2);
+        }
+        ballCount = 0;
+        if (ball != null) {
+            putBall(ball);
+        }
+        for (int i = 0; i < extraBalls.size(); i++) {
+            putBall(extraBalls.get(i));
+        }
+    }
+
+    private void putBall(Ball b) {
+        ballXs[ballCount] = b.getX();
+        ballYs[ballCount] = b.getY();
+        ballSizes[ballCount] = b.getWidth();
+        ballCount++;
+    }
+
+    private void captureStorm(BallPool pool) {
+        stormCount = pool.size();
+        stormBallSize = pool.getBallSize();
+        if (stormXs.length < stormCount) {
+            int capacity = Math.max(stormCount, stormXs.length * 2);
+            stormXs = new int[capacity];
+            stormYs = new int[capacity];
+            stormFlags = new byte[capacity];
+        }
+        System.arraycopy(pool.getXs(), 0, stormXs, 0, stormCount);
+        System.arraycopy(pool.getYs(), 0, stormYs, 0, stormCount);
+        System.arraycopy(pool.getFlags(), 0, stormFlags, 0, stormCount);
+    }
+
+    // Mỗi bộ đệm nhớ phiên bản lưới đã chép; lưới không đổi thì khỏi chép lại
+    private void captureBricks(BrickGrid grid) {
+        if (grid == brickGrid && brickVersion == grid.getVersion() && brickCells.length > 0) {
+            return;
+        }
+        brickCols = grid.getCols();
+        brickRows = grid.getRows();
+        brickOriginX = grid.columnX(0);
+        brickOriginY = grid.rowY(0);
+        brickWidth = grid.getCellWidth();
+        brickHeight = grid.getCellHeight();
+        if (brickCells.length != brickCols * brickRows) {
+            brickCells = new byte[brickCols * brickRows];
+        }
+        grid.writeCells(brickCells);
+        brickCount = grid.getLiveCount();
+        brickVersion = grid.getVersion();
+        brickGrid = grid;
+    }
+
+    private void capturePowerUps(PowerUpPool pool) {
+        powerUpCount = pool.size();
+        if (powerUpXs.length < powerUpCount) {
+            int capacity = Math.max(powerUpCount, powerUpXs.length * 2);
+            powerUpTypes = new byte[capacity];
+            powerUpXs = new int[capacity];
+            powerUpYs = new int[capacity];
+        }
+        System.arraycopy(pool.getTypes(), 0, powerUpTypes, 0, powerUpCount);
+        System.arraycopy(pool.getXs(), 0, powerUpXs, 0, powerUpCount);
+        System.arraycopy(pool.getYs(), 0, powerUpYs, 0, powerUpCount);
+    }
+
+    private void captureTexts(FloatingTextPool pool) {
+        textCount = pool != null ? pool.size() : 0;
+        if (texts.length < textCount) {
+            int capacity = pool.getCapacity();
+            texts = new String[capacity];
+            textXs = new double[capacity];
+            textYs = new double[capacity];
+            textOpacities = new double[capacity];
+            textFontSizes = new double[capacity];
+            textColors = new int[capacity];
+        }
+        for (int i = 0; i < textCount; i++) {
+            FloatingText ft = pool.get(i);
+            texts[i] = ft.getText();
+            textXs[i] = ft.getX();
+            textYs[i] = ft.getY();
+            textOpacities[i] = ft.getOpacity();
+            textFontSizes[i] = ft.getFontSize();
+            textColors[i] = ft.getColor();
+        }
+    }
+
+    public int getTick() { return tick; }
+    public GameState getState() { return state; }
+
+    public String[] getMenuOptions() { return menuOptions; }
+    public int getMenuSelectedIndex() { return menuSelectedIndex; }
+    public String[] getPauseOptions() { return pauseOptions; }
+    public int getPauseSelectedIndex() { return pauseSelectedIndex; }
+    public String[] getSettingsOptions() { return settingsOptions; }
+    public int getSettingsSelectedIndex() { return settingsSelectedIndex; }
+    public double getMasterVolume() { return masterVolume; }
+    public double getSfxVolume() { return sfxVolume; }
+    public String getPlayerName() { return playerName; }
+    public int getScoreToSave() { return scoreToSave; }
+
+    public boolean isResetting() { return resetting; }
+    public double getResetProgress() { return resetProgress; }
+    public boolean isTransitionActive() { return transitionActive; }
+    public double getTransitionProgress() { return transitionProgress; }
+
+    public int getPaddleX() { return paddleX; }
+    public int getPaddleY() { return paddleY; }
+    public int getPaddleWidth() { return paddleWidth; }
+    public int getPaddleHeight() { return paddleHeight; }
+
+    public int getBallCount() { return ballCount; }
+    public int getBallX(int i) { return ballXs[i]; }
+    public int getBallY(int i) { return ballYs[i]; }
+    public int getBallSize(int i) { return ballSizes[i]; }
+
+    public int getStormCount() { return stormCount; }
+    public int getStormBallSize() { return stormBallSize; }
+    public int[] getStormXs() { return stormXs; }
+    public int[] getStormYs() { return stormYs; }
+    public byte[] getStormFlags() { return stormFlags; }
+
+    public int getBrickVersion() { return brickVersion; }
+    public int getBrickCount() { return brickCount; }
+    public int getBrickCols() { return brickCols; }
+    public int getBrickRows() { return brickRows; }
+    public int getBrickOriginX() { return brickOriginX; }
+    public int getBrickOriginY() { return brickOriginY; }
+    public int getBrickWidth() { return brickWidth; }
+    public int getBrickHeight() { return brickHeight; }
+    /** Các ô theo hàng rồi cột; không sửa mảng này. */
+    public byte[] getBrickCells() { return brickCells; }
+
+    public int getPowerUpCount() { return powerUpCount; }
+    public int getPowerUpType(int i) { return powerUpTypes[i]; }
+    public int getPowerUpX(int i) { return powerUpXs[i]; }
+    public int getPowerUpY(int i) { return powerUpYs[i]; }
+
+    public int getTextCount() { return textCount; }
+    public String getText(int i) { return texts[i]; }
+    public double getTextX(int i) { return textXs[i]; }
+    public double getTextY(int i) { return textYs[i]; }
+    public double getTextOpacity(int i) { return textOpacities[i]; }
+    public double getTextFontSize(int i) { return textFontSizes[i]; }
+    public int getTextColor(int i) { return textColors[i]; }
+
+    public int getScore() { return score; }
+    public int getLives() { return lives; }
+    public int getComboCount() { return comboCount; }
+    public boolean isBallStormMode() { return ballStormMode; }
+    public boolean isEndlessMode() { return endlessMode; }
+    public double getSpawnTimeRemainingSeconds() { return spawnTimeRemaining; }
+    public boolean isPaddleExpanded() { return paddleExpanded; }
+    public double getExpandTimeRemaining() { return expandTimeRemaining; }
+    public boolean isMagnetActive() { return magnetActive; }
+    public double getMagnetTimeRemaining() { return magnetTimeRemaining; }
+}
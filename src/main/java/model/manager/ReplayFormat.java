@@ -0,0 +1,78 @@
+package model.manager;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Hằng số và hàm mã hoá dùng chung cho file replay (.arkr).
+ *
+ * Bố cục file (big-endian):
+ *   Header  : magic "ARKR" | version (1) | flags (1) | tickRate (4) | seed (8) | 5 double EndlessConfig | CRC32 (4)
+ *   Khung   : tag (1) | độ dài payload (2, không dấu) | payload | CRC32 của tag + độ dài + payload (4)
+ *     'C' chunk   : tick đầu (varint) rồi mỗi lệnh là [delta tick so với lệnh trước (varint), mã lệnh (1)]
+ *     'E' trailer : tick kết thúc (varint) | điểm cuối (zigzag varint)
+ *
+ * Mỗi chunk tự giải mã được và có checksum riêng, nên một đuôi file hỏng hoặc bị cắt
+ * chỉ làm mất chunk cuối chứ không mất cả replay.
+ */
+final class ReplayFormat {
+    static final int MAGIC = 0x41524B52; // "ARKR"
+    // 2: vận tốc tính theo pixel/giây, mô phỏng chạy đúng tickRate trong header (bản 1 không còn tái hiện được)
+    static final byte VERSION = 2;
+
+    static final byte FLAG_ENDLESS = 1;
+    static final byte FLAG_BALL_STORM = 1 << 1;
+    static final byte FLAG_CONTINUOUS_COLLISION = 1 << 2;
+
+    static final byte TAG_CHUNK = 'C';
+    static final byte TAG_END = 'E';
+
+    static final int HEADER_SIZE = 4 + 1 + 1 + 4 + 8 + 5 * 8 + 4;
+    // tag + độ dài payload
+    static final int FRAME_PREFIX_SIZE = 1 + 2;
+    static final int CRC_SIZE = 4;
+
+    static final int MAX_CHUNK_EVENTS = 128;
+    static final int MAX_VARINT_SIZE = 5;
+    // tick đầu + mỗi lệnh tối đa một varint và một byte
+    static final int MAX_PAYLOAD_SIZE = MAX_VARINT_SIZE + MAX_CHUNK_EVENTS * (MAX_VARINT_SIZE + 1);
+    static final int MAX_FRAME_SIZE = FRAME_PREFIX_SIZE + MAX_PAYLOAD_SIZE + CRC_SIZE;
+
+    static final String FILE_EXTENSION = ".arkr";
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Ghi số nguyên không âm dạng varint (7 bit mỗi byte, bit cao báo còn byte tiếp theo).
+     */
+    static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Đọc varint; ném IllegalArgumentException nếu varint dài quá 5 byte.
+     */
+    static int getVarInt(ByteBuffer buffer) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Varint quá dài");
+    }
+
+    static int zigZagEncode(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int zigZagDecode(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
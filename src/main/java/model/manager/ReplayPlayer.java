@@ -0,0 +1,100 @@
+package model.manager;
+
+/**
+ * Phát lại một nhật ký theo từng tick và cho phép tua tới tick bất kỳ.
+ * Trong lúc phát, snapshot được chụp định kỳ vào SnapshotRing; tua lùi khôi phục snapshot gần nhất
+ * trước tick đích rồi mô phỏng tiếp, nên chi phí tua chỉ phụ thuộc khoảng cách giữa hai snapshot.
+ * Nếu tick đích cũ hơn mọi snapshot còn giữ thì phát lại từ đầu ván.
+ */
+public class ReplayPlayer {
+    private final InputLog log;
+    private final SnapshotRing snapshots;
+    private GameManager simulation;
+    // Chỉ số lệnh kế tiếp trong nhật ký
+    private int nextEvent = 0;
+
+    /**
+     * @param log nhật ký cần phát
+     * @param snapshotInterval khoảng cách giữa hai snapshot (tick)
+     * @param snapshotCapacity số snapshot tối đa giữ lại
+     */
+    public ReplayPlayer(InputLog log, int snapshotInterval, int snapshotCapacity) {
+        this.log = log;
+        this.snapshots = new SnapshotRing(snapshotCapacity, snapshotInterval);
+        restart();
+    }
+
+    /**
+     * Mô phỏng đang phát (chỉ đọc; mọi thay đổi nên đi qua seek/step).
+     */
+    public GameManager getSimulation() {
+        return simulation;
+    }
+
+    public int getTick() {
+        return simulation.getTickCount();
+    }
+
+    /**
+     * Tick cuối của replay: tick kết thúc nếu nhật ký đã kết thúc, ngược lại là tick của lệnh cuối.
+     */
+    public int getEndTick() {
+        if (log.isFinished()) {
+            return log.getEndTick();
+        }
+        return log.size() > 0 ? log.getTick(log.size() - 1) + 1 : 0;
+    }
+
+    /**
+     * Chạy một tick, áp dụng các lệnh của tick đó.
+     */
+    public void step() {
+        int tick = simulation.getTickCount();
+        while (nextEvent < log.size() && log.getTick(nextEvent) == tick) {
+            simulation.submitInput(log.getCommand(nextEvent++));
+        }
+        simulation.tick();
+        snapshots.onTick(simulation);
+    }
+
+    /**
+     * Tua tới tick cho trước (giới hạn trong [0, getEndTick()]).
+     * @param tick tick đích
+     */
+    public void seek(int tick) {
+        int target = Math.max(0, Math.min(tick, getEndTick()));
+        if (target < simulation.getTickCount()) {
+            int restored = snapshots.restoreAtOrBefore(simulation, target);
+            if (restored < 0) {
+                restart();
+            } else {
+                nextEvent = firstEventAtOrAfter(restored);
+            }
+        }
+        while (simulation.getTickCount() < target) {
+            step();
+        }
+    }
+
+    private void restart() {
+        simulation = GameManager.newReplaySimulation(log);
+        snapshots.clear();
+        snapshots.capture(simulation);
+        nextEvent = 0;
+    }
+
+    // Tìm nhị phân lệnh đầu tiên có tick >= tick cho trước
+    private int firstEventAtOrAfter(int tick) {
+        int lo = 0;
+        int hi = log.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (log.getTick(mid) < tick) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,268 @@
+package model.manager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Đọc file replay dạng luồng: chỉ giữ một buffer cố định và chunk đang đọc trong bộ nhớ,
+ * nên đọc được replay dài tuỳ ý.
+ *
+ * Chunk sai checksum, bị cắt giữa chừng hoặc không giải mã được được coi là điểm kết thúc
+ * của luồng: các lệnh ở những chunk trước đó vẫn dùng được và isCorrupted() trả về true.
+ */
+public class ReplayReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32 crc = new CRC32();
+    private boolean eof = false;
+
+    private final long seed;
+    private final int tickRate;
+    private final boolean endlessMode;
+    private final boolean ballStormMode;
+    private final boolean continuousCollision;
+    private final EndlessConfig endlessConfig;
+
+    // Chunk đang đọc
+    private final int[] chunkTicks = new int[ReplayFormat.MAX_CHUNK_EVENTS];
+    private final byte[] chunkCommands = new byte[ReplayFormat.MAX_CHUNK_EVENTS];
+    private int chunkSize = 0;
+    private int chunkIndex = 0;
+
+    private boolean ended = false;
+    private boolean complete = false;
+    private boolean corrupted = false;
+    private int eventCount = 0;
+    private int endTick = -1;
+    private int finalScore = 0;
+
+    /**
+     * Mở file và đọc header.
+     * @param file đường dẫn file
+     * @throws IOException nếu không đọc được file hoặc header không hợp lệ
+     */
+    public ReplayReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer.limit(0);
+        try {
+            if (!fill(ReplayFormat.HEADER_SIZE) || !checkCrc(ReplayFormat.HEADER_SIZE - ReplayFormat.CRC_SIZE)) {
+                throw new IOException("Header replay bị hỏng: " + file);
+            }
+            if (buffer.getInt() != ReplayFormat.MAGIC) {
+                throw new IOException("Không phải file replay: " + file);
+            }
+            byte version = buffer.get();
+            if (version != ReplayFormat.VERSION) {
+                throw new IOException("Phiên bản replay không hỗ trợ: " + version);
+            }
+            byte flags = buffer.get();
+            endlessMode = (flags & ReplayFormat.FLAG_ENDLESS) != 0;
+            ballStormMode = (flags & ReplayFormat.FLAG_BALL_STORM) != 0;
+            continuousCollision = (flags & ReplayFormat.FLAG_CONTINUOUS_COLLISION) != 0;
+            tickRate = buffer.getInt();
+            seed = buffer.getLong();
+            endlessConfig = new EndlessConfig(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                    buffer.getDouble(), buffer.getDouble());
+            buffer.getInt(); // CRC đã kiểm tra
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e instanceof IOException io ? io : new IOException("Header replay không hợp lệ: " + file, e);
+        }
+    }
+
+    /**
+     * Đọc toàn bộ file thành InputLog. Nhật ký chỉ được đánh dấu kết thúc nếu file có trailer hợp lệ.
+     * @param file đường dẫn file
+     * @return nhật ký
+     */
+    public static InputLog readLog(Path file) throws IOException {
+        try (ReplayReader reader = new ReplayReader(file)) {
+            InputLog log = reader.newInputLog();
+            while (reader.next()) {
+                log.record(reader.getTick(), reader.getCommand());
+            }
+            if (reader.isComplete()) {
+                log.finish(reader.getEndTick(), reader.getFinalScore());
+            }
+            return log;
+        }
+    }
+
+    /**
+     * Tạo nhật ký rỗng với cùng seed và thiết lập như header của file.
+     */
+    public InputLog newInputLog() {
+        return new InputLog(seed, tickRate, endlessMode, ballStormMode, continuousCollision, endlessConfig);
+    }
+
+    /**
+     * Chuyển tới lệnh kế tiếp.
+     * @return false khi hết lệnh (gặp trailer, hết file hoặc chunk hỏng)
+     */
+    public boolean next() throws IOException {
+        while (chunkIndex + 1 >= chunkSize) {
+            if (ended || !readFrame()) {
+                ended = true;
+                chunkIndex = chunkSize;
+                return false;
+            }
+        }
+        chunkIndex++;
+        eventCount++;
+        return true;
+    }
+
+    public int getTick() {
+        return chunkTicks[chunkIndex];
+    }
+
+    public InputCommand getCommand() {
+        return InputCommand.fromCode(chunkCommands[chunkIndex]);
+    }
+
+    // Đọc một khung; trả về false nếu không còn chunk lệnh nào
+    private boolean readFrame() throws IOException {
+        if (!fill(ReplayFormat.FRAME_PREFIX_SIZE)) {
+            // Hết file đúng ranh giới khung: replay chưa có trailer nhưng không hỏng
+            corrupted = buffer.hasRemaining();
+            return false;
+        }
+        int start = buffer.position();
+        byte tag = buffer.get(start);
+        int length = buffer.getShort(start + 1) & 0xFFFF;
+        int frameSize = ReplayFormat.FRAME_PREFIX_SIZE + length + ReplayFormat.CRC_SIZE;
+        if ((tag != ReplayFormat.TAG_CHUNK && tag != ReplayFormat.TAG_END)
+                || length > ReplayFormat.MAX_PAYLOAD_SIZE
+                || !fill(frameSize)
+                || !checkCrc(frameSize - ReplayFormat.CRC_SIZE)) {
+            corrupted = true;
+            return false;
+        }
+        start = buffer.position();
+        ByteBuffer frame = buffer.slice(start + ReplayFormat.FRAME_PREFIX_SIZE, length);
+        buffer.position(start + frameSize);
+        try {
+            if (tag == ReplayFormat.TAG_END) {
+                endTick = ReplayFormat.getVarInt(frame);
+                finalScore = ReplayFormat.zigZagDecode(ReplayFormat.getVarInt(frame));
+                complete = true;
+                return false;
+            }
+            decodeChunk(frame);
+            return true;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            corrupted = true;
+            return false;
+        }
+    }
+
+    private void decodeChunk(ByteBuffer frame) {
+        int tick = ReplayFormat.getVarInt(frame);
+        int size = 0;
+        while (frame.hasRemaining()) {
+            if (size == chunkTicks.length) {
+                throw new IllegalArgumentException("Chunk quá lớn");
+            }
+            tick += ReplayFormat.getVarInt(frame);
+            byte code = frame.get();
+            InputCommand.fromCode(code);
+            chunkTicks[size] = tick;
+            chunkCommands[size] = code;
+            size++;
+        }
+        chunkSize = size;
+        chunkIndex = -1;
+    }
+
+    // Kiểm tra CRC32 của `length` byte kể từ vị trí hiện tại, so với 4 byte ngay sau đó
+    private boolean checkCrc(int length) {
+        int start = buffer.position();
+        crc.reset();
+        crc.update(buffer.slice(start, length));
+        return (int) crc.getValue() == buffer.getInt(start + length);
+    }
+
+    // Đảm bảo buffer có ít nhất `bytes` byte chưa đọc; false nếu file hết trước đó
+    private boolean fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes && !eof) {
+            if (channel.read(buffer) < 0) {
+                eof = true;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= bytes;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public boolean isEndlessMode() {
+        return endlessMode;
+    }
+
+    public boolean isBallStormMode() {
+        return ballStormMode;
+    }
+
+    public boolean isContinuousCollision() {
+        return continuousCollision;
+    }
+
+    public EndlessConfig getEndlessConfig() {
+        return endlessConfig;
+    }
+
+    /**
+     * Số lệnh đã đọc.
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * true nếu đã đọc tới trailer hợp lệ (ván được ghi trọn vẹn).
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * true nếu luồng dừng lại vì gặp chunk hỏng hoặc bị cắt.
+     */
+    public boolean isCorrupted() {
+        return corrupted;
+    }
+
+    /**
+     * Tổng số tick của ván theo trailer, hoặc -1 nếu chưa đọc tới trailer.
+     */
+    public int getEndTick() {
+        return endTick;
+    }
+
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,136 @@
+package model.manager;
+
+import model.state.GameState;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Lưu mọi ván chơi thành file replay trong một thư mục, ghi dần trong lúc chơi.
+ * Chunk đang dở được ghi xuống khi tạm dừng, nên nếu game bị tắt giữa chừng
+ * thì chỉ mất các lệnh từ lần tạm dừng/chunk đầy gần nhất.
+ * Khi tua lại (chế độ luyện tập) file được ghi lại từ nhật ký đã cắt, nên replay là diễn biến sau khi tua.
+ * Lỗi ghi file chỉ làm dừng ghi replay của ván đó, không ảnh hưởng tới game.
+ */
+public class ReplayRecorder implements GameEventListener {
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final GameManager gameManager;
+    private final Path directory;
+    private ReplayWriter writer;
+    private Path currentFile;
+
+    /**
+     * @param gameManager mô phỏng cần ghi (cung cấp nhật ký của ván mới)
+     * @param directory thư mục chứa file replay, được tạo khi cần
+     */
+    public ReplayRecorder(GameManager gameManager, Path directory) {
+        this.gameManager = gameManager;
+        this.directory = directory;
+    }
+
+    @Override
+    public void onGameStarted(boolean alreadyRunning) {
+        if (alreadyRunning) {
+            return;
+        }
+        close();
+        InputLog log = gameManager.getInputLog();
+        String name = "replay-" + LocalDateTime.now().format(FILE_TIME_FORMAT)
+                + "-" + Long.toHexString(log.getSeed()) + ReplayFormat.FILE_EXTENSION;
+        try {
+            Files.createDirectories(directory);
+            currentFile = directory.resolve(name);
+            writer = new ReplayWriter(currentFile, log);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void onInputRecorded(int tick, InputCommand command) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(tick, command);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void onStateChanged(GameState from, GameState to) {
+        if (writer != null && to == GameState.PAUSED) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+    }
+
+    @Override
+    public void onGameFinished(InputLog log) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.finish(log.getEndTick(), log.getFinalScore());
+        } catch (IOException e) {
+            fail(e);
+        }
+        close();
+    }
+
+    @Override
+    public void onSnapshotRestored(int tick) {
+        if (writer == null) {
+            return;
+        }
+        // Tua lại bỏ các lệnh từ tick đó trở đi và nhật ký đã bị cắt tương ứng:
+        // ghi lại file từ nhật ký rồi tiếp tục ghi dần như bình thường
+        ReplayWriter old = writer;
+        writer = null;
+        try {
+            old.close();
+            InputLog log = gameManager.getInputLog();
+            writer = new ReplayWriter(currentFile, log);
+            for (int i = 0; i < log.size(); i++) {
+                writer.write(log.getTick(i), log.getCommand(i));
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Đóng file đang ghi (gọi khi thoát ứng dụng). Ván đang dở được lưu không kèm trailer.
+     */
+    public void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Không thể đóng file replay " + currentFile + ": " + e.getMessage());
+            }
+        }
+        writer = null;
+        currentFile = null;
+    }
+
+    /**
+     * File replay đang được ghi, hoặc null nếu không có.
+     */
+    public Path getCurrentFile() {
+        return currentFile;
+    }
+
+    private void fail(IOException e) {
+        System.err.println("Không thể ghi replay " + currentFile + ": " + e.getMessage());
+        close();
+    }
+}
@@ -0,0 +1,179 @@
+package model.manager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Ghi file replay dạng nhị phân (xem ReplayFormat) trong khi game đang chạy.
+ * Lệnh được gom vào chunk trong bộ nhớ và chỉ ghi xuống FileChannel khi chunk đầy
+ * hoặc khi gọi flush, nên mỗi tick chỉ tốn vài byte trong buffer.
+ */
+public class ReplayWriter implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer payload = ByteBuffer.allocate(ReplayFormat.MAX_PAYLOAD_SIZE);
+    private final ByteBuffer frame = ByteBuffer.allocateDirect(ReplayFormat.MAX_FRAME_SIZE);
+    private final CRC32 crc = new CRC32();
+
+    private int chunkEvents = 0;
+    private int lastTick = 0;
+    private boolean finished = false;
+
+    /**
+     * Tạo (hoặc ghi đè) file replay và ghi header.
+     * @param file đường dẫn file
+     * @param header nhật ký cung cấp seed và các thiết lập của ván (chỉ đọc phần đầu, không đọc lệnh)
+     */
+    public ReplayWriter(Path file, InputLog header) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            writeHeader(header);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Ghi toàn bộ một nhật ký ra file (kèm trailer nếu ván đã kết thúc).
+     * @param file đường dẫn file
+     * @param log nhật ký
+     */
+    public static void writeLog(Path file, InputLog log) throws IOException {
+        try (ReplayWriter writer = new ReplayWriter(file, log)) {
+            for (int i = 0; i < log.size(); i++) {
+                writer.write(log.getTick(i), log.getCommand(i));
+            }
+            if (log.isFinished()) {
+                writer.finish(log.getEndTick(), log.getFinalScore());
+            }
+        }
+    }
+
+    /**
+     * Thêm một lệnh vào chunk hiện tại; chunk được ghi xuống file khi đầy.
+     * @param tick tick áp dụng lệnh (không giảm)
+     * @param command lệnh
+     */
+    public void write(int tick, InputCommand command) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("Replay đã kết thúc");
+        }
+        if (tick < lastTick) {
+            throw new IllegalArgumentException("Tick phải không giảm: " + tick);
+        }
+        if (chunkEvents == 0) {
+            ReplayFormat.putVarInt(payload, tick);
+            lastTick = tick;
+        }
+        ReplayFormat.putVarInt(payload, tick - lastTick);
+        payload.put(command.getCode());
+        lastTick = tick;
+        chunkEvents++;
+        if (chunkEvents == ReplayFormat.MAX_CHUNK_EVENTS) {
+            flush();
+        }
+    }
+
+    /**
+     * Đóng chunk đang dở và ghi xuống file (ví dụ khi tạm dừng game).
+     */
+    public void flush() throws IOException {
+        if (chunkEvents == 0) {
+            return;
+        }
+        payload.flip();
+        writeFrame(ReplayFormat.TAG_CHUNK);
+        payload.clear();
+        chunkEvents = 0;
+    }
+
+    /**
+     * Ghi chunk cuối và trailer (tick kết thúc, điểm cuối). Sau lời gọi này không ghi thêm lệnh được nữa.
+     * @param endTick tổng số tick của ván
+     * @param finalScore điểm cuối
+     */
+    public void finish(int endTick, int finalScore) throws IOException {
+        if (finished) {
+            return;
+        }
+        flush();
+        ReplayFormat.putVarInt(payload, endTick);
+        ReplayFormat.putVarInt(payload, ReplayFormat.zigZagEncode(finalScore));
+        payload.flip();
+        writeFrame(ReplayFormat.TAG_END);
+        payload.clear();
+        finished = true;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Ghi phần còn lại và đóng file. Nếu chưa gọi finish thì file không có trailer
+     * (ReplayReader coi là replay chưa hoàn chỉnh nhưng vẫn đọc được các lệnh đã ghi).
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!finished) {
+                flush();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeHeader(InputLog header) throws IOException {
+        EndlessConfig config = header.getEndlessConfig();
+        byte flags = 0;
+        if (header.isEndlessMode()) flags |= ReplayFormat.FLAG_ENDLESS;
+        if (header.isBallStormMode()) flags |= ReplayFormat.FLAG_BALL_STORM;
+        if (header.isContinuousCollision()) flags |= ReplayFormat.FLAG_CONTINUOUS_COLLISION;
+
+        frame.clear();
+        frame.putInt(ReplayFormat.MAGIC);
+        frame.put(ReplayFormat.VERSION);
+        frame.put(flags);
+        frame.putInt(header.getTickRate());
+        frame.putLong(header.getSeed());
+        frame.putDouble(config.getSpawnIntervalSeconds());
+        frame.putDouble(config.getMinSpawnIntervalSeconds());
+        frame.putDouble(config.getSpawnIntervalDecayPerSec());
+        frame.putDouble(config.getEmptyBrickChance());
+        frame.putDouble(config.getNormalBrickChance());
+        appendCrc();
+        writeOut();
+    }
+
+    private void writeFrame(byte tag) throws IOException {
+        frame.clear();
+        frame.put(tag);
+        frame.putShort((short) payload.remaining());
+        frame.put(payload);
+        appendCrc();
+        writeOut();
+    }
+
+    // Tính CRC32 của mọi byte đã ghi trong frame và nối vào cuối
+    private void appendCrc() {
+        ByteBuffer written = frame.duplicate();
+        written.flip();
+        crc.reset();
+        crc.update(written);
+        frame.putInt((int) crc.getValue());
+    }
+
+    private void writeOut() throws IOException {
+        frame.flip();
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+}
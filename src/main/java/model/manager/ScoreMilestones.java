@@ -0,0 +1,43 @@
+package model.manager;
+
+/**
+ * Các mốc điểm (mỗi STEP điểm) của một ván. Một lần cộng điểm lớn (combo dài) có thể vượt nhiều mốc
+ * cùng lúc; khi đó chỉ mốc cao nhất được báo, nên mỗi lần cộng điểm sinh nhiều nhất một thông báo.
+ */
+public final class ScoreMilestones {
+    public static final int STEP = 250;
+
+    private int next = STEP;
+
+    /**
+     * Về mốc đầu tiên (gọi khi bắt đầu ván mới).
+     */
+    public void reset() {
+        next = STEP;
+    }
+
+    /**
+     * Cập nhật theo điểm mới.
+     * @param score điểm hiện tại
+     * @return mốc cao nhất vừa vượt qua, hoặc -1 nếu chưa tới mốc kế tiếp
+     */
+    public int advance(int score) {
+        if (score < next) {
+            return -1;
+        }
+        int reached = score - (score - next) % STEP;
+        next = reached + STEP;
+        return reached;
+    }
+
+    /**
+     * Mốc kế tiếp chưa đạt (lưu vào snapshot).
+     */
+    public int getNext() {
+        return next;
+    }
+
+    public void setNext(int next) {
+        this.next = next;
+    }
+}
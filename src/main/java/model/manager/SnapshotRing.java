@@ -0,0 +1,126 @@
+package model.manager;
+
+/**
+ * Bộ đệm vòng cố định các snapshot, chụp mỗi `interval` tick; snapshot cũ nhất bị ghi đè khi đầy.
+ * Mọi GameSnapshot được tạo sẵn trong constructor và dùng lại, nên chụp định kỳ không cấp phát bộ nhớ.
+ * Dùng cho tua lại (practice) và tua nhanh trong replay (khôi phục snapshot gần nhất rồi mô phỏng tiếp).
+ */
+public class SnapshotRing {
+    private final GameSnapshot[] slots;
+    private final int interval;
+    // Vị trí sẽ ghi snapshot kế tiếp
+    private int head = 0;
+    private int count = 0;
+
+    /**
+     * @param capacity số snapshot tối đa giữ lại
+     * @param interval khoảng cách giữa hai lần chụp (tick)
+     */
+    public SnapshotRing(int capacity, int interval) {
+        if (capacity <= 0 || interval <= 0) {
+            throw new IllegalArgumentException("capacity và interval phải dương");
+        }
+        this.slots = new GameSnapshot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new GameSnapshot();
+        }
+        this.interval = interval;
+    }
+
+    /**
+     * Gọi sau mỗi tick: chụp nếu tick hiện tại là bội của interval và chưa được chụp.
+     * @param game mô phỏng
+     */
+    public void onTick(GameManager game) {
+        int tick = game.getTickCount();
+        if (tick % interval == 0 && (count == 0 || newest().getTick() != tick)) {
+            capture(game);
+        }
+    }
+
+    /**
+     * Chụp trạng thái hiện tại vào ô kế tiếp (ghi đè snapshot cũ nhất nếu đầy).
+     * @param game mô phỏng
+     */
+    public void capture(GameManager game) {
+        game.saveSnapshot(slots[head]);
+        head = (head + 1) % slots.length;
+        if (count < slots.length) {
+            count++;
+        }
+    }
+
+    /**
+     * Snapshot mới nhất có tick không lớn hơn tick cho trước.
+     * @param tick tick
+     * @return snapshot, hoặc null nếu không có
+     */
+    public GameSnapshot findAtOrBefore(int tick) {
+        for (int i = 0; i < count; i++) {
+            GameSnapshot snapshot = slots[(head - 1 - i + slots.length) % slots.length];
+            if (snapshot.getTick() <= tick) {
+                return snapshot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Khôi phục snapshot mới nhất có tick không lớn hơn tick cho trước và bỏ các snapshot mới hơn
+     * (chúng thuộc nhánh thời gian vừa bị tua lại).
+     * @param game mô phỏng
+     * @param tick tick đích
+     * @return tick của snapshot đã khôi phục, hoặc -1 nếu không có snapshot phù hợp
+     */
+    public int restoreAtOrBefore(GameManager game, int tick) {
+        GameSnapshot snapshot = findAtOrBefore(tick);
+        if (snapshot == null) {
+            return -1;
+        }
+        game.restoreSnapshot(snapshot);
+        while (count > 0 && newest().getTick() > snapshot.getTick()) {
+            head = (head - 1 + slots.length) % slots.length;
+            count--;
+        }
+        return snapshot.getTick();
+    }
+
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Tick của snapshot cũ nhất, hoặc -1 nếu trống.
+     */
+    public int getOldestTick() {
+        return count == 0 ? -1 : slots[(head - count + slots.length) % slots.length].getTick();
+    }
+
+    /**
+     * Tổng dung lượng các snapshot đang giữ (byte).
+     */
+    public int getSizeInBytes() {
+        int total = 0;
+        for (int i = 0; i < slots.length; i++) {
+            total += slots[i].getSizeInBytes();
+        }
+        return total;
+    }
+
+    private GameSnapshot newest() {
+        return slots[(head - 1 + slots.length) % slots.length];
+    }
+}
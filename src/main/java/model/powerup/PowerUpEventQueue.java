@@ -0,0 +1,68 @@
+package model.powerup;
+
+import java.util.Arrays;
+
+/**
+ * Hàng đợi sự kiện power-up trong một tick: rơi ra từ gạch (DROP) và được paddle nhặt (PICKUP).
+ * Va chạm chỉ ghi sự kiện; GameManager xử lý cả hàng đợi một lần mỗi tick theo đúng thứ tự ghi
+ * rồi xoá, nên chi phí không phụ thuộc số power-up đang rơi. Lưu trong mảng nguyên thuỷ,
+ * chỉ cấp phát khi số sự kiện trong một tick vượt mức cao nhất trước đó.
+ */
+public class PowerUpEventQueue {
+    public static final byte DROP = 0;
+    public static final byte PICKUP = 1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int[] xs = new int[INITIAL_CAPACITY];
+    private int[] ys = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Ghi một sự kiện.
+     * @param kind DROP hoặc PICKUP
+     * @param type loại power-up
+     * @param x tọa độ X (góc trái power-up)
+     * @param y tọa độ Y (góc trên power-up)
+     */
+    public void add(byte kind, PowerUpType type, int x, int y) {
+        if (size == kinds.length) {
+            int capacity = size * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            types = Arrays.copyOf(types, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        kinds[size] = kind;
+        types[size] = (byte) type.ordinal();
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte getKind(int i) {
+        return kinds[i];
+    }
+
+    public PowerUpType getType(int i) {
+        return PowerUpType.fromOrdinal(types[i]);
+    }
+
+    public int getX(int i) {
+        return xs[i];
+    }
+
+    public int getY(int i) {
+        return ys[i];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
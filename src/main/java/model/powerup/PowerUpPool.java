@@ -0,0 +1,122 @@
+package model.powerup;
+
+/**
+ * Kho power-up đang rơi dạng struct-of-arrays: loại, vị trí và tốc độ rơi nằm trong các mảng
+ * nguyên thuỷ song song, gỡ bằng swap-remove (O(1)). Sức chứa cố định nên thêm/gỡ không cấp phát.
+ * Tốc độ rơi tính theo pixel/giây; phần lẻ dưới một pixel (subYs) có đơn vị 1/tickRate pixel.
+ * Các mảng trả về từ getter chỉ có size() phần tử đầu hợp lệ.
+ */
+public class PowerUpPool {
+    private final int capacity;
+    private final byte[] types;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] fallSpeeds;
+    private final int[] subYs;
+    private int size = 0;
+
+    /**
+     * @param capacity số power-up tối đa cùng lúc
+     */
+    public PowerUpPool(int capacity) {
+        this.capacity = capacity;
+        this.types = new byte[capacity];
+        this.xs = new int[capacity];
+        this.ys = new int[capacity];
+        this.fallSpeeds = new int[capacity];
+        this.subYs = new int[capacity];
+    }
+
+    /**
+     * Thêm một power-up nằm đúng tại pixel (x, y).
+     * @return chỉ số của power-up, hoặc -1 nếu kho đã đầy
+     */
+    public int spawn(PowerUpType type, int x, int y, int fallSpeed) {
+        return spawn(type, x, y, fallSpeed, 0);
+    }
+
+    /**
+     * Thêm một power-up kèm phần lẻ dưới một pixel theo Y (khôi phục từ snapshot).
+     * @return chỉ số của power-up, hoặc -1 nếu kho đã đầy
+     */
+    public int spawn(PowerUpType type, int x, int y, int fallSpeed, int subY) {
+        if (size >= capacity) {
+            return -1;
+        }
+        int i = size++;
+        types[i] = (byte) type.ordinal();
+        xs[i] = x;
+        ys[i] = y;
+        fallSpeeds[i] = fallSpeed;
+        subYs[i] = subY;
+        return i;
+    }
+
+    /**
+     * Gỡ power-up tại vị trí i bằng cách chép phần tử cuối vào chỗ trống.
+     * Khi duyệt xuôi, cần xét lại chỉ số i sau khi gọi hàm này.
+     * @param i chỉ số
+     */
+    public void removeAt(int i) {
+        int last = --size;
+        if (i != last) {
+            types[i] = types[last];
+            xs[i] = xs[last];
+            ys[i] = ys[last];
+            fallSpeeds[i] = fallSpeeds[last];
+            subYs[i] = subYs[last];
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public PowerUpType getType(int i) {
+        return PowerUpType.fromOrdinal(types[i]);
+    }
+
+    public int getX(int i) {
+        return xs[i];
+    }
+
+    public int getY(int i) {
+        return ys[i];
+    }
+
+    public int getFallSpeed(int i) {
+        return fallSpeeds[i];
+    }
+
+    public int getSubY(int i) {
+        return subYs[i];
+    }
+
+    public byte[] getTypes() {
+        return types;
+    }
+
+    public int[] getXs() {
+        return xs;
+    }
+
+    public int[] getYs() {
+        return ys;
+    }
+
+    public int[] getFallSpeeds() {
+        return fallSpeeds;
+    }
+
+    public int[] getSubYs() {
+        return subYs;
+    }
+}
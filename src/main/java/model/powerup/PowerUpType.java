@@ -1,10 +1,48 @@
 package model.powerup;
 
+/**
+ * Các loại power-up cùng thông số rơi và hiệu ứng. Power-up đang rơi không còn là đối tượng riêng
+ * mà là một dòng trong PowerUpPool; hiệu ứng được GameManager áp dụng theo loại khi nhặt.
+ */
 public enum PowerUpType {
-    EXPAND,
-    EXTRA_LIFE,
-    MULTI,
-    MAGNET
-}
+    /** Mở rộng paddle: magnitude là hệ số nhân chiều rộng. */
+    EXPAND(12.0, 1.5),
+    /** Cộng mạng: magnitude là số mạng cộng thêm. */
+    EXTRA_LIFE(0.0, 1),
+    /** Nhân bóng: magnitude là số bóng phụ sinh thêm. */
+    MULTI(0.0, 2),
+    /** Bóng dính paddle tới khi bấm SPACE. */
+    MAGNET(8.0, 0);
+
+    public static final int SIZE = 20;
+    // pixel/giây
+    public static final int FALL_SPEED = 180;
+
+    private static final PowerUpType[] VALUES = values();
+
+    private final double durationSeconds;
+    private final double magnitude;
 
+    PowerUpType(double durationSeconds, double magnitude) {
+        this.durationSeconds = durationSeconds;
+        this.magnitude = magnitude;
+    }
 
+    /**
+     * Thời gian hiệu lực (giây), 0 với hiệu ứng tức thời.
+     */
+    public double getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public double getMagnitude() {
+        return magnitude;
+    }
+
+    /**
+     * Tra loại theo ordinal mà không tạo mảng mới như values().
+     */
+    public static PowerUpType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
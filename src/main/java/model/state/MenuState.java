@@ -2,9 +2,9 @@ package model.state;
 
 public class MenuState {
     private int selectedIndex = 0;
-    private final String[] options = {"Start", "High Score", "Instruction", "Settings", "Exit"};
+    private final String[] options = {"Start", "Ball Storm", "High Score", "Instruction", "Settings", "Exit"};
 
-    public enum Action { NONE, START, HIGHSCORE, INSTRUCTION, SETTINGS, EXIT }
+    public enum Action { NONE, START, BALL_STORM, HIGHSCORE, INSTRUCTION, SETTINGS, EXIT }
 
     public void moveUp() {
         selectedIndex = (selectedIndex - 1 + options.length) % options.length;
@@ -17,10 +17,11 @@ public class MenuState {
     public Action confirm() {
         return switch (selectedIndex) {
             case 0 -> Action.START;
-            case 1 -> Action.HIGHSCORE;
-            case 2 -> Action.INSTRUCTION;
-            case 3 -> Action.SETTINGS;
-            case 4 -> Action.EXIT;
+            case 1 -> Action.BALL_STORM;
+            case 2 -> Action.HIGHSCORE;
+            case 3 -> Action.INSTRUCTION;
+            case 4 -> Action.SETTINGS;
+            case 5 -> Action.EXIT;
             default -> Action.NONE;
         };
     }
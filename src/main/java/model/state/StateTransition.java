@@ -58,6 +58,31 @@ public class StateTransition {
     public GameState getToState() {
         return toState;
     }
+
+    public double getTimer() {
+        return timer;
+    }
+
+    public double getDuration() {
+        return duration;
+    }
+
+    public boolean isSwitched() {
+        return switched;
+    }
+
+    /**
+     * Khôi phục toàn bộ trạng thái chuyển cảnh (dùng khi khôi phục snapshot).
+     */
+    public void restore(boolean active, GameState fromState, GameState toState,
+                        double timer, double duration, boolean switched) {
+        this.active = active;
+        this.fromState = fromState;
+        this.toState = toState;
+        this.timer = timer;
+        this.duration = duration;
+        this.switched = switched;
+    }
 }
 
 
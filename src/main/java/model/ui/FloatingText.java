@@ -1,18 +1,24 @@
 package model.ui;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-
+/**
+ * Chữ nổi (điểm, combo, mốc điểm) thuộc trạng thái mô phỏng: chỉ lưu vị trí, độ mờ và kiểu chữ.
+ * Màu lưu dạng ARGB 0xAARRGGBB để model không phụ thuộc JavaFX; việc vẽ do GameView đảm nhận.
+ * Trong game các đối tượng được cấp sẵn và dùng lại qua FloatingTextPool.
+ */
 public class FloatingText {
+    public static final int DEFAULT_COLOR = 0xFFFFFFFF;
+    public static final double DEFAULT_FONT_SIZE = 25;
+    public static final double DEFAULT_DY = -0.8;
+    public static final double DEFAULT_FADE_SPEED = 0.02;
+
     private double x, y;
     private String text;
     private double opacity = 1.0;
-    private double dy = -0.8;
+    private double dy = DEFAULT_DY;
     private boolean active = true;
-    private Color color = Color.WHITE;
-    private double fontSize = 25;
-    private double fadeSpeed = 0.02;
+    private int color = DEFAULT_COLOR;
+    private double fontSize = DEFAULT_FONT_SIZE;
+    private double fadeSpeed = DEFAULT_FADE_SPEED;
 
     /**
      * Khởi tạo một đối tượng FloatingText.
@@ -26,14 +32,30 @@ public class FloatingText {
         this.text = text;
     }
 
-    public FloatingText(double x, double y, String text, Color color, double fontSize, double dy, double fadeSpeed) {
+    public FloatingText(double x, double y, String text, int color, double fontSize, double dy, double fadeSpeed) {
+        reset(x, y, text, color, fontSize, dy, fadeSpeed);
+    }
+
+    /**
+     * Tạo text chưa hiển thị, dùng để cấp sẵn trong FloatingTextPool.
+     */
+    FloatingText() {
+        this.active = false;
+    }
+
+    /**
+     * Khởi tạo lại text để dùng lại đối tượng (FloatingTextPool).
+     */
+    void reset(double x, double y, String text, int color, double fontSize, double dy, double fadeSpeed) {
         this.x = x;
         this.y = y;
         this.text = text;
-        if (color != null) this.color = color;
-        if (fontSize > 0) this.fontSize = fontSize;
+        this.color = color;
+        this.fontSize = fontSize > 0 ? fontSize : DEFAULT_FONT_SIZE;
         this.dy = dy;
         this.fadeSpeed = fadeSpeed;
+        this.opacity = 1.0;
+        this.active = true;
     }
 
     /**
@@ -50,20 +72,6 @@ public class FloatingText {
         }
     }
 
-    /**
-     * Vẽ text lên màn hình.
-     * @param gc gc
-     */
-    public void render(GraphicsContext gc) {
-        // Thiết lập độ trong suốt cho text
-        gc.setGlobalAlpha(opacity);
-        gc.setFill(color);
-        gc.setFont(Font.font("m6x11", fontSize));
-        gc.fillText(text, x, y);
-        // Khôi phục lại độ trong suốt bình thường
-        gc.setGlobalAlpha(1.0);
-    }
-
     /**
      * Kiểm tra text còn hiển thị hay đã biến mất.
      * @return true nếu text vẫn còn hiển thị, ngược lại false.
@@ -72,4 +80,30 @@ public class FloatingText {
         return active;
     }
 
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public double getOpacity() {
+        return opacity;
+    }
+
+    /**
+     * Màu chữ dạng ARGB 0xAARRGGBB.
+     */
+    public int getColor() {
+        return color;
+    }
+
+    public double getFontSize() {
+        return fontSize;
+    }
 }
@@ -0,0 +1,126 @@
+package model.ui;
+
+import model.manager.GameEventBuffer;
+import model.manager.GameEventListener;
+import model.state.GameState;
+
+/**
+ * Tạo chữ nổi (điểm, combo, mốc điểm, "!extra") từ sự kiện của mỗi tick, thay vì để mô phỏng
+ * tự thêm chữ ngay trong vòng va chạm. Chữ nổi chỉ để hiển thị nên không nằm trong snapshot/replay.
+ * Chữ chỉ di chuyển và mờ dần khi game đang RUNNING, đồng bộ với tick mô phỏng.
+ */
+public class FloatingTextEffects implements GameEventListener {
+    // Tối đa MAX_FLOATING_TEXTS chữ cùng lúc (đầy thì bỏ chữ cũ nhất)
+    private static final int MAX_FLOATING_TEXTS = 64;
+
+    // Màu chữ nổi (ARGB)
+    private static final int MILESTONE_TEXT_COLOR = 0xFFF5F5DC;
+    private static final int EXTRA_BALL_TEXT_COLOR = 0xFFFFCDCD;
+    private static final int COMBO_TEXT_COLOR = 0xE6D1D4B5;
+
+    // Nhãn "+điểm (xcombo)" dựng sẵn theo combo để không nối chuỗi mỗi lần đánh trúng gạch
+    private static final int COMBO_LABEL_CACHE_SIZE = 128;
+
+    private final FloatingTextPool texts = new FloatingTextPool(MAX_FLOATING_TEXTS);
+    private final String[] comboLabels = new String[COMBO_LABEL_CACHE_SIZE];
+    private String baseScoreLabel;
+    private int baseScore = -1;
+    private boolean running = false;
+    private final int screenWidth;
+    private final int screenHeight;
+
+    /**
+     * @param screenWidth chiều rộng màn hình (để đặt chữ mốc điểm ở giữa)
+     * @param screenHeight chiều cao màn hình
+     */
+    public FloatingTextEffects(int screenWidth, int screenHeight) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+    }
+
+    public FloatingTextPool getTexts() {
+        return texts;
+    }
+
+    @Override
+    public void onTickEvents(GameEventBuffer events) {
+        for (int i = 0; i < events.size(); i++) {
+            switch (events.getKind(i)) {
+                case GameEventBuffer.BRICK_HIT -> spawnScore(events.getA(i), events.getB(i), events.getX(i), events.getY(i));
+                case GameEventBuffer.PADDLE_HIT -> {
+                    // Hiện "!extra" khi bóng phụ chạm paddle trong hiệu ứng magnet
+                    if (events.getA(i) == 0 && events.getB(i) != 0) {
+                        texts.spawn(events.getX(i), events.getY(i) - 20, "!extra", EXTRA_BALL_TEXT_COLOR, 24, -0.8, 0.015);
+                    }
+                }
+                case GameEventBuffer.SCORE_MILESTONE -> {
+                    double cx = screenWidth / 2.0 - 80;
+                    double cy = screenHeight / 2.0 - 40;
+                    texts.spawn(cx, cy, formatScore(events.getA(i)) + "!", MILESTONE_TEXT_COLOR, 60, -0.6, 0.015);
+                }
+                default -> { }
+            }
+        }
+        if (running) {
+            texts.update();
+        }
+    }
+
+    @Override
+    public void onGameStarted(boolean alreadyRunning) {
+        if (!alreadyRunning) {
+            texts.clear();
+        }
+    }
+
+    @Override
+    public void onStateChanged(GameState from, GameState to) {
+        running = to == GameState.RUNNING;
+    }
+
+    @Override
+    public void onSnapshotRestored(int tick) {
+        texts.clear();
+    }
+
+    private void spawnScore(int points, int combo, int x, int y) {
+        if (combo >= 2) {
+            texts.spawn(x, y, comboLabel(combo, points), COMBO_TEXT_COLOR, 28, -0.8, 0.015);
+        } else if (combo == 1) {
+            texts.spawn(x, y, baseScoreLabel(points));
+        }
+        // combo 0 (Ball Storm): không hiện chữ, quá nhiều gạch vỡ mỗi tick
+    }
+
+    private String baseScoreLabel(int points) {
+        if (points != baseScore) {
+            baseScore = points;
+            baseScoreLabel = "+" + points;
+        }
+        return baseScoreLabel;
+    }
+
+    private String comboLabel(int combo, int points) {
+        if (combo >= COMBO_LABEL_CACHE_SIZE) {
+            return "+" + points + " (x" + combo + ")";
+        }
+        String label = comboLabels[combo];
+        if (label == null) {
+            label = "+" + points + " (x" + combo + ")";
+            comboLabels[combo] = label;
+        }
+        return label;
+    }
+
+    private String formatScore(int value) {
+        String s = Integer.toString(value);
+        StringBuilder out = new StringBuilder();
+        int len = s.length();
+        for (int i = 0; i < len; i++) {
+            out.append(s.charAt(i));
+            int remaining = len - i - 1;
+            if (remaining > 0 && remaining % 3 == 0) out.append(',');
+        }
+        return out.toString();
+    }
+}
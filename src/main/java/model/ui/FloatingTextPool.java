@@ -0,0 +1,89 @@
+package model.ui;
+
+/**
+ * Kho chữ nổi sức chứa cố định: mọi FloatingText được cấp sẵn và dùng lại, nên hiện điểm/combo
+ * trong lúc chơi không tạo đối tượng mới. Khi đầy, text cũ nhất bị thay bằng text mới.
+ *
+ * Mảng chứa một hoán vị của các đối tượng: size() phần tử đầu đang hiển thị theo thứ tự tạo
+ * (cũ nhất trước), phần còn lại là đối tượng rảnh.
+ */
+public class FloatingTextPool {
+    private final FloatingText[] items;
+    private int size = 0;
+
+    /**
+     * @param capacity số text tối đa hiển thị cùng lúc
+     */
+    public FloatingTextPool(int capacity) {
+        items = new FloatingText[capacity];
+        for (int i = 0; i < capacity; i++) {
+            items[i] = new FloatingText();
+        }
+    }
+
+    /**
+     * Hiện text với kiểu mặc định.
+     */
+    public void spawn(double x, double y, String text) {
+        spawn(x, y, text, FloatingText.DEFAULT_COLOR, FloatingText.DEFAULT_FONT_SIZE,
+                FloatingText.DEFAULT_DY, FloatingText.DEFAULT_FADE_SPEED);
+    }
+
+    /**
+     * Hiện text; nếu kho đầy thì text cũ nhất bị thay thế.
+     * @param color màu ARGB 0xAARRGGBB
+     * @param fontSize cỡ chữ
+     * @param dy vận tốc dọc mỗi tick
+     * @param fadeSpeed độ mờ giảm mỗi tick
+     */
+    public void spawn(double x, double y, String text, int color, double fontSize, double dy, double fadeSpeed) {
+        if (size == items.length) {
+            // Xoay trái: text cũ nhất chuyển xuống cuối để dùng lại
+            FloatingText oldest = items[0];
+            System.arraycopy(items, 1, items, 0, size - 1);
+            items[size - 1] = oldest;
+            size--;
+        }
+        items[size++].reset(x, y, text, color, fontSize, dy, fadeSpeed);
+    }
+
+    /**
+     * Cập nhật mọi text đang hiển thị và thu hồi text đã mờ hết (giữ nguyên thứ tự các text còn lại).
+     */
+    public void update() {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            FloatingText text = items[read];
+            text.update();
+            if (!text.isActive()) continue;
+            if (write != read) {
+                items[read] = items[write];
+                items[write] = text;
+            }
+            write++;
+        }
+        size = write;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Số text đang hiển thị.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Text đang hiển thị thứ i (0 = cũ nhất).
+     */
+    public FloatingText get(int i) {
+        return items[i];
+    }
+
+    public int getCapacity() {
+        return items.length;
+    }
+}
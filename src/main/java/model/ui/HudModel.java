@@ -0,0 +1,167 @@
+package model.ui;
+
+/**
+ * Trạng thái HUD (điểm, mạng, số bóng, combo, đếm ngược hàng mới, thời gian power-up) kèm chữ đã định dạng.
+ * Mỗi trường chỉ được định dạng lại vào bộ đệm char dùng lại khi giá trị của nó đổi, và cờ dirty cho biết
+ * HUD có cần vẽ lại hay không; HUD đổi vài lần mỗi giây nên phần lớn frame không phải định dạng hay vẽ gì.
+ * Không phụ thuộc JavaFX.
+ */
+public final class HudModel {
+    public static final int SCORE = 0;
+    public static final int LIVES = 1;
+    public static final int BALLS = 2;
+    public static final int COMBO = 3;
+    public static final int NEXT_ROW = 4;
+    public static final int EXPAND = 5;
+    public static final int MAGNET = 6;
+    public static final int FIELD_COUNT = 7;
+
+    // Giá trị của trường đang ẩn
+    public static final int HIDDEN = Integer.MIN_VALUE;
+    // Combo chỉ hiện từ mức này
+    public static final int MIN_COMBO = 2;
+
+    private static final String[] PREFIXES = {"Score: ", "Lives: ", "Balls: ", "", "NEXT ROW: ", "", ""};
+    private static final String[] SUFFIXES = {"", "", "", "x COMBO!", "s", "s", "s"};
+    // Đủ cho tiền tố/hậu tố dài nhất và một số int có dấu
+    private static final int MAX_CHARS = 32;
+
+    private final int[] values = new int[FIELD_COUNT];
+    private final char[][] chars = new char[FIELD_COUNT][MAX_CHARS];
+    private final int[] lengths = new int[FIELD_COUNT];
+    // Chuỗi tạo từ bộ đệm khi cần, null khi giá trị vừa đổi
+    private final String[] texts = new String[FIELD_COUNT];
+    private boolean dirty = true;
+
+    public HudModel() {
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            values[i] = HIDDEN;
+        }
+    }
+
+    /**
+     * Cập nhật mọi trường từ trạng thái game.
+     * @param score điểm
+     * @param lives số mạng
+     * @param stormBalls số bóng Ball Storm
+     * @param ballStormMode đang chơi Ball Storm (hiện số bóng)
+     * @param combo combo hiện tại
+     * @param endlessMode đang chơi endless (hiện đếm ngược)
+     * @param nextRowSeconds số giây tới hàng mới
+     * @param expandSeconds số giây Expand còn lại (<= 0 là không hoạt động)
+     * @param magnetSeconds số giây Magnet còn lại (<= 0 là không hoạt động)
+     */
+    public void update(int score, int lives, int stormBalls, boolean ballStormMode, int combo,
+                       boolean endlessMode, double nextRowSeconds, double expandSeconds, double magnetSeconds) {
+        set(SCORE, score);
+        set(LIVES, lives);
+        set(BALLS, ballStormMode ? stormBalls : HIDDEN);
+        set(COMBO, combo >= MIN_COMBO ? combo : HIDDEN);
+        set(NEXT_ROW, endlessMode ? wholeSeconds(nextRowSeconds) : HIDDEN);
+        set(EXPAND, expandSeconds > 0.0 ? wholeSeconds(expandSeconds) : HIDDEN);
+        set(MAGNET, magnetSeconds > 0.0 ? wholeSeconds(magnetSeconds) : HIDDEN);
+    }
+
+    private static int wholeSeconds(double seconds) {
+        return Math.max(0, (int) Math.ceil(seconds));
+    }
+
+    /**
+     * Đặt giá trị một trường; chỉ định dạng lại và đánh dấu dirty khi giá trị khác trước.
+     * @param field chỉ số trường
+     * @param value giá trị, hoặc HIDDEN để ẩn
+     * @return true nếu giá trị đã đổi
+     */
+    public boolean set(int field, int value) {
+        if (values[field] == value) {
+            return false;
+        }
+        values[field] = value;
+        texts[field] = null;
+        dirty = true;
+        if (value != HIDDEN) {
+            format(field, value);
+        } else {
+            lengths[field] = 0;
+        }
+        return true;
+    }
+
+    private void format(int field, int value) {
+        char[] out = chars[field];
+        int n = 0;
+        String prefix = PREFIXES[field];
+        for (int i = 0; i < prefix.length(); i++) {
+            out[n++] = prefix.charAt(i);
+        }
+        n = appendInt(out, n, value);
+        String suffix = SUFFIXES[field];
+        for (int i = 0; i < suffix.length(); i++) {
+            out[n++] = suffix.charAt(i);
+        }
+        lengths[field] = n;
+    }
+
+    // Ghi số nguyên thập phân vào out từ vị trí n, không cấp phát
+    private static int appendInt(char[] out, int n, int value) {
+        long v = value;
+        if (v < 0) {
+            out[n++] = '-';
+            v = -v;
+        }
+        int start = n;
+        do {
+            out[n++] = (char) ('0' + v % 10);
+            v /= 10;
+        } while (v > 0);
+        // Đảo các chữ số vừa ghi ngược
+        for (int i = start, j = n - 1; i < j; i++, j--) {
+            char c = out[i];
+            out[i] = out[j];
+            out[j] = c;
+        }
+        return n;
+    }
+
+    public boolean isVisible(int field) {
+        return values[field] != HIDDEN;
+    }
+
+    public int getValue(int field) {
+        return values[field];
+    }
+
+    /**
+     * Bộ đệm chữ của trường; chỉ getLength(field) ký tự đầu có nghĩa. Không sửa mảng này.
+     */
+    public char[] getChars(int field) {
+        return chars[field];
+    }
+
+    public int getLength(int field) {
+        return lengths[field];
+    }
+
+    /**
+     * Chữ của trường dưới dạng String (cho API vẽ cần String); chỉ tạo lại sau khi giá trị đổi.
+     */
+    public String getText(int field) {
+        String text = texts[field];
+        if (text == null) {
+            text = new String(chars[field], 0, lengths[field]);
+            texts[field] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Có trường nào đổi kể từ lần clearDirty trước.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+    }
+}
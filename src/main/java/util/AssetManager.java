@@ -2,18 +2,36 @@ package util;
 
 import javafx.scene.image.Image;
 
-import java.util.HashMap;
-import java.util.Map;
+import model.manager.GameManager;
+import model.powerup.PowerUpType;
+
+import java.util.Arrays;
 import java.util.Objects;
 
 
 public class AssetManager {
 
+    // Handle sprite trong SpriteAtlas
+    public static final int SPRITE_BACKGROUND = 0;
+    public static final int SPRITE_PADDLE = 1;
+    public static final int SPRITE_BALL = 2;
+    public static final int SPRITE_NORMAL_BRICK = 3;
+    public static final int SPRITE_STRONG_BRICK = 4;
+    public static final int SPRITE_STRONG_BRICK_CRACKED = 5;
+    public static final int SPRITE_POWERUP_BRICK = 6;
+    public static final int SPRITE_POWERUP_EXPAND = 7;
+    public static final int SPRITE_POWERUP_MULTI = 8;
+    public static final int SPRITE_POWERUP_EXTRALIFE = 9;
+    public static final int SPRITE_POWERUP_MAGNET = 10;
+
+    private static final int SPRITE_COUNT = 11;
+
     // Biến static để giữ instance duy nhất
     private static AssetManager instance;
 
-    // Map lưu các ảnh (images) đã tải
-    private final Map<String, Image> images = new HashMap<>();
+    // Các biến thể đã giải mã của mỗi sprite (theo handle), chỉ giữ tới khi dựng xong atlas
+    private final Image[][] sprites = new Image[SPRITE_COUNT][];
+    private SpriteAtlas atlas = SpriteAtlas.separate(new Image[SPRITE_COUNT][]);
 
     // Constructor private để ngăn tạo instance từ bên ngoài
     private AssetManager() {}
@@ -31,45 +49,71 @@ public class AssetManager {
 
     /**
      * Tải tất cả các tài nguyên cần thiết cho game.
+     * Mỗi ảnh được giải mã thẳng ở (các) cỡ game thực sự vẽ nó, ví dụ paddle ở cả cỡ thường và cỡ mở rộng,
+     * nên khi vẽ không phải co giãn và không giữ bản gốc ở cỡ khác trong bộ nhớ.
      */
     public void loadAssets() {
-        loadImage("background", "/images/background.png");
-        loadImage("paddle", "/images/paddle.png");
-        loadImage("ball", "/images/ball.png");
-        loadImage("normal_brick", "/images/normal_brick.png");
-        loadImage("strong_brick", "/images/strong_brick.png");
-        loadImage("strong_brick_cracked", "/images/strong_brick_cracked.png");
-        loadImage("powerup_brick", "/images/powerup_brick.png");
-
-    // Sprite cho power-up
-        loadImage("powerup_expand", "/images/expand_paddle_powerup.png");
-        loadImage("powerup_multi", "/images/multi_ball_powerup.png");
-        loadImage("powerup_extralife", "/images/extra_life_powerup.png");
+        int paddleWidth = GameManager.PADDLE_WIDTH;
+        int paddleHeight = GameManager.PADDLE_HEIGHT;
+        int expandedPaddleWidth = (int) Math.round(paddleWidth * PowerUpType.EXPAND.getMagnitude());
+        int brickWidth = GameManager.BRICK_WIDTH;
+        int brickHeight = GameManager.BRICK_HEIGHT;
+        int ballSize = GameManager.BALL_SIZE;
+        int powerUpSize = PowerUpType.SIZE;
+
+        loadSprite(SPRITE_BACKGROUND, "/images/background.png", GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
+        loadSprite(SPRITE_PADDLE, "/images/paddle.png", paddleWidth, paddleHeight, expandedPaddleWidth, paddleHeight);
+        loadSprite(SPRITE_BALL, "/images/ball.png", ballSize, ballSize);
+        loadSprite(SPRITE_NORMAL_BRICK, "/images/normal_brick.png", brickWidth, brickHeight);
+        loadSprite(SPRITE_STRONG_BRICK, "/images/strong_brick.png", brickWidth, brickHeight);
+        loadSprite(SPRITE_STRONG_BRICK_CRACKED, "/images/strong_brick_cracked.png", brickWidth, brickHeight);
+        loadSprite(SPRITE_POWERUP_BRICK, "/images/powerup_brick.png", brickWidth, brickHeight);
+
+    // Sprite cho power-up (cả icon rơi lẫn icon trên HUD đều vẽ ở cỡ PowerUpType.SIZE)
+        loadSprite(SPRITE_POWERUP_EXPAND, "/images/expand_paddle_powerup.png", powerUpSize, powerUpSize);
+        loadSprite(SPRITE_POWERUP_MULTI, "/images/multi_ball_powerup.png", powerUpSize, powerUpSize);
+        loadSprite(SPRITE_POWERUP_EXTRALIFE, "/images/extra_life_powerup.png", powerUpSize, powerUpSize);
     // Power-up magnet (đảm bảo file tồn tại tại đường dẫn này)
-        loadImage("powerup_magnet", "/images/magnet_powerup.png");
+        loadSprite(SPRITE_POWERUP_MAGNET, "/images/magnet_powerup.png", powerUpSize, powerUpSize);
 
+        buildAtlas();
     }
 
     /**
-     * Tải một ảnh và đưa vào map.
-     * @param key tên định danh
+     * Giải mã một ảnh ở từng cỡ cho trước; cỡ đầu tiên là cỡ chính.
+     * @param handle handle sprite
      * @param path đường dẫn
+     * @param sizes các cặp (rộng, cao)
      */
-    private void loadImage(String key, String path) {
+    private void loadSprite(int handle, String path, int... sizes) {
+        Image[] variants = new Image[sizes.length / 2];
         try {
-            Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream(path)));
-            images.put(key, image);
+            for (int i = 0; i < variants.length; i++) {
+                variants[i] = new Image(Objects.requireNonNull(getClass().getResourceAsStream(path)),
+                        sizes[2 * i], sizes[2 * i + 1], false, true);
+            }
+            sprites[handle] = variants;
         } catch (Exception e) {
             System.err.println("Không thể tải tài nguyên ảnh" + path);
         }
     }
 
     /**
-     * Lấy một ảnh đã được tải từ kho tài nguyên.
-     * @param key tên định danh
-     * @return image
+     * Gom các sprite đã tải vào SpriteAtlas. Mặc định xếp chung một texture;
+     * -Darkanoid.atlas=false giữ mỗi biến thể một texture (để so sánh).
+     */
+    private void buildAtlas() {
+        boolean packed = Boolean.parseBoolean(System.getProperty("arkanoid.atlas", "true"));
+        atlas = packed ? SpriteAtlas.pack(sprites) : SpriteAtlas.separate(sprites);
+        // Ảnh đã nằm trong atlas (hoặc được atlas giữ), không giữ thêm bản nào
+        Arrays.fill(sprites, null);
+    }
+
+    /**
+     * Bảng sprite truy cập bằng handle SPRITE_*; dùng cho vẽ mỗi frame thay vì getImage.
+     * @return atlas
      */
-    public Image getImage(String key) {
-        return images.get(key);
+    public SpriteAtlas getAtlas() {
+        return atlas;
     }
 }
@@ -0,0 +1,86 @@
+package util;
+
+/**
+ * Bộ tích luỹ thời gian cho vòng lặp mô phỏng bước cố định (fixed timestep).
+ * Mỗi frame cộng thời gian thực vào accumulator rồi trả về số tick cần chạy,
+ * giới hạn bởi maxTicksPerFrame để tránh "spiral of death" khi máy bị lag.
+ */
+public class FixedTimestep {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final int tickRate;
+    private final double tickSeconds;
+    private final int maxTicksPerFrame;
+
+    private double accumulator = 0.0;
+    private long lastNanos = -1;
+
+    /**
+     * Khởi tạo bộ đếm với tần số tick cố định.
+     * @param tickRate số tick mô phỏng mỗi giây
+     * @param maxTicksPerFrame số tick tối đa được chạy bù trong một frame
+     */
+    public FixedTimestep(int tickRate, int maxTicksPerFrame) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("tickRate phải > 0: " + tickRate);
+        }
+        if (maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("maxTicksPerFrame phải > 0: " + maxTicksPerFrame);
+        }
+        this.tickRate = tickRate;
+        this.tickSeconds = 1.0 / tickRate;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+    }
+
+    /**
+     * Cộng thời gian thực kể từ lần gọi trước và trả về số tick cần chạy.
+     * Phần thời gian vượt quá giới hạn chạy bù sẽ bị bỏ (game chậm lại thay vì treo).
+     * @param nowNanos thời điểm hiện tại (System.nanoTime)
+     * @return số tick cần chạy trong frame này
+     */
+    public int advance(long nowNanos) {
+        if (lastNanos < 0) {
+            lastNanos = nowNanos;
+            return 0;
+        }
+        accumulator += (nowNanos - lastNanos) / NANOS_PER_SECOND;
+        lastNanos = nowNanos;
+
+        int ticks = (int) (accumulator / tickSeconds);
+        if (ticks > maxTicksPerFrame) {
+            ticks = maxTicksPerFrame;
+            accumulator = 0.0;
+        } else {
+            accumulator -= ticks * tickSeconds;
+        }
+        return ticks;
+    }
+
+    /**
+     * Xoá thời gian tích luỹ (dùng khi bắt đầu game, resume...).
+     * @param nowNanos thời điểm hiện tại (System.nanoTime)
+     */
+    public void reset(long nowNanos) {
+        accumulator = 0.0;
+        lastNanos = nowNanos;
+    }
+
+    /**
+     * Tỉ lệ thời gian còn dư so với một tick (0..1), dùng cho nội suy khi render.
+     */
+    public double getAlpha() {
+        return Math.min(1.0, accumulator / tickSeconds);
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public double getTickSeconds() {
+        return tickSeconds;
+    }
+
+    public int getMaxTicksPerFrame() {
+        return maxTicksPerFrame;
+    }
+}
@@ -0,0 +1,40 @@
+package util;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Bộ sinh số ngẫu nhiên SplitMix64 cho mô phỏng: toàn bộ chuỗi số chỉ phụ thuộc seed,
+ * giống nhau trên mọi JVM, nên một ván chơi có thể phát lại y hệt từ seed và nhật ký input.
+ */
+public class GameRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    /**
+     * Khởi tạo bộ sinh với seed cho trước.
+     * @param seed seed
+     */
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Trạng thái nội bộ hiện tại (dùng cho snapshot); setState với giá trị này tiếp tục đúng chuỗi số.
+     */
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+}
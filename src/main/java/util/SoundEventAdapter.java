@@ -0,0 +1,255 @@
+package util;
+
+import javafx.application.Platform;
+import javafx.scene.media.MediaPlayer;
+import model.manager.GameEventBuffer;
+import model.manager.GameEventListener;
+import model.state.GameState;
+
+/**
+ * Cầu nối giữa sự kiện mô phỏng và SoundManager (JavaFX): phát hiệu ứng âm thanh
+ * và chuyển nhạc nền theo state. Mô phỏng chạy headless chỉ cần không đăng ký listener này.
+ * Sự kiện đến từ luồng mô phỏng; mọi thao tác âm thanh được chuyển sang luồng JavaFX.
+ */
+public class SoundEventAdapter implements GameEventListener {
+
+    // Singleton duy nhất
+    private static SoundEventAdapter instance;
+
+    private MediaPlayer menuMusicPlayer;
+    private MediaPlayer gameMusicPlayer;
+    private MediaPlayer gameOverMusicPlayer;
+
+    private SoundEventAdapter() {}
+
+    /**
+     * Lấy instance duy nhất của SoundEventAdapter.
+     */
+    public static SoundEventAdapter getInstance() {
+        if (instance == null) {
+            instance = new SoundEventAdapter();
+        }
+        return instance;
+    }
+
+    /**
+     * Phát hiệu ứng âm thanh cho cả tick: mỗi loại âm thanh tối đa một lần,
+     * dù trong tick có bao nhiêu lần va chạm (ví dụ Ball Storm vỡ hàng chục gạch cùng lúc).
+     */
+    @Override
+    public void onTickEvents(GameEventBuffer events) {
+        boolean paddleHit = events.count(GameEventBuffer.PADDLE_HIT) > 0;
+        boolean brickHit = events.count(GameEventBuffer.BRICK_HIT) > 0;
+        boolean powerUp = events.count(GameEventBuffer.POWER_UP_COLLECTED) > 0;
+        if (!paddleHit && !brickHit && !powerUp) {
+            return;
+        }
+        runOnFxThread(() -> {
+            if (paddleHit) {
+                SoundManager.getInstance().playSound("paddleHit");
+            }
+            if (brickHit) {
+                SoundManager.getInstance().playSound("brickHit");
+            }
+            if (powerUp) {
+                SoundManager.getInstance().playSound("powerUp");
+            }
+        });
+    }
+
+    @Override
+    public void onGameStarted(boolean alreadyRunning) {
+        runOnFxThread(() -> handleGameStarted(alreadyRunning));
+    }
+
+    @Override
+    public void onStateChanged(GameState from, GameState to) {
+        runOnFxThread(() -> handleStateChanged(from, to));
+    }
+
+    private void handleGameStarted(boolean alreadyRunning) {
+        stopMenuMusic();
+        stopGameOverMusic();
+        if (alreadyRunning) {
+            startGameMusic();
+        } else {
+            // Nhạc in-game bắt đầu khi chuyển cảnh vào RUNNING xong
+            stopGameMusic();
+        }
+    }
+
+    private void handleStateChanged(GameState from, GameState to) {
+        if (from == to) {
+            return;
+        }
+
+        if (from == GameState.RUNNING && to == GameState.PAUSED) {
+            pauseGameMusic();
+            stopMenuMusic();
+            stopGameOverMusic();
+            return;
+        }
+
+        if (from == GameState.PAUSED && to == GameState.RUNNING) {
+            stopMenuMusic();
+            stopGameOverMusic();
+            resumeGameMusic();
+            return;
+        }
+
+        if (to == GameState.RUNNING) {
+            stopMenuMusic();
+            stopGameOverMusic();
+            startGameMusic();
+            return;
+        }
+
+        if (from == GameState.RUNNING) {
+            stopGameMusic();
+        } else if (from == GameState.PAUSED) {
+            stopGameMusic();
+        }
+
+        if (isGameOverState(to)) {
+            stopMenuMusic();
+            startGameOverMusic();
+            return;
+        }
+
+        if (isMenuState(to)) {
+            stopGameOverMusic();
+            startMenuMusic();
+        } else {
+            stopMenuMusic();
+            stopGameOverMusic();
+        }
+    }
+
+    /**
+     * Gọi sau khi SoundManager tải xong âm thanh: phát nhạc nền phù hợp với state hiện tại.
+     * @param currentState state hiện tại của game
+     */
+    public void onAudioReady(GameState currentState) {
+        if (currentState == GameState.RUNNING) {
+            startGameMusic();
+        } else if (isGameOverState(currentState)) {
+            startGameOverMusic();
+        } else if (isMenuState(currentState)) {
+            startMenuMusic();
+        }
+    }
+
+    public void refreshMusicVolume() {
+        double volume = SoundManager.getInstance().getMasterVolume();
+        if (menuMusicPlayer != null) {
+            menuMusicPlayer.setVolume(volume);
+        }
+        if (gameMusicPlayer != null) {
+            gameMusicPlayer.setVolume(volume);
+        }
+        if (gameOverMusicPlayer != null) {
+            gameOverMusicPlayer.setVolume(volume);
+        }
+    }
+
+    private void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
+    private boolean isMenuState(GameState state) {
+        return state == GameState.MENU
+                || state == GameState.HIGHSCORE
+                || state == GameState.INSTRUCTION
+                || state == GameState.SETTINGS;
+    }
+
+    private boolean isGameOverState(GameState state) {
+        return state == GameState.NAME_INPUT
+                || state == GameState.GAME_OVER
+                || state == GameState.GAME_WON;
+    }
+
+    private void startMenuMusic() {
+        if (menuMusicPlayer != null) {
+            return;
+        }
+        double volume = SoundManager.getInstance().getMasterVolume();
+        menuMusicPlayer = SoundManager.getInstance().playSoundLooping("mainMenuBGM", volume);
+        if (menuMusicPlayer == null) {
+            System.err.println("Không thể phát menu BGM");
+        }
+    }
+
+    private void stopMenuMusic() {
+        if (menuMusicPlayer != null) {
+            SoundManager.getInstance().stopLoop(menuMusicPlayer);
+            menuMusicPlayer = null;
+        }
+    }
+
+    private void startGameMusic() {
+        double volume = SoundManager.getInstance().getMasterVolume();
+        if (gameMusicPlayer == null) {
+            gameMusicPlayer = SoundManager.getInstance().playSoundLooping("inGameBGM", volume);
+            if (gameMusicPlayer == null) {
+                System.err.println("Không thể phát in-game BGM");
+                return;
+            }
+        } else {
+            gameMusicPlayer.setVolume(volume);
+            if (gameMusicPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
+                gameMusicPlayer.play();
+            }
+        }
+    }
+
+    private void stopGameMusic() {
+        if (gameMusicPlayer != null) {
+            SoundManager.getInstance().stopLoop(gameMusicPlayer);
+            gameMusicPlayer = null;
+        }
+    }
+
+    private void pauseGameMusic() {
+        if (gameMusicPlayer != null && gameMusicPlayer.getStatus() == MediaPlayer.Status.PLAYING) {
+            gameMusicPlayer.pause();
+        }
+    }
+
+    private void resumeGameMusic() {
+        if (gameMusicPlayer != null) {
+            gameMusicPlayer.setVolume(SoundManager.getInstance().getMasterVolume());
+            if (gameMusicPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
+                gameMusicPlayer.play();
+            }
+        } else {
+            startGameMusic();
+        }
+    }
+
+    private void startGameOverMusic() {
+        double volume = SoundManager.getInstance().getMasterVolume();
+        if (gameOverMusicPlayer == null) {
+            gameOverMusicPlayer = SoundManager.getInstance().playSoundLooping("gameOverBGM", volume);
+            if (gameOverMusicPlayer == null) {
+                System.err.println("Không thể phát game-over BGM");
+            }
+        } else {
+            gameOverMusicPlayer.setVolume(volume);
+            if (gameOverMusicPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
+                gameOverMusicPlayer.play();
+            }
+        }
+    }
+
+    private void stopGameOverMusic() {
+        if (gameOverMusicPlayer != null) {
+            SoundManager.getInstance().stopLoop(gameOverMusicPlayer);
+            gameOverMusicPlayer = null;
+        }
+    }
+}
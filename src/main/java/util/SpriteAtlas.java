@@ -0,0 +1,245 @@
+package util;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.util.Arrays;
+
+/**
+ * Bảng sprite truy cập bằng handle số nguyên. Mỗi handle có một hoặc nhiều biến thể đã được giải mã sẵn
+ * ở đúng cỡ hiển thị (ví dụ paddle thường và paddle mở rộng); mỗi biến thể là một ảnh và hình chữ nhật
+ * nguồn trong ảnh đó. draw chọn biến thể đúng cỡ đích để vẽ 1:1, chỉ co giãn khi không có biến thể nào khớp.
+ * Ở chế độ atlas mọi biến thể được xếp vào một texture duy nhất lúc tải, nên vẽ mọi thứ chỉ dùng một texture
+ * và không cần tra cứu theo tên mỗi frame; khi tắt atlas mỗi biến thể là một ảnh riêng.
+ * Renderer vẽ qua draw, dùng overload drawImage với hình chữ nhật nguồn.
+ */
+public final class SpriteAtlas {
+    // Khoảng đệm quanh mỗi sprite trong atlas, được lấp bằng pixel viền để lọc ảnh khi co giãn không lem màu
+    public static final int PADDING = 1;
+    private static final int MIN_PAGE_WIDTH = 512;
+
+    // Biến thể của handle h: chỉ số firstVariants[h] .. firstVariants[h] + variantCounts[h] - 1
+    private final int[] firstVariants;
+    private final int[] variantCounts;
+    private final Image[] images;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] widths;
+    private final int[] heights;
+    private final Image page;
+
+    private SpriteAtlas(Image[][] variants, Image[] images, int[] xs, int[] ys, Image page) {
+        int handles = variants.length;
+        this.firstVariants = new int[handles];
+        this.variantCounts = new int[handles];
+        int v = 0;
+        for (int h = 0; h < handles; h++) {
+            firstVariants[h] = v;
+            variantCounts[h] = variants[h] != null ? variants[h].length : 0;
+            v += variantCounts[h];
+        }
+        Image[] flat = flatten(variants);
+        this.widths = new int[flat.length];
+        this.heights = new int[flat.length];
+        for (int i = 0; i < flat.length; i++) {
+            if (flat[i] != null) {
+                widths[i] = (int) flat[i].getWidth();
+                heights[i] = (int) flat[i].getHeight();
+            }
+        }
+        this.images = images;
+        this.xs = xs;
+        this.ys = ys;
+        this.page = page;
+    }
+
+    /**
+     * Xếp mọi biến thể vào một texture chung.
+     * @param variants biến thể theo handle, biến thể đầu là cỡ chính (null hoặc phần tử null nếu thiếu ảnh)
+     * @return atlas
+     */
+    public static SpriteAtlas pack(Image[][] variants) {
+        Image[] flat = flatten(variants);
+        int count = flat.length;
+        int[] widths = new int[count];
+        int[] heights = new int[count];
+        for (int i = 0; i < count; i++) {
+            if (flat[i] != null) {
+                widths[i] = (int) flat[i].getWidth();
+                heights[i] = (int) flat[i].getHeight();
+            }
+        }
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+        int[] pageSize = layout(widths, heights, xs, ys);
+        if (pageSize[0] == 0 || pageSize[1] == 0) {
+            return separate(variants);
+        }
+
+        WritableImage page = new WritableImage(pageSize[0], pageSize[1]);
+        PixelWriter writer = page.getPixelWriter();
+        Image[] images = new Image[count];
+        for (int i = 0; i < count; i++) {
+            if (flat[i] == null) continue;
+            PixelReader reader = flat[i].getPixelReader();
+            if (reader == null) {
+                // Ảnh chưa đọc được pixel: giữ riêng
+                images[i] = flat[i];
+                xs[i] = 0;
+                ys[i] = 0;
+                continue;
+            }
+            copyExtruded(reader, writer, xs[i], ys[i], widths[i], heights[i]);
+            images[i] = page;
+        }
+        return new SpriteAtlas(variants, images, xs, ys, page);
+    }
+
+    /**
+     * Không dùng atlas: mỗi biến thể là nguyên ảnh của nó.
+     * @param variants biến thể theo handle, biến thể đầu là cỡ chính (null hoặc phần tử null nếu thiếu ảnh)
+     * @return bảng sprite
+     */
+    public static SpriteAtlas separate(Image[][] variants) {
+        Image[] flat = flatten(variants);
+        return new SpriteAtlas(variants, flat, new int[flat.length], new int[flat.length], null);
+    }
+
+    private static Image[] flatten(Image[][] variants) {
+        int count = 0;
+        for (int h = 0; h < variants.length; h++) {
+            count += variants[h] != null ? variants[h].length : 0;
+        }
+        Image[] flat = new Image[count];
+        int i = 0;
+        for (int h = 0; h < variants.length; h++) {
+            if (variants[h] == null) continue;
+            for (int k = 0; k < variants[h].length; k++) {
+                flat[i++] = variants[h][k];
+            }
+        }
+        return flat;
+    }
+
+    /**
+     * Xếp hình chữ nhật theo kệ (shelf): sprite cao trước, lấp từng hàng từ trái sang phải.
+     * Tọa độ ghi ra là góc trên trái của sprite (đã chừa PADDING mỗi phía). Sprite kích thước 0 được bỏ qua.
+     * @param widths chiều rộng từng sprite
+     * @param heights chiều cao từng sprite
+     * @param xs nhận tọa độ X trong atlas
+     * @param ys nhận tọa độ Y trong atlas
+     * @return {chiều rộng, chiều cao} của atlas
+     */
+    public static int[] layout(int[] widths, int[] heights, int[] xs, int[] ys) {
+        int count = widths.length;
+        int pageWidth = MIN_PAGE_WIDTH;
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+            pageWidth = Math.max(pageWidth, widths[i] + 2 * PADDING);
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(heights[b], heights[a]));
+
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        int usedWidth = 0;
+        for (int k = 0; k < count; k++) {
+            int i = order[k];
+            if (widths[i] == 0 || heights[i] == 0) continue;
+            int cellWidth = widths[i] + 2 * PADDING;
+            int cellHeight = heights[i] + 2 * PADDING;
+            if (shelfX + cellWidth > pageWidth) {
+                shelfY += shelfHeight;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            xs[i] = shelfX + PADDING;
+            ys[i] = shelfY + PADDING;
+            shelfX += cellWidth;
+            shelfHeight = Math.max(shelfHeight, cellHeight);
+            usedWidth = Math.max(usedWidth, shelfX);
+        }
+        return new int[] {usedWidth, shelfY + shelfHeight};
+    }
+
+    // Chép sprite vào (x, y) rồi nhân bản hàng/cột viền ra khoảng đệm
+    private static void copyExtruded(PixelReader reader, PixelWriter writer, int x, int y, int w, int h) {
+        writer.setPixels(x, y, w, h, reader, 0, 0);
+        writer.setPixels(x, y - 1, w, 1, reader, 0, 0);
+        writer.setPixels(x, y + h, w, 1, reader, 0, h - 1);
+        writer.setPixels(x - 1, y, 1, h, reader, 0, 0);
+        writer.setPixels(x + w, y, 1, h, reader, w - 1, 0);
+        writer.setArgb(x - 1, y - 1, reader.getArgb(0, 0));
+        writer.setArgb(x + w, y - 1, reader.getArgb(w - 1, 0));
+        writer.setArgb(x - 1, y + h, reader.getArgb(0, h - 1));
+        writer.setArgb(x + w, y + h, reader.getArgb(w - 1, h - 1));
+    }
+
+    // Biến thể đúng cỡ w x h, hoặc cỡ chính nếu không có; -1 nếu sprite không có ảnh
+    private int variantFor(int handle, double w, double h) {
+        int first = firstVariants[handle];
+        int end = first + variantCounts[handle];
+        for (int v = first; v < end; v++) {
+            if (widths[v] == w && heights[v] == h && images[v] != null) {
+                return v;
+            }
+        }
+        return has(handle) ? first : -1;
+    }
+
+    /**
+     * Vẽ sprite vào hình chữ nhật đích: dùng biến thể đúng cỡ nếu có (vẽ 1:1), nếu không thì co giãn cỡ chính.
+     * @return false nếu sprite không tồn tại (người gọi tự vẽ thay thế)
+     */
+    public boolean draw(GraphicsContext gc, int handle, double x, double y, double w, double h) {
+        int v = variantFor(handle, w, h);
+        if (v < 0) {
+            return false;
+        }
+        gc.drawImage(images[v], xs[v], ys[v], widths[v], heights[v], x, y, w, h);
+        return true;
+    }
+
+    /**
+     * Vẽ một phần cỡ chính của sprite (tọa độ nguồn tính theo pixel trong sprite) vào hình chữ nhật đích.
+     * @return false nếu sprite không tồn tại
+     */
+    public boolean drawRegion(GraphicsContext gc, int handle, double sx, double sy, double sw, double sh,
+                              double x, double y, double w, double h) {
+        if (!has(handle)) {
+            return false;
+        }
+        int v = firstVariants[handle];
+        gc.drawImage(images[v], xs[v] + sx, ys[v] + sy, sw, sh, x, y, w, h);
+        return true;
+    }
+
+    public boolean has(int handle) {
+        return variantCounts[handle] > 0 && images[firstVariants[handle]] != null;
+    }
+
+    /**
+     * Chiều rộng cỡ chính của sprite.
+     */
+    public int getWidth(int handle) {
+        return variantCounts[handle] > 0 ? widths[firstVariants[handle]] : 0;
+    }
+
+    /**
+     * Chiều cao cỡ chính của sprite.
+     */
+    public int getHeight(int handle) {
+        return variantCounts[handle] > 0 ? heights[firstVariants[handle]] : 0;
+    }
+
+    /**
+     * Texture chung của atlas, hoặc null nếu không dùng atlas.
+     */
+    public Image getPage() {
+        return page;
+    }
+}
@@ -0,0 +1,101 @@
+package util;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Font và số đo chữ dùng chung cho mọi phần vẽ (HUD, menu, chữ nổi).
+ * Mỗi cỡ chữ chỉ tạo một Font; chiều rộng của một chuỗi được nhớ theo từng Font trong một bảng LRU
+ * có giới hạn, nên nhãn cố định chỉ đo một lần còn chuỗi thay đổi liên tục (điểm, đồng hồ) không làm
+ * bảng phình ra. Khi phải đo thật thì dùng lại một Text node duy nhất thay vì tạo node mới mỗi frame.
+ * Chỉ dùng trên luồng JavaFX.
+ */
+public class TextService {
+    public static final String FONT_NAME = "m6x11";
+    // Số chuỗi được nhớ cho mỗi Font
+    private static final int WIDTHS_PER_FONT = 128;
+
+    private static TextService instance;
+
+    private double[] sizes = new double[8];
+    private Font[] fonts = new Font[8];
+    private WidthCache[] widths = new WidthCache[8];
+    private int fontCount = 0;
+    private final Text measurer = new Text();
+
+    private TextService() {}
+
+    /**
+     * Public, static để lấy instance duy nhất.
+     * @return instance
+     */
+    public static TextService getInstance() {
+        if (instance == null) {
+            instance = new TextService();
+        }
+        return instance;
+    }
+
+    /**
+     * Font của game ở cỡ cho trước, tạo lần đầu rồi dùng lại.
+     * @param size cỡ chữ
+     * @return font
+     */
+    public Font font(double size) {
+        return fonts[slotOf(size)];
+    }
+
+    /**
+     * Chiều rộng hiển thị của chuỗi ở cỡ chữ cho trước.
+     * @param size cỡ chữ
+     * @param text chuỗi
+     * @return chiều rộng (pixel)
+     */
+    public double width(double size, String text) {
+        int slot = slotOf(size);
+        WidthCache cache = widths[slot];
+        Double cached = cache.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        measurer.setFont(fonts[slot]);
+        measurer.setText(text);
+        double width = measurer.getLayoutBounds().getWidth();
+        cache.put(text, width);
+        return width;
+    }
+
+    private int slotOf(double size) {
+        for (int i = 0; i < fontCount; i++) {
+            if (sizes[i] == size) {
+                return i;
+            }
+        }
+        if (fontCount == fonts.length) {
+            sizes = Arrays.copyOf(sizes, fontCount * 2);
+            fonts = Arrays.copyOf(fonts, fontCount * 2);
+            widths = Arrays.copyOf(widths, fontCount * 2);
+        }
+        sizes[fontCount] = size;
+        fonts[fontCount] = new Font(FONT_NAME, size);
+        widths[fontCount] = new WidthCache();
+        return fontCount++;
+    }
+
+    // Bảng LRU: LinkedHashMap theo thứ tự truy cập, bỏ mục ít dùng nhất khi vượt giới hạn
+    @SuppressWarnings("serial") // Bộ nhớ đệm trong tiến trình, không bao giờ được tuần tự hoá
+    private static final class WidthCache extends LinkedHashMap<String, Double> {
+        WidthCache() {
+            super(WIDTHS_PER_FONT * 2, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+            return size() > WIDTHS_PER_FONT;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bộ đệm ba lớp không khoá giữa đúng một luồng ghi và đúng một luồng đọc.
+ * Luồng ghi điền vào getWriteBuffer() rồi publish(); luồng đọc gọi read() để lấy bản mới nhất đã publish.
+ * Ba đối tượng được tạo sẵn và luân phiên: bản luồng đọc đang giữ không bao giờ bị ghi đè,
+ * luồng ghi không bao giờ phải chờ, và bản cũ chưa kịp đọc thì bị bỏ qua.
+ *
+ * @param <T> kiểu dữ liệu trong bộ đệm
+ */
+public final class TripleBuffer<T> {
+    // Bit đánh dấu bản ở giữa là bản mới chưa được đọc; hai bit thấp là chỉ số của bản ở giữa
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    // Chỉ luồng ghi dùng
+    private int back = 0;
+    // Chỉ luồng đọc dùng
+    private int front = 2;
+
+    /**
+     * @param factory tạo ba đối tượng bộ đệm
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Bộ đệm luồng ghi đang sở hữu (nội dung là bản luồng ghi đã trả về từ hai lần publish trước).
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Công bố bộ đệm ghi cho luồng đọc và nhận lại một bộ đệm rảnh để ghi lần sau.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Bản mới nhất đã publish (hoặc bản đang giữ nếu chưa có bản mới).
+     * Đối tượng trả về không bị luồng ghi sửa cho tới lần read kế tiếp.
+     */
+    @SuppressWarnings("unchecked")
+    public T read() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+}
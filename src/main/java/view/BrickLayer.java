@@ -0,0 +1,150 @@
+package view;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import model.brick.BrickFactory;
+import model.manager.RenderSnapshot;
+import util.AssetManager;
+import util.SpriteAtlas;
+
+/**
+ * Lớp vẽ tĩnh nằm dưới canvas chính: ảnh nền và gạch.
+ * Chỉ vẽ lại khi số phiên bản của lưới gạch trong bản vẽ đổi, và chỉ vẽ lại những ô có nội dung khác
+ * với lần vẽ trước (phục hồi nền của ô rồi vẽ gạch mới). Khi phần lớn các ô đều đổi (đẩy hàng mới,
+ * ván mới, tua lại) thì vẽ lại cả lớp một lần.
+ * Chỉ dùng trên luồng JavaFX.
+ */
+public class BrickLayer {
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final double width;
+    private final double height;
+    private final SpriteAtlas atlas;
+
+    // Nội dung các ô ở lần vẽ trước, cùng định dạng với RenderSnapshot.getBrickCells
+    private byte[] drawnCells = new byte[0];
+    private int drawnVersion = -1;
+
+    /**
+     * @param width chiều rộng màn hình
+     * @param height chiều cao màn hình
+     */
+    public BrickLayer(double width, double height) {
+        this.width = width;
+        this.height = height;
+        this.canvas = new Canvas(width, height);
+        this.gc = canvas.getGraphicsContext2D();
+        this.atlas = AssetManager.getInstance().getAtlas();
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Đồng bộ lớp với lưới gạch trong bản vẽ; không làm gì nếu lưới chưa đổi kể từ lần trước.
+     * @param frame bản vẽ hiện tại
+     */
+    public void update(RenderSnapshot frame) {
+        if (frame.getBrickVersion() == drawnVersion) {
+            return;
+        }
+        byte[] cells = frame.getBrickCells();
+        if (drawnCells.length != cells.length) {
+            drawnCells = new byte[cells.length];
+            redrawAll(frame, cells);
+        } else {
+            int changed = 0;
+            for (int i = 0; i < cells.length; i++) {
+                if (cells[i] != drawnCells[i]) {
+                    changed++;
+                }
+            }
+            if (changed * 2 > cells.length) {
+                redrawAll(frame, cells);
+            } else if (changed > 0) {
+                redrawChanged(frame, cells);
+            }
+        }
+        System.arraycopy(cells, 0, drawnCells, 0, cells.length);
+        drawnVersion = frame.getBrickVersion();
+    }
+
+    private void redrawAll(RenderSnapshot frame, byte[] cells) {
+        if (!atlas.draw(gc, AssetManager.SPRITE_BACKGROUND, 0, 0, width, height)) {
+            gc.setFill(Color.BLACK);
+            gc.fillRect(0, 0, width, height);
+        }
+        gc.setStroke(Color.BLACK);
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] != 0) {
+                drawBrick(frame, i, cells[i]);
+            }
+        }
+    }
+
+    private void redrawChanged(RenderSnapshot frame, byte[] cells) {
+        gc.setStroke(Color.BLACK);
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] == drawnCells[i]) continue;
+            restoreBackground(frame, i);
+            if (cells[i] != 0) {
+                drawBrick(frame, i, cells[i]);
+            }
+        }
+    }
+
+    // Vẽ lại đúng phần ảnh nền nằm dưới ô
+    private void restoreBackground(RenderSnapshot frame, int cell) {
+        double x = cellX(frame, cell);
+        double y = cellY(frame, cell);
+        double w = frame.getBrickWidth();
+        double h = frame.getBrickHeight();
+        double scaleX = atlas.getWidth(AssetManager.SPRITE_BACKGROUND) / width;
+        double scaleY = atlas.getHeight(AssetManager.SPRITE_BACKGROUND) / height;
+        if (!atlas.drawRegion(gc, AssetManager.SPRITE_BACKGROUND,
+                x * scaleX, y * scaleY, w * scaleX, h * scaleY, x, y, w, h)) {
+            gc.setFill(Color.BLACK);
+            gc.fillRect(x, y, w, h);
+        }
+    }
+
+    private void drawBrick(RenderSnapshot frame, int cell, byte value) {
+        int type = (value >> 4) & 0xF;
+        int hitPoints = value & 0xF;
+        double x = cellX(frame, cell);
+        double y = cellY(frame, cell);
+        int w = frame.getBrickWidth();
+        int h = frame.getBrickHeight();
+
+        if (!atlas.draw(gc, brickSprite(type, hitPoints), x, y, w, h)) {
+            gc.setFill(type == BrickFactory.TYPE_STRONG ? Color.DARKGRAY : Color.ORANGE);
+            gc.fillRect(x, y, w, h);
+        }
+        // Viền nằm trọn trong ô để vẽ lại một ô không xoá mất viền của ô bên cạnh
+        gc.strokeRect(x + 0.5, y + 0.5, w - 1, h - 1);
+    }
+
+    private double cellX(RenderSnapshot frame, int cell) {
+        return frame.getBrickOriginX() + (cell % frame.getBrickCols()) * frame.getBrickWidth();
+    }
+
+    private double cellY(RenderSnapshot frame, int cell) {
+        return frame.getBrickOriginY() + (cell / frame.getBrickCols()) * frame.getBrickHeight();
+    }
+
+    private int brickSprite(int type, int hitPoints) {
+        if (type == BrickFactory.TYPE_POWER_UP) {
+            return atlas.has(AssetManager.SPRITE_POWERUP_BRICK)
+                    ? AssetManager.SPRITE_POWERUP_BRICK : AssetManager.SPRITE_NORMAL_BRICK;
+        }
+        if (type == BrickFactory.TYPE_STRONG) {
+            if (hitPoints == 1 && atlas.has(AssetManager.SPRITE_STRONG_BRICK_CRACKED)) {
+                return AssetManager.SPRITE_STRONG_BRICK_CRACKED;
+            }
+            return AssetManager.SPRITE_STRONG_BRICK;
+        }
+        return AssetManager.SPRITE_NORMAL_BRICK;
+    }
+}
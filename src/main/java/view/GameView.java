@@ -1,43 +1,52 @@
 package view;
 
-import javafx.scene.text.Text;
 import javafx.animation.AnimationTimer;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.image.Image;
+import core.SimulationThread;
 import util.AssetManager;
+import util.SpriteAtlas;
+import util.TextService;
 import model.manager.GameManager;
-import model.entity.Ball;
-import model.entity.Paddle;
-import model.brick.Brick;
-import model.brick.PowerUpBrick;
-import model.brick.StrongBrick;
-import model.ui.FloatingText;
-import model.powerup.PowerUp;
+import model.manager.RenderSnapshot;
+import model.state.GameState;
+import model.entity.BallPool;
 import model.powerup.PowerUpType;
 
-import java.util.List;
 
 public class GameView {
 
-    private final GameManager gameManager;
+    private final SimulationThread simulation;
     private final Pane root;
     private final Canvas canvas;
     private final GraphicsContext gc;
+    private final Canvas overlayCanvas;
+    private final GraphicsContext overlayGc;
+    private final BrickLayer brickLayer;
+    private final HudLayer hudLayer;
+    private final SpriteAtlas atlas = AssetManager.getInstance().getAtlas();
+    private final TextService textService = TextService.getInstance();
     private final GameMenu gameMenu = new GameMenu();
 
     /**
      * Constructor tạo GameView.
-     * @param gameManager quản lý game
+     * @param simulation luồng mô phỏng cung cấp bản vẽ của mỗi frame
      */
-    public GameView(GameManager gameManager) {
-        this.gameManager = gameManager;
+    public GameView(SimulationThread simulation) {
+        this.simulation = simulation;
         this.canvas = new Canvas(GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
         this.gc = canvas.getGraphicsContext2D();
-        this.root = new Pane(canvas);
+        // Nền và gạch nằm ở lớp dưới, chỉ vẽ lại khi lưới gạch đổi; canvas chính chỉ vẽ phần động
+        this.brickLayer = new BrickLayer(GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
+        // HUD cũng có lớp riêng, chỉ vẽ lại khi một trường HUD đổi
+        this.hudLayer = new HudLayer(GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
+        // Lớp phủ (menu tạm dừng, nhập tên, thông báo, chuyển cảnh) nằm trên cùng để phủ được cả HUD
+        this.overlayCanvas = new Canvas(GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
+        this.overlayGc = overlayCanvas.getGraphicsContext2D();
+        // Thứ tự như khi vẽ trên một canvas: nền và gạch, vật thể, HUD, lớp phủ
+        this.root = new Pane(brickLayer.getCanvas(), canvas, hudLayer.getCanvas(), overlayCanvas);
     }
 
     /**
@@ -48,52 +57,140 @@ public class GameView {
         return root;
     }
 
+    // Color đã tạo cho chữ nổi
+    private static final int FLOATING_STYLE_CACHE_SIZE = 8;
+    private final int[] floatingColorKeys = new int[FLOATING_STYLE_CACHE_SIZE];
+    private final Color[] floatingColors = new Color[FLOATING_STYLE_CACHE_SIZE];
+    private int floatingColorCount = 0;
+
+    // Sprite của từng PowerUpType, theo ordinal
+    private static final int[] POWER_UP_SPRITES = new int[PowerUpType.values().length];
+    static {
+        POWER_UP_SPRITES[PowerUpType.EXPAND.ordinal()] = AssetManager.SPRITE_POWERUP_EXPAND;
+        POWER_UP_SPRITES[PowerUpType.MULTI.ordinal()] = AssetManager.SPRITE_POWERUP_MULTI;
+        POWER_UP_SPRITES[PowerUpType.EXTRA_LIFE.ordinal()] = AssetManager.SPRITE_POWERUP_EXTRALIFE;
+        POWER_UP_SPRITES[PowerUpType.MAGNET.ordinal()] = AssetManager.SPRITE_POWERUP_MAGNET;
+    }
+
+    // Màn tĩnh đã vẽ gần nhất (null: frame trước không phải màn tĩnh, phải vẽ lại)
+    private GameState drawnStaticState;
+    private int drawnMenuIndex;
+    private int drawnPauseIndex;
+    private int drawnSettingsIndex;
+    private double drawnMasterVolume;
+    private double drawnSfxVolume;
+    // -Darkanoid.menuFps=N giới hạn số frame/giây ở màn tĩnh (0 = không giới hạn)
+    private final long staticFrameInterval = frameInterval(Integer.getInteger("arkanoid.menuFps", 0));
+    private long lastStaticRender;
+
+    private static long frameInterval(int fps) {
+        return fps > 0 ? 1_000_000_000L / fps : 0;
+    }
+
     private static final double OVERLAY_OPACITY = 0.5;
     private static final int CURSOR_BLINK_INTERVAL_MS = 500;
 
     /**
-     * Bắt đầu vòng lặp render/update chính.
+     * Bắt đầu vòng lặp render trên luồng JavaFX; mô phỏng chạy riêng trên SimulationThread.
      */
     public void startGameLoop() {
         new AnimationTimer() {
             @Override
             public void handle(long now) {
-                gameManager.updateGame();
-                render();
+                RenderSnapshot frame = simulation.readSnapshot();
+                if (isStaticScreen(frame)) {
+                    // Màn hình tĩnh: giới hạn FPS (nếu bật) và bỏ qua frame không có gì đổi
+                    if (staticFrameInterval > 0 && now - lastStaticRender < staticFrameInterval) {
+                        return;
+                    }
+                    if (!staticScreenChanged(frame)) {
+                        return;
+                    }
+                    lastStaticRender = now;
+                } else {
+                    drawnStaticState = null;
+                }
+                render(frame);
             }
         }.start();
     }
 
-    private void render() {
-        renderBackground();
+    // Menu, bảng điểm, hướng dẫn, cài đặt và màn tạm dừng chỉ đổi khi người chơi chọn/chỉnh gì đó
+    private static boolean isStaticScreen(RenderSnapshot frame) {
+        if (frame.isTransitionActive()) {
+            return false;
+        }
+        switch (frame.getState()) {
+            case MENU:
+            case HIGHSCORE:
+            case INSTRUCTION:
+            case SETTINGS:
+            case PAUSED:
+                return true;
+            default:
+                return false;
+        }
+    }
 
-        switch (gameManager.getCurrentState()) {
+    // So với màn tĩnh đã vẽ gần nhất; ghi nhớ bản này nếu khác
+    private boolean staticScreenChanged(RenderSnapshot frame) {
+        if (frame.getState() == drawnStaticState
+                && frame.getMenuSelectedIndex() == drawnMenuIndex
+                && frame.getPauseSelectedIndex() == drawnPauseIndex
+                && frame.getSettingsSelectedIndex() == drawnSettingsIndex
+                && frame.getMasterVolume() == drawnMasterVolume
+                && frame.getSfxVolume() == drawnSfxVolume) {
+            return false;
+        }
+        drawnStaticState = frame.getState();
+        drawnMenuIndex = frame.getMenuSelectedIndex();
+        drawnPauseIndex = frame.getPauseSelectedIndex();
+        drawnSettingsIndex = frame.getSettingsSelectedIndex();
+        drawnMasterVolume = frame.getMasterVolume();
+        drawnSfxVolume = frame.getSfxVolume();
+        return true;
+    }
+
+    private void render(RenderSnapshot frame) {
+        overlayGc.clearRect(0, 0, GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
+        boolean gamePlay = showsGamePlay(frame.getState());
+        brickLayer.getCanvas().setVisible(gamePlay);
+        hudLayer.getCanvas().setVisible(gamePlay);
+        if (gamePlay) {
+            brickLayer.update(frame);
+            hudLayer.update(frame);
+            gc.clearRect(0, 0, GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
+        } else {
+            renderBackground();
+        }
+
+        switch (frame.getState()) {
             case MENU:
-                gameMenu.render(gc, gameManager.getMenuState());
+                gameMenu.render(gc, frame.getMenuOptions(), frame.getMenuSelectedIndex());
                 break;
             case RUNNING:
-                renderGamePlay();
-                if (gameManager.isResetting()) {
-                    renderResetTransition();
+                renderGamePlay(frame);
+                if (frame.isResetting()) {
+                    renderResetTransition(frame);
                 }
                 break;
             case PAUSED:
-                renderGamePlay();
-                gameMenu.renderPause(gc, gameManager.getPauseMenuState());
+                renderGamePlay(frame);
+                gameMenu.renderPause(overlayGc, frame.getPauseOptions(), frame.getPauseSelectedIndex());
                 break;
             case NAME_INPUT:
-                renderGamePlay();
-                renderNameInput();
-                if (gameManager.isResetting()) {
-                    renderResetTransition();
+                renderGamePlay(frame);
+                renderNameInput(frame);
+                if (frame.isResetting()) {
+                    renderResetTransition(frame);
                 }
                 break;
             case GAME_OVER:
-                renderGamePlay();
+                renderGamePlay(frame);
                 renderEndGameMessage("GAME OVER", Color.web("#B8F4DC"));
                 break;
             case GAME_WON:
-                renderGamePlay();
+                renderGamePlay(frame);
                 renderEndGameMessage("GAME WON!", Color.web("#B8F4DC"));
                 break;
             case HIGHSCORE:
@@ -103,278 +200,168 @@ public class GameView {
                 gameMenu.renderInstruction(gc);
                 break;
             case SETTINGS:
-                gameMenu.renderSettings(gc, gameManager.getSettingsState());
+                gameMenu.renderSettings(gc, frame.getSettingsOptions(), frame.getSettingsSelectedIndex(),
+                        frame.getMasterVolume(), frame.getSfxVolume());
                 break;
         }
 
-        if (gameManager.isTransitionActive()) {
-            renderStateTransitionOverlay();
+        if (frame.isTransitionActive()) {
+            renderStateTransitionOverlay(frame);
         }
     }
 
+    // Các màn hình vẽ ván chơi phía sau (dùng lớp gạch); các màn hình khác tự phủ nền
+    private static boolean showsGamePlay(GameState state) {
+        return state == GameState.RUNNING || state == GameState.PAUSED || state == GameState.NAME_INPUT
+                || state == GameState.GAME_OVER || state == GameState.GAME_WON;
+    }
+
     private void renderBackground() {
-        Image background = AssetManager.getInstance().getImage("background");
-        if (background != null) {
-            gc.drawImage(background, 0, 0, GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
-        } else {
+        if (!atlas.draw(gc, AssetManager.SPRITE_BACKGROUND, 0, 0, GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT)) {
             gc.setFill(Color.BLACK);
             gc.fillRect(0, 0, GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
         }
     }
 
     private void renderOverlay(double opacity) {
-        gc.setFill(Color.color(0, 0, 0, opacity));
-        gc.fillRect(0, 0, GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
+        overlayGc.setFill(Color.color(0, 0, 0, opacity));
+        overlayGc.fillRect(0, 0, GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
     }
 
-    private void renderGamePlay() {
-        Paddle paddle = gameManager.getPaddle();
-        Ball ball = gameManager.getBall();
-        List<Brick> bricks = gameManager.getBricks();
-        List<PowerUp> powerUps = gameManager.getPowerUps();
-
-        renderPaddle(paddle);
-        renderBall(ball);
-        for (Ball eb : gameManager.getExtraBalls()) {
-            renderBall(eb);
+    private void renderGamePlay(RenderSnapshot frame) {
+        renderPaddle(frame);
+        renderBalls(frame);
+        if (frame.isBallStormMode()) {
+            renderStormBalls(frame);
         }
 
-        // Vẽ bricks
-        renderBricks(bricks);
-        renderPowerUps(powerUps);
-        renderFloatingTexts();
-        renderHUD();
+        // Gạch nằm trên BrickLayer
+        renderPowerUps(frame);
+        renderFloatingTexts(frame);
+        // HUD nằm trên HudLayer, phía trên canvas này
     }
 
-    private void renderPaddle(Paddle paddle) {
-        Image sprite = AssetManager.getInstance().getImage("paddle");
-        if (sprite != null) {
-            gc.drawImage(sprite, paddle.getX(), paddle.getY(), paddle.getWidth(), paddle.getHeight());
-        } else {
+    private void renderPaddle(RenderSnapshot frame) {
+        if (!atlas.draw(gc, AssetManager.SPRITE_PADDLE,
+                frame.getPaddleX(), frame.getPaddleY(), frame.getPaddleWidth(), frame.getPaddleHeight())) {
             gc.setFill(Color.LIGHTBLUE);
-            gc.fillRect(paddle.getX(), paddle.getY(), paddle.getWidth(), paddle.getHeight());
+            gc.fillRect(frame.getPaddleX(), frame.getPaddleY(), frame.getPaddleWidth(), frame.getPaddleHeight());
         }
     }
 
-    private void renderBall(Ball ball) {
-        Image sprite = AssetManager.getInstance().getImage("ball");
-        if (sprite != null) {
-            gc.drawImage(sprite, ball.getX(), ball.getY(), ball.getWidth(), ball.getHeight());
-        } else {
-            gc.setFill(Color.WHITE);
-            gc.fillOval(ball.getX(), ball.getY(), ball.getWidth(), ball.getHeight());
+    private void renderBalls(RenderSnapshot frame) {
+        gc.setFill(Color.WHITE);
+        for (int i = 0; i < frame.getBallCount(); i++) {
+            int size = frame.getBallSize(i);
+            if (!atlas.draw(gc, AssetManager.SPRITE_BALL, frame.getBallX(i), frame.getBallY(i), size, size)) {
+                gc.fillOval(frame.getBallX(i), frame.getBallY(i), size, size);
+            }
         }
     }
 
-    private void renderBricks(List<Brick> bricks) {
-        Image normalSprite = AssetManager.getInstance().getImage("normal_brick");
-        Image strongSprite = AssetManager.getInstance().getImage("strong_brick");
-        Image crackedSprite = AssetManager.getInstance().getImage("strong_brick_cracked");
-        Image powerupSprite = AssetManager.getInstance().getImage("powerup_brick");
-
-        for (Brick brick : bricks) {
-            if (!brick.isDestroyed()) {
-                Image sprite = getBrickSprite(brick, normalSprite, strongSprite, crackedSprite, powerupSprite);
-                Color fallbackColor = (brick instanceof StrongBrick) ? Color.DARKGRAY : Color.ORANGE;
-
-                if (sprite != null) {
-                    gc.drawImage(sprite, brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight());
-                } else {
-                    gc.setFill(fallbackColor);
-                    gc.fillRect(brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight());
-                }
-
-                gc.setStroke(Color.BLACK);
-                gc.strokeRect(brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight());
+    private void renderStormBalls(RenderSnapshot frame) {
+        int count = frame.getStormCount();
+        int size = frame.getStormBallSize();
+        int[] xs = frame.getStormXs();
+        int[] ys = frame.getStormYs();
+        byte[] flags = frame.getStormFlags();
+        gc.setFill(Color.BEIGE);
+        for (int i = 0; i < count; i++) {
+            // Bóng vừa chạm gạch trong tick này được tô sáng thay vì vẽ sprite
+            if (flags[i] == BallPool.FLAG_HIT_THIS_TICK
+                    || !atlas.draw(gc, AssetManager.SPRITE_BALL, xs[i], ys[i], size, size)) {
+                gc.fillOval(xs[i], ys[i], size, size);
             }
         }
     }
 
-    private Image getBrickSprite(Brick brick, Image normalSprite, Image strongSprite, Image crackedSprite, Image powerupSprite) {
-        if (brick instanceof PowerUpBrick) {
-            return powerupSprite != null ? powerupSprite : normalSprite;
-        }
-        if (brick instanceof StrongBrick) {
-            try {
-                if (brick.getHitPoints() == 1 && crackedSprite != null) {
-                    return crackedSprite;
-                }
-            } catch (NoSuchMethodError | AbstractMethodError e) {
-                // Fallback: dùng sprite gạch mạnh
-            }
-            return strongSprite;
+    private void renderFloatingTexts(RenderSnapshot frame) {
+        for (int i = 0; i < frame.getTextCount(); i++) {
+            // Thiết lập độ trong suốt cho text
+            gc.setGlobalAlpha(Math.max(0.0, frame.getTextOpacity(i)));
+            gc.setFill(floatingTextColor(frame.getTextColor(i)));
+            gc.setFont(textService.font(frame.getTextFontSize(i)));
+            gc.fillText(frame.getText(i), frame.getTextX(i), frame.getTextY(i));
         }
-        return normalSprite;
+        // Khôi phục lại độ trong suốt bình thường
+        gc.setGlobalAlpha(1.0);
     }
 
-    private void renderFloatingTexts() {
-        for (FloatingText ft : gameManager.getFloatingTexts()) {
-            ft.render(gc);
+    // Chỉ có vài màu chữ nổi: tạo Color một lần rồi dùng lại
+    private Color floatingTextColor(int argb) {
+        for (int i = 0; i < floatingColorCount; i++) {
+            if (floatingColorKeys[i] == argb) {
+                return floatingColors[i];
+            }
+        }
+        Color color = Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, ((argb >>> 24) & 0xFF) / 255.0);
+        if (floatingColorCount < floatingColors.length) {
+            floatingColorKeys[floatingColorCount] = argb;
+            floatingColors[floatingColorCount++] = color;
         }
+        return color;
     }
 
-    private void renderPowerUps(List<PowerUp> powerUps) {
-        Image expandSprite = AssetManager.getInstance().getImage("powerup_expand");
-        Image multiSprite = AssetManager.getInstance().getImage("powerup_multi");
-        Image extraLifeSprite = AssetManager.getInstance().getImage("powerup_extralife");
-        Image magnetSprite = AssetManager.getInstance().getImage("powerup_magnet");
-
+    private void renderPowerUps(RenderSnapshot frame) {
+        int size = PowerUpType.SIZE;
         gc.setStroke(Color.BLACK);
-        for (PowerUp p : powerUps) {
-            Image sprite = null;
-            if (p.getType() == PowerUpType.EXPAND) sprite = expandSprite;
-            else if (p.getType() == PowerUpType.MULTI) sprite = multiSprite;
-            else if (p.getType() == PowerUpType.EXTRA_LIFE) sprite = extraLifeSprite;
-            else if (p.getType() == PowerUpType.MAGNET) sprite = magnetSprite;
-
-            if (sprite != null) {
-                gc.drawImage(sprite, p.getX(), p.getY(), p.getWidth(), p.getHeight());
-            } else {
+        for (int i = 0; i < frame.getPowerUpCount(); i++) {
+            PowerUpType type = PowerUpType.fromOrdinal(frame.getPowerUpType(i));
+            int x = frame.getPowerUpX(i);
+            int y = frame.getPowerUpY(i);
+            if (!atlas.draw(gc, POWER_UP_SPRITES[type.ordinal()], x, y, size, size)) {
                 // Fallback: vẽ badge màu đơn giản khi thiếu sprite
                 Color color;
                 String label;
-                if (p.getType() == PowerUpType.EXPAND) { color = Color.LIMEGREEN; label = "E"; }
-                else if (p.getType() == PowerUpType.MULTI) { color = Color.CYAN; label = "M"; }
-                else if (p.getType() == PowerUpType.EXTRA_LIFE) { color = Color.GOLD; label = "+1"; }
+                if (type == PowerUpType.EXPAND) { color = Color.LIMEGREEN; label = "E"; }
+                else if (type == PowerUpType.MULTI) { color = Color.CYAN; label = "M"; }
+                else if (type == PowerUpType.EXTRA_LIFE) { color = Color.GOLD; label = "+1"; }
                 else { color = Color.MEDIUMPURPLE; label = "G"; } // Fallback icon Magnet
                 gc.setFill(color);
-                gc.fillOval(p.getX(), p.getY(), p.getWidth(), p.getHeight());
-                gc.strokeOval(p.getX(), p.getY(), p.getWidth(), p.getHeight());
+                gc.fillOval(x, y, size, size);
+                gc.strokeOval(x, y, size, size);
                 gc.setFill(Color.BLACK);
-                gc.setFont(new Font("m6x11", 12));
-                double tx = p.getX() + p.getWidth() / 2.0 - (label.length() == 1 ? 4 : 8);
-                double ty = p.getY() + p.getHeight() / 2.0 + 4;
+                gc.setFont(textService.font(12));
+                double tx = x + size / 2.0 - (label.length() == 1 ? 4 : 8);
+                double ty = y + size / 2.0 + 4;
                 gc.fillText(label, tx, ty);
             }
         }
     }
 
-    private void renderHUD() {
-        gc.setFill(Color.WHITE);
-        gc.setFont(new Font("m6x11", 20));
-        gc.fillText("Score: " + gameManager.getScore(), 10, 25);
-        gc.fillText("Lives: " + gameManager.getLives(), GameManager.SCREEN_WIDTH - 80, 25);
-        
-        // Hiển thị combo HUD
-        int combo = gameManager.getComboCount();
-        if (combo >= 2) {
-            gc.setFont(new Font("m6x11", 32));
-            gc.setFill(Color.color(0.82, 0.83, 0.71, 0.7)); // Beige với opacity thấp
-            String comboText = combo + "x COMBO!";
-            double comboX = 30; // Bottom-left, lệch sang phải
-            double comboY = GameManager.SCREEN_HEIGHT - 20; // Bottom of screen
-            gc.fillText(comboText, comboX, comboY);
-        }
-
-        // HUD power-up: hiển thị power-up đang active, thời gian còn lại và icon sprite
-        renderPowerUpHUD();
-
-        // Countdown spawn hàng mới ở endless mode
-        if (gameManager.isEndlessMode()) {
-            double remaining = gameManager.getSpawnTimeRemainingSeconds();
-            int secs = Math.max(0, (int) Math.ceil(remaining));
-            String text = String.format("NEXT ROW: %ds", secs);
-            gc.setFill(Color.WHITE);
-            gc.setFont(new Font("m6x11", 26));
-            Text t = new Text(text);
-            t.setFont(gc.getFont());
-            double textWidth = t.getLayoutBounds().getWidth();
-            double tx = (GameManager.SCREEN_WIDTH - textWidth) / 2.0;
-            double ty = 30;
-            gc.fillText(text, tx, ty);
-        }
-    }
-
-    private void renderPowerUpHUD() {
-        // Vị trí gần bottom-right, trên khu vực combo, xếp dọc
-        double currentY = GameManager.SCREEN_HEIGHT - 60;
-        double iconSize = 20;
-        double spacing = 8;
-        double margin = 20; // shift HUD vào trái một chút
-        double iconX = GameManager.SCREEN_WIDTH - margin - iconSize;
-        gc.setFont(new Font("m6x11", 20));
-
-        // HUD: Expand paddle
-        if (gameManager.isPaddleExpanded() && gameManager.getExpandTimeRemaining() > 0.0) {
-            Image expandSprite = AssetManager.getInstance().getImage("powerup_expand");
-            if (expandSprite != null) {
-                gc.drawImage(expandSprite, iconX, currentY - iconSize, iconSize, iconSize);
-            }
-            int secs = Math.max(0, (int) Math.ceil(gameManager.getExpandTimeRemaining()));
-            String t = secs + "s";
-            Text textNode = new Text(t);
-            textNode.setFont(gc.getFont());
-            double textWidth = textNode.getLayoutBounds().getWidth();
-            double textX = iconX - 6 - textWidth;
-            double textY = currentY - iconSize + 16; // align baseline với icon
-            gc.setFill(Color.WHITE);
-            gc.fillText(t, textX, textY);
-            // stack mục tiếp theo lên trên
-            currentY -= (iconSize + spacing);
-        }
-
-        // HUD: Magnet
-        if (gameManager.isMagnetActive() && gameManager.getMagnetTimeRemaining() > 0.0) {
-            Image magnetSprite = AssetManager.getInstance().getImage("powerup_magnet");
-            if (magnetSprite != null) {
-                gc.drawImage(magnetSprite, iconX, currentY - iconSize, iconSize, iconSize);
-            }
-            int secs = Math.max(0, (int) Math.ceil(gameManager.getMagnetTimeRemaining()));
-            String t = secs + "s";
-            Text textNode = new Text(t);
-            textNode.setFont(gc.getFont());
-            double textWidth = textNode.getLayoutBounds().getWidth();
-            double textX = iconX - 6 - textWidth;
-            double textY = currentY - iconSize + 16; // align baseline với icon
-            gc.setFill(Color.WHITE);
-            gc.fillText(t, textX, textY);
-            // stack mục tiếp theo lên trên
-            currentY -= (iconSize + spacing);
-        }
-    }
-
-
-
     private void renderEndGameMessage(String message, Color color) {
         renderOverlay(OVERLAY_OPACITY);
 
-        gc.setFill(color);
-        gc.setFont(new Font("m6x11", 50));
-        drawTextCentered(message, 0);
+        overlayGc.setFill(color);
+        drawTextCentered(message, 50, 0);
 
-        gc.setFill(Color.WHITE);
-        gc.setFont(new Font("m6x11", 20));
-        drawTextCentered("Press SPACE to play again", 40);
+        overlayGc.setFill(Color.WHITE);
+        drawTextCentered("Press SPACE to play again", 20, 40);
     }
 
-    private void drawTextCentered(String text, double yOffset) {
-        Text textNode = new Text(text);
-        textNode.setFont(gc.getFont());
-        double textWidth = textNode.getLayoutBounds().getWidth();
-        gc.fillText(text, (GameManager.SCREEN_WIDTH - textWidth) / 2, GameManager.SCREEN_HEIGHT / 2.0 + yOffset);
+    private void drawTextCentered(String text, double fontSize, double yOffset) {
+        overlayGc.setFont(textService.font(fontSize));
+        double textWidth = textService.width(fontSize, text);
+        overlayGc.fillText(text, (GameManager.SCREEN_WIDTH - textWidth) / 2, GameManager.SCREEN_HEIGHT / 2.0 + yOffset);
     }
 
-    private void renderNameInput() {
+    private void renderNameInput(RenderSnapshot frame) {
         renderOverlay(OVERLAY_OPACITY);
 
-        gc.setFill(Color.WHITE);
-        gc.setFont(new Font("m6x11", 40));
-        drawTextCentered("Enter Your Name", -100);
+        overlayGc.setFill(Color.WHITE);
+        drawTextCentered("Enter Your Name", 40, -100);
 
-        String playerName = gameManager.getCurrentPlayerName();
+        String playerName = frame.getPlayerName();
         String displayName = formatNameWithCursor(playerName);
 
-        gc.setFill(Color.web("#B8F4DC"));
-        gc.setFont(new Font("m6x11", 32));
-        drawTextCentered(displayName, -30);
+        overlayGc.setFill(Color.web("#B8F4DC"));
+        drawTextCentered(displayName, 32, -30);
 
-        gc.setFill(Color.WHITE);
-        gc.setFont(new Font("m6x11", 24));
-        drawTextCentered("Score: " + gameManager.getScoreToSave(), 20);
+        overlayGc.setFill(Color.WHITE);
+        drawTextCentered("Score: " + frame.getScoreToSave(), 24, 20);
 
-        gc.setFont(new Font("m6x11", 18));
-        drawTextCentered("Type your name and press ENTER", 70);
-        drawTextCentered("Press BACKSPACE to delete", 100);
+        drawTextCentered("Type your name and press ENTER", 18, 70);
+        drawTextCentered("Press BACKSPACE to delete", 18, 100);
     }
 
     private String formatNameWithCursor(String playerName) {
@@ -387,8 +374,8 @@ public class GameView {
         return displayName;
     }
 
-    private void renderResetTransition() {
-        double progress = gameManager.getResetProgress();
+    private void renderResetTransition(RenderSnapshot frame) {
+        double progress = frame.getResetProgress();
         double opacity;
 
         if (progress < 0.5) {
@@ -400,13 +387,12 @@ public class GameView {
         opacity = Math.min(0.7, opacity);
         renderOverlay(opacity);
 
-        gc.setFill(Color.web("#B8F4DC"));
-        gc.setFont(new Font("m6x11", 48));
-        drawTextCentered("Life Lost!", 0);
+        overlayGc.setFill(Color.web("#B8F4DC"));
+        drawTextCentered("Life Lost!", 48, 0);
     }
 
-    private void renderStateTransitionOverlay() {
-        double p = gameManager.getTransitionProgress();
+    private void renderStateTransitionOverlay(RenderSnapshot frame) {
+        double p = frame.getTransitionProgress();
         double opacity = p < 0.5 ? (p * 2.0) : ((1.0 - p) * 2.0);
         opacity = Math.min(0.7, Math.max(0.0, opacity));
         renderOverlay(opacity);
@@ -0,0 +1,112 @@
+package view;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import model.manager.RenderSnapshot;
+import model.ui.HudModel;
+import util.AssetManager;
+import util.SpriteAtlas;
+import util.TextService;
+
+/**
+ * Lớp vẽ HUD nằm trên canvas vật thể (paddle, bóng, power-up, chữ nổi) và dưới lớp phủ của menu/chuyển cảnh.
+ * Mỗi frame chỉ đưa số liệu vào HudModel; lớp chỉ được xoá và vẽ lại khi có trường HUD thay đổi,
+ * còn lại giữ nguyên hình đã vẽ. Chỉ dùng trên luồng JavaFX.
+ */
+public class HudLayer {
+    private static final double FONT_SIZE = 20;
+    private static final double COMBO_FONT_SIZE = 32;
+    private static final double NEXT_ROW_FONT_SIZE = 26;
+    private static final double ICON_SIZE = 20;
+    private static final double ICON_SPACING = 8;
+    private static final double ICON_MARGIN = 20; // shift HUD vào trái một chút
+    private static final Color COMBO_COLOR = Color.color(0.82, 0.83, 0.71, 0.7); // Beige với opacity thấp
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final double width;
+    private final double height;
+    private final HudModel model = new HudModel();
+    private final SpriteAtlas atlas = AssetManager.getInstance().getAtlas();
+    private final TextService textService = TextService.getInstance();
+
+    /**
+     * @param width chiều rộng màn hình
+     * @param height chiều cao màn hình
+     */
+    public HudLayer(double width, double height) {
+        this.width = width;
+        this.height = height;
+        this.canvas = new Canvas(width, height);
+        this.gc = canvas.getGraphicsContext2D();
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Đưa số liệu của frame vào HUD và vẽ lại nếu có gì đổi.
+     * @param frame bản vẽ hiện tại
+     */
+    public void update(RenderSnapshot frame) {
+        model.update(frame.getScore(), frame.getLives(), frame.getStormCount(), frame.isBallStormMode(),
+                frame.getComboCount(), frame.isEndlessMode(), frame.getSpawnTimeRemainingSeconds(),
+                frame.isPaddleExpanded() ? frame.getExpandTimeRemaining() : 0.0,
+                frame.isMagnetActive() ? frame.getMagnetTimeRemaining() : 0.0);
+        if (!model.isDirty()) {
+            return;
+        }
+        redraw();
+        model.clearDirty();
+    }
+
+    private void redraw() {
+        gc.clearRect(0, 0, width, height);
+
+        gc.setFill(Color.WHITE);
+        gc.setFont(textService.font(FONT_SIZE));
+        gc.fillText(model.getText(HudModel.SCORE), 10, 25);
+        gc.fillText(model.getText(HudModel.LIVES), width - 80, 25);
+        if (model.isVisible(HudModel.BALLS)) {
+            gc.fillText(model.getText(HudModel.BALLS), 10, 50);
+        }
+
+        // Combo ở góc dưới trái
+        if (model.isVisible(HudModel.COMBO)) {
+            gc.setFont(textService.font(COMBO_FONT_SIZE));
+            gc.setFill(COMBO_COLOR);
+            gc.fillText(model.getText(HudModel.COMBO), 30, height - 20);
+        }
+
+        // Power-up đang hoạt động: icon và thời gian còn lại, xếp dọc gần góc dưới phải
+        double currentY = height - 60;
+        currentY = drawPowerUpTimer(HudModel.EXPAND, AssetManager.SPRITE_POWERUP_EXPAND, currentY);
+        drawPowerUpTimer(HudModel.MAGNET, AssetManager.SPRITE_POWERUP_MAGNET, currentY);
+
+        // Countdown spawn hàng mới ở endless mode
+        if (model.isVisible(HudModel.NEXT_ROW)) {
+            String text = model.getText(HudModel.NEXT_ROW);
+            gc.setFill(Color.WHITE);
+            gc.setFont(textService.font(NEXT_ROW_FONT_SIZE));
+            gc.fillText(text, (width - textService.width(NEXT_ROW_FONT_SIZE, text)) / 2.0, 30);
+        }
+    }
+
+    // Vẽ một mục power-up tại currentY; trả về Y cho mục kế tiếp (xếp lên trên)
+    private double drawPowerUpTimer(int field, int sprite, double currentY) {
+        if (!model.isVisible(field)) {
+            return currentY;
+        }
+        double iconX = width - ICON_MARGIN - ICON_SIZE;
+        atlas.draw(gc, sprite, iconX, currentY - ICON_SIZE, ICON_SIZE, ICON_SIZE);
+        String text = model.getText(field);
+        double textX = iconX - 6 - textService.width(FONT_SIZE, text);
+        double textY = currentY - ICON_SIZE + 16; // align baseline với icon
+        gc.setFill(Color.WHITE);
+        gc.setFont(textService.font(FONT_SIZE));
+        gc.fillText(text, textX, textY);
+        return currentY - (ICON_SIZE + ICON_SPACING);
+    }
+}
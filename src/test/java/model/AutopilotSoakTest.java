@@ -0,0 +1,83 @@
+package model;
+
+import controller.AutopilotController;
+import core.SoakRunner;
+import model.entity.Ball;
+import model.manager.GameManager;
+import model.state.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra dự đoán điểm rơi của autopilot và một lần soak test ngắn (vài phút mô phỏng).
+ * Chạy dài: java -cp target/classes core.SoakRunner --minutes 240
+ */
+public class AutopilotSoakTest {
+
+    @Test
+    void predictsLandingWithWallBounces() {
+        // Rơi thẳng
+        Ball straight = new Ball(100, 100, 10, 0, 5);
+        assertEquals(105, AutopilotController.predictLandingX(straight, 510, 800));
+
+        // Dội tường phải một lần: đi 400 px ngang trong 400 px dọc, phản xạ tại x = 790
+        Ball bouncing = new Ball(600, 100, 10, 4, 4);
+        assertEquals(585, AutopilotController.predictLandingX(bouncing, 510, 800));
+
+        // Đang bay lên: lên tới trần rồi rơi xuống
+        Ball rising = new Ball(100, 100, 10, 0, -5);
+        assertEquals(105, AutopilotController.predictLandingX(rising, 510, 800));
+    }
+
+    @Test
+    void autopilotKeepsBallAliveLongerThanIdlePaddle() {
+        assertTrue(survivalTicks(true) > 2 * survivalTicks(false));
+    }
+
+    @Test
+    void shortSoakRunFindsNoUnboundedGrowth() {
+        int tickRate = GameManager.DEFAULT_TICK_RATE;
+        SoakRunner.Result result = SoakRunner.run(7L, 3L * 60 * tickRate, 10 * tickRate, false, null);
+        assertEquals(18, result.getSamples().size());
+        assertTrue(result.isPassed(), result.getFailures().toString());
+    }
+
+    @Test
+    void growthDetectorFlagsLeakingCounts() {
+        List<long[]> samples = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            // Chữ nổi tăng đều, các chỉ số khác dao động quanh một mức
+            samples.add(new long[]{1000, 50 + i % 3, 10L * i, 0, i % 2, 0, 20_000});
+        }
+        List<String> failures = SoakRunner.findGrowth(samples);
+        assertEquals(1, failures.size(), failures.toString());
+        assertTrue(failures.get(0).startsWith("floatingTexts"));
+    }
+
+    private int survivalTicks(boolean autopilot) {
+        GameManager sim = GameManager.newSimulation();
+        AutopilotController pilot = new AutopilotController(sim, 3L);
+        sim.startGame(21L);
+        if (sim.isEndlessMode()) {
+            sim.toggleEndlessMode();
+        }
+        int ticks = 0;
+        while (ticks < 60 * 60 * 5) {
+            if (autopilot) {
+                pilot.steer();
+            } else if (sim.getCurrentState() == GameState.RUNNING && !sim.getBall().isLaunched()) {
+                sim.launchBall();
+            }
+            sim.tick();
+            ticks++;
+            if (sim.getLives() < 3 || sim.getCurrentState() == GameState.GAME_WON) {
+                break;
+            }
+        }
+        return ticks;
+    }
+}
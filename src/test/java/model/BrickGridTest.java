@@ -0,0 +1,115 @@
+package model;
+
+import model.brick.Brick;
+import model.brick.BrickGrid;
+import model.brick.NormalBrick;
+import model.brick.StrongBrick;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra bộ đếm gạch và hàng biên được cập nhật dần trong BrickGrid.
+ */
+public class BrickGridTest {
+
+    private BrickGrid newGrid() {
+        return new BrickGrid(15, 50, 11, 5, 70, 30);
+    }
+
+    @Test
+    void countersFollowSetAndRemove() {
+        BrickGrid grid = newGrid();
+        assertEquals(0, grid.getLiveCount());
+        assertEquals(-1, grid.getTopOccupiedRow());
+        assertEquals(-1, grid.getBottomOccupiedRow());
+
+        Brick top = new NormalBrick(0, 0, 70, 30);
+        Brick bottom = new NormalBrick(0, 0, 70, 30);
+        grid.set(1, 3, top);
+        grid.set(3, 0, bottom);
+        assertEquals(2, grid.getLiveCount());
+        assertEquals(1, grid.getTopOccupiedRow());
+        assertEquals(3, grid.getBottomOccupiedRow());
+
+        // Ghi đè một ô không làm tăng số gạch
+        grid.set(3, 0, new NormalBrick(0, 0, 70, 30));
+        assertEquals(2, grid.getLiveCount());
+
+        grid.set(3, 0, null);
+        assertEquals(1, grid.getLiveCount());
+        assertEquals(1, grid.getBottomOccupiedRow(), "Hàng dưới cùng dò lên hàng còn gạch");
+
+        grid.remove(top);
+        assertEquals(0, grid.getLiveCount());
+        assertEquals(-1, grid.getTopOccupiedRow());
+        assertEquals(-1, grid.getBottomOccupiedRow());
+    }
+
+    @Test
+    void removeIfDestroyedOnlyRemovesDestroyedBricks() {
+        BrickGrid grid = newGrid();
+        Brick strong = new StrongBrick(0, 0, 70, 30);
+        grid.set(0, 0, strong);
+
+        strong.takeHit();
+        assertFalse(grid.removeIfDestroyed(strong));
+        assertEquals(1, grid.getLiveCount());
+
+        strong.takeHit();
+        assertTrue(grid.removeIfDestroyed(strong));
+        assertEquals(0, grid.getLiveCount());
+    }
+
+    @Test
+    void pushRowTopShiftsRowsAndDropsBottom() {
+        BrickGrid grid = newGrid();
+        grid.set(0, 0, new NormalBrick(0, 0, 70, 30));
+        grid.set(4, 5, new NormalBrick(0, 0, 70, 30));
+        grid.set(4, 6, new NormalBrick(0, 0, 70, 30));
+
+        grid.pushRowTop();
+        assertEquals(1, grid.getLiveCount(), "Hàng cuối bị bỏ cùng các gạch của nó");
+        assertEquals(1, grid.getTopOccupiedRow());
+        assertEquals(1, grid.getBottomOccupiedRow());
+        assertNotNull(grid.get(1, 0));
+
+        grid.set(0, 2, new NormalBrick(0, 0, 70, 30));
+        assertEquals(2, grid.getLiveCount());
+        assertEquals(0, grid.getTopOccupiedRow());
+    }
+
+    @Test
+    void versionChangesOnlyWhenCellsChange() {
+        BrickGrid grid = newGrid();
+        Brick strong = new StrongBrick(0, 0, 70, 30);
+        int version = grid.getVersion();
+
+        grid.set(2, 2, strong);
+        assertNotEquals(version, grid.getVersion(), "Đặt gạch");
+        version = grid.getVersion();
+
+        // Truy vấn/đọc không phải thay đổi
+        grid.get(2, 2);
+        grid.query(0, 0, 1000, 1000, new Brick[8]);
+        grid.writeCells(new byte[grid.getCols() * grid.getRows()]);
+        assertEquals(version, grid.getVersion());
+
+        strong.takeHit();
+        grid.removeIfDestroyed(strong);
+        assertNotEquals(version, grid.getVersion(), "Gạch mất máu đổi hình vẽ");
+        version = grid.getVersion();
+
+        strong.takeHit();
+        grid.removeIfDestroyed(strong);
+        assertNotEquals(version, grid.getVersion(), "Gạch vỡ");
+        version = grid.getVersion();
+
+        grid.pushRowTop();
+        assertNotEquals(version, grid.getVersion(), "Đẩy hàng");
+        version = grid.getVersion();
+
+        grid.clear();
+        assertNotEquals(version, grid.getVersion(), "Xoá lưới");
+    }
+}
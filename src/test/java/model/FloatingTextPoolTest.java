@@ -0,0 +1,62 @@
+package model;
+
+import model.ui.FloatingText;
+import model.ui.FloatingTextPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.IdentityHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra kho chữ nổi: giới hạn số lượng, bỏ text cũ nhất khi đầy và dùng lại đối tượng.
+ */
+public class FloatingTextPoolTest {
+
+    @Test
+    void fullPoolEvictsOldestFirst() {
+        FloatingTextPool pool = new FloatingTextPool(3);
+        pool.spawn(0, 0, "a");
+        pool.spawn(0, 0, "b");
+        pool.spawn(0, 0, "c");
+        pool.spawn(0, 0, "d");
+
+        assertEquals(3, pool.size());
+        assertEquals("b", pool.get(0).getText());
+        assertEquals("c", pool.get(1).getText());
+        assertEquals("d", pool.get(2).getText());
+        assertEquals(1.0, pool.get(2).getOpacity());
+    }
+
+    @Test
+    void updateDropsFadedTextsAndKeepsOrder() {
+        FloatingTextPool pool = new FloatingTextPool(4);
+        pool.spawn(0, 0, "fast", FloatingText.DEFAULT_COLOR, 20, -1, 0.5);
+        pool.spawn(0, 0, "slow", FloatingText.DEFAULT_COLOR, 20, -1, 0.1);
+        pool.spawn(0, 0, "fast2", FloatingText.DEFAULT_COLOR, 20, -1, 0.5);
+        pool.spawn(0, 10, "slow2", FloatingText.DEFAULT_COLOR, 20, -1, 0.1);
+
+        pool.update();
+        pool.update();
+        assertEquals(2, pool.size());
+        assertEquals("slow", pool.get(0).getText());
+        assertEquals("slow2", pool.get(1).getText());
+        assertEquals(8.0, pool.get(1).getY());
+    }
+
+    @Test
+    void poolReusesInstances() {
+        FloatingTextPool pool = new FloatingTextPool(8);
+        IdentityHashMap<FloatingText, Boolean> seen = new IdentityHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            pool.spawn(i, i, "+10");
+            if (i % 3 == 0) {
+                pool.update();
+            }
+            for (int j = 0; j < pool.size(); j++) {
+                seen.put(pool.get(j), Boolean.TRUE);
+            }
+        }
+        assertEquals(8, seen.size(), "Chỉ dùng các đối tượng cấp sẵn");
+    }
+}
@@ -0,0 +1,81 @@
+package model;
+
+import model.manager.GameEventBuffer;
+import model.manager.GameEventListener;
+import model.manager.GameManager;
+import model.state.GameState;
+import model.ui.FloatingTextEffects;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra bộ đệm sự kiện theo tick: ghi theo thứ tự, đếm theo loại, giao một lần mỗi tick.
+ */
+public class GameEventBufferTest {
+
+    @Test
+    void bufferKeepsOrderCountsKindsAndGrows() {
+        GameEventBuffer buffer = new GameEventBuffer();
+        for (int i = 0; i < 200; i++) {
+            buffer.add(GameEventBuffer.BRICK_HIT, 10, 0, i, 2 * i);
+        }
+        buffer.add(GameEventBuffer.LIFE_LOST, 2, 0, 0, 0);
+
+        assertEquals(201, buffer.size());
+        assertEquals(200, buffer.count(GameEventBuffer.BRICK_HIT));
+        assertEquals(1, buffer.count(GameEventBuffer.LIFE_LOST));
+        assertEquals(0, buffer.count(GameEventBuffer.PADDLE_HIT));
+        assertEquals(150, buffer.getX(150));
+        assertEquals(300, buffer.getY(150));
+        assertEquals(GameEventBuffer.LIFE_LOST, buffer.getKind(200));
+        assertEquals(2, buffer.getA(200));
+
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.count(GameEventBuffer.BRICK_HIT));
+    }
+
+    @Test
+    void simulationDeliversOneBatchPerTick() {
+        GameManager game = GameManager.newSimulation();
+        int[] batches = new int[1];
+        int[] lastTick = {0};
+        boolean[] sawRunning = new boolean[1];
+        game.addEventListener(new GameEventListener() {
+            @Override
+            public void onTickEvents(GameEventBuffer events) {
+                batches[0]++;
+                assertEquals(lastTick[0] + 1, events.getTick());
+                lastTick[0] = events.getTick();
+                for (int i = 0; i < events.size(); i++) {
+                    if (events.getKind(i) == GameEventBuffer.STATE_CHANGED
+                            && events.getB(i) == GameState.RUNNING.ordinal()) {
+                        sawRunning[0] = true;
+                    }
+                }
+            }
+        });
+        FloatingTextEffects effects = new FloatingTextEffects(GameManager.SCREEN_WIDTH, GameManager.SCREEN_HEIGHT);
+        game.addEventListener(effects);
+
+        game.startGame(11L);
+        int spawnedTexts = 0;
+        for (int i = 0; i < 60 * 30; i++) {
+            if (game.getCurrentState() == GameState.RUNNING) {
+                if (!game.getBall().isLaunched()) {
+                    game.getBall().launch(180, -300);
+                }
+                int target = game.getBall().getX() - game.getPaddle().getWidth() / 2;
+                game.getPaddle().setX(Math.max(0, Math.min(GameManager.SCREEN_WIDTH - game.getPaddle().getWidth(), target)));
+            }
+            game.tick();
+            spawnedTexts = Math.max(spawnedTexts, effects.getTexts().size());
+        }
+
+        assertEquals(game.getTickCount(), batches[0]);
+        assertTrue(sawRunning[0], "Chuyển state phải có trong bộ đệm sự kiện");
+        assertTrue(game.getScore() > 0);
+        assertTrue(spawnedTexts > 0, "Đánh trúng gạch phải sinh chữ nổi qua sự kiện");
+    }
+}
@@ -0,0 +1,68 @@
+package model;
+
+import com.sun.management.ThreadMXBean;
+import model.entity.Ball;
+import model.manager.GameManager;
+import model.state.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Kiểm tra vòng lặp game không cấp phát bộ nhớ ở trạng thái ổn định (không có va chạm gạch).
+ */
+public class GameLoopAllocationTest {
+
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 5_000;
+
+    @Test
+    void steadyStateTickDoesNotAllocate() {
+        GameManager gameManager = GameManager.newSimulation();
+        gameManager.startGame(3L);
+        for (int i = 0; i < 120 && gameManager.getCurrentState() != GameState.RUNNING; i++) {
+            gameManager.tick();
+        }
+        assertEquals(GameState.RUNNING, gameManager.getCurrentState());
+        // Tắt endless để không sinh hàng gạch mới trong lúc đo
+        if (gameManager.isEndlessMode()) {
+            gameManager.toggleEndlessMode();
+        }
+
+        // Bóng bay ngang bên dưới các hàng gạch, dội qua lại giữa hai tường
+        Ball ball = gameManager.getBall();
+        ball.setY(400);
+        ball.launch(300, 0);
+        gameManager.getPaddle().setMovingRight(true);
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeAllocationCounting(threads);
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            gameManager.tick();
+        }
+
+        // Trừ phần cấp phát của chính lời gọi đo
+        long calibrationStart = threads.getThreadAllocatedBytes(threadId);
+        long calibrationEnd = threads.getThreadAllocatedBytes(threadId);
+        long overhead = calibrationEnd - calibrationStart;
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            gameManager.tick();
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+
+        assertEquals(GameState.RUNNING, gameManager.getCurrentState(), "Game phải còn chạy trong lúc đo");
+        assertEquals(0, after - before - overhead, "tick() không được cấp phát bộ nhớ ở trạng thái ổn định");
+    }
+
+    private void assumeAllocationCounting(ThreadMXBean threads) {
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+}
@@ -0,0 +1,74 @@
+package model;
+
+import model.entity.Ball;
+import model.entity.Paddle;
+import model.manager.GameEventBuffer;
+import model.manager.GameEventListener;
+import model.manager.GameManager;
+import model.state.GameState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Chạy mô phỏng không cần JavaFX: các sự kiện đi qua GameEventListener thay vì âm thanh/giao diện.
+ */
+public class HeadlessSimulationTest {
+
+    private static final int MAX_TICKS = 60 * 60 * 3;
+
+    private static class CountingListener implements GameEventListener {
+        int paddleHits;
+        int brickHits;
+        boolean enteredRunning;
+
+        @Override
+        public void onTickEvents(GameEventBuffer events) {
+            paddleHits += events.count(GameEventBuffer.PADDLE_HIT);
+            brickHits += events.count(GameEventBuffer.BRICK_HIT);
+        }
+
+        @Override
+        public void onStateChanged(GameState from, GameState to) {
+            if (to == GameState.RUNNING) {
+                enteredRunning = true;
+            }
+        }
+    }
+
+    @Test
+    void simulationRunsWithoutToolkitAndEmitsEvents() {
+        GameManager simulation = GameManager.newSimulation();
+        assertNotSame(GameManager.getInstance(), simulation);
+
+        CountingListener listener = new CountingListener();
+        simulation.addEventListener(listener);
+        simulation.startGame();
+
+        int scoreBefore = GameManager.getInstance().getScore();
+        for (int tick = 0; tick < MAX_TICKS; tick++) {
+            followBall(simulation);
+            simulation.tick();
+        }
+
+        assertTrue(listener.enteredRunning, "Phải nhận sự kiện chuyển state vào RUNNING");
+        assertTrue(listener.paddleHits > 0, "Paddle tự động phải đỡ được bóng");
+        assertTrue(listener.brickHits > 0, "Bóng phải đánh trúng gạch");
+        assertTrue(simulation.getScore() > 0);
+        assertEquals(scoreBefore, GameManager.getInstance().getScore(), "Mô phỏng mới không được đụng tới Singleton");
+    }
+
+    // Paddle bám theo tâm bóng; phóng bóng nếu đang dính
+    private void followBall(GameManager simulation) {
+        Ball ball = simulation.getBall();
+        Paddle paddle = simulation.getPaddle();
+        if (ball == null || simulation.getCurrentState() != GameState.RUNNING) {
+            return;
+        }
+        if (!ball.isLaunched()) {
+            ball.launch(240, -300);
+        }
+        int target = ball.getX() + ball.getWidth() / 2 - paddle.getWidth() / 2;
+        paddle.setX(Math.max(0, Math.min(GameManager.SCREEN_WIDTH - paddle.getWidth(), target)));
+    }
+}
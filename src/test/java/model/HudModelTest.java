@@ -0,0 +1,55 @@
+package model;
+
+import model.ui.HudModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra HUD chỉ định dạng lại và đánh dấu cần vẽ khi số liệu đổi.
+ */
+public class HudModelTest {
+
+    @Test
+    void formatsFieldsLikeTheOldHud() {
+        HudModel hud = new HudModel();
+        hud.update(1250, 3, 42, true, 5, true, 4.2, 11.5, 0.0);
+
+        assertEquals("Score: 1250", hud.getText(HudModel.SCORE));
+        assertEquals("Lives: 3", hud.getText(HudModel.LIVES));
+        assertEquals("Balls: 42", hud.getText(HudModel.BALLS));
+        assertEquals("5x COMBO!", hud.getText(HudModel.COMBO));
+        assertEquals("NEXT ROW: 5s", hud.getText(HudModel.NEXT_ROW));
+        assertEquals("12s", hud.getText(HudModel.EXPAND));
+        assertFalse(hud.isVisible(HudModel.MAGNET));
+        assertEquals(String.valueOf(hud.getChars(HudModel.SCORE), 0, hud.getLength(HudModel.SCORE)),
+                hud.getText(HudModel.SCORE));
+
+        hud.set(HudModel.SCORE, -7);
+        assertEquals("Score: -7", hud.getText(HudModel.SCORE));
+        hud.set(HudModel.SCORE, 0);
+        assertEquals("Score: 0", hud.getText(HudModel.SCORE));
+    }
+
+    @Test
+    void dirtyOnlyWhenAValueChanges() {
+        HudModel hud = new HudModel();
+        hud.update(100, 3, 0, false, 1, false, 0.0, 0.0, 0.0);
+        assertTrue(hud.isDirty());
+        assertFalse(hud.isVisible(HudModel.COMBO), "Combo dưới 2 bị ẩn");
+        hud.clearDirty();
+
+        // Thời gian còn lại đổi trong cùng một giây: chữ không đổi
+        hud.update(100, 3, 0, false, 1, true, 9.9, 0.0, 0.0);
+        assertTrue(hud.isDirty(), "Hiện đếm ngược");
+        String nextRow = hud.getText(HudModel.NEXT_ROW);
+        hud.clearDirty();
+        hud.update(100, 3, 0, false, 1, true, 9.1, 0.0, 0.0);
+        assertFalse(hud.isDirty());
+        assertSame(nextRow, hud.getText(HudModel.NEXT_ROW), "Chuỗi không bị tạo lại");
+
+        hud.update(110, 3, 0, false, 1, true, 9.1, 0.0, 0.0);
+        assertTrue(hud.isDirty());
+        assertEquals("Score: 110", hud.getText(HudModel.SCORE));
+    }
+}
@@ -0,0 +1,76 @@
+package model;
+
+import model.manager.GameEventBuffer;
+import model.manager.GameEventListener;
+import model.manager.GameManager;
+import model.powerup.PowerUpPool;
+import model.powerup.PowerUpType;
+import model.state.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra kho power-up dạng mảng và luồng sự kiện nhặt power-up xử lý cuối tick.
+ */
+public class PowerUpPoolTest {
+
+    @Test
+    void poolIsBoundedAndSwapRemoves() {
+        PowerUpPool pool = new PowerUpPool(3);
+        assertEquals(0, pool.spawn(PowerUpType.EXPAND, 1, 1, 3));
+        assertEquals(1, pool.spawn(PowerUpType.MULTI, 2, 2, 3));
+        assertEquals(2, pool.spawn(PowerUpType.MAGNET, 3, 3, 3));
+        assertEquals(-1, pool.spawn(PowerUpType.EXTRA_LIFE, 4, 4, 3));
+
+        pool.removeAt(0);
+        assertEquals(2, pool.size());
+        assertEquals(PowerUpType.MAGNET, pool.getType(0));
+        assertEquals(3, pool.getX(0));
+        assertEquals(PowerUpType.MULTI, pool.getType(1));
+    }
+
+    @Test
+    void pickupIsAppliedAndReportedOncePerPowerUp() {
+        GameManager game = GameManager.newSimulation();
+        List<PowerUpType> collected = new ArrayList<>();
+        game.addEventListener(new GameEventListener() {
+            @Override
+            public void onTickEvents(GameEventBuffer events) {
+                for (int i = 0; i < events.size(); i++) {
+                    if (events.getKind(i) == GameEventBuffer.POWER_UP_COLLECTED) {
+                        collected.add(PowerUpType.fromOrdinal(events.getA(i)));
+                    }
+                }
+            }
+        });
+        game.startGame(3L);
+        for (int i = 0; i < 120 && game.getCurrentState() != GameState.RUNNING; i++) {
+            game.tick();
+        }
+        if (game.isEndlessMode()) {
+            game.toggleEndlessMode();
+        }
+
+        int paddleWidth = game.getPaddle().getWidth();
+        int x = game.getPaddle().getX() + paddleWidth / 2 - PowerUpType.SIZE / 2;
+        int y = game.getPaddle().getY() - PowerUpType.SIZE;
+        game.getPowerUps().spawn(PowerUpType.EXPAND, x, y, PowerUpType.FALL_SPEED);
+        game.getPowerUps().spawn(PowerUpType.EXTRA_LIFE, x, y, PowerUpType.FALL_SPEED);
+        // Power-up rơi ra ngoài paddle thì bị gỡ mà không áp dụng
+        game.getPowerUps().spawn(PowerUpType.MAGNET, 0, GameManager.SCREEN_HEIGHT, PowerUpType.FALL_SPEED);
+        int lives = game.getLives();
+
+        game.tick();
+
+        assertEquals(List.of(PowerUpType.EXPAND, PowerUpType.EXTRA_LIFE), collected);
+        assertEquals(0, game.getPowerUps().size());
+        assertTrue(game.isPaddleExpanded());
+        assertEquals(Math.round(paddleWidth * PowerUpType.EXPAND.getMagnitude()), game.getPaddle().getWidth());
+        assertEquals(lives + 1, game.getLives());
+        assertFalse(game.isMagnetActive());
+    }
+}
@@ -0,0 +1,53 @@
+package model;
+
+import model.manager.GameManager;
+import model.manager.InputCommand;
+import model.state.GameState;
+
+import java.util.SplittableRandom;
+
+/**
+ * Người chơi "ngẫu nhiên" dùng chung cho các test replay/snapshot: nhấn/thả phím trái phải, phóng bóng
+ * và (tuỳ chọn) thỉnh thoảng tạm dừng. Cùng seed cho ra đúng cùng chuỗi lệnh.
+ */
+final class RandomPlayer {
+
+    // Giới hạn độ dài một ván (10 phút ở 60 tick/s)
+    static final int MAX_TICKS = 60 * 60 * 10;
+
+    private RandomPlayer() {
+    }
+
+    /**
+     * Chơi tới khi ván kết thúc hoặc hết MAX_TICKS tick, không tạm dừng.
+     * @param game mô phỏng đã startGame
+     * @param seed seed của chuỗi lệnh
+     */
+    static void play(GameManager game, long seed) {
+        play(game, new SplittableRandom(seed), false);
+    }
+
+    /**
+     * Chơi tới khi ván kết thúc hoặc hết MAX_TICKS tick.
+     * @param game mô phỏng đã startGame
+     * @param random nguồn ngẫu nhiên
+     * @param pauses có tạm dừng/tiếp tục ngẫu nhiên không (lệnh đi qua hàng đợi nên vẫn được ghi vào replay)
+     */
+    static void play(GameManager game, SplittableRandom random, boolean pauses) {
+        for (int i = 0; i < MAX_TICKS && !game.getInputLog().isFinished(); i++) {
+            int r = random.nextInt(100);
+            if (r < 4) {
+                game.submitInput(random.nextBoolean() ? InputCommand.MOVE_LEFT_PRESS : InputCommand.MOVE_LEFT_RELEASE);
+            } else if (r < 8) {
+                game.submitInput(random.nextBoolean() ? InputCommand.MOVE_RIGHT_PRESS : InputCommand.MOVE_RIGHT_RELEASE);
+            } else if (r < 10) {
+                game.submitInput(InputCommand.LAUNCH);
+            } else if (pauses && r == 10 && game.getCurrentState() == GameState.RUNNING && random.nextInt(20) == 0) {
+                game.pauseGame();
+            } else if (pauses && game.getCurrentState() == GameState.PAUSED && r < 30) {
+                game.resumeGame();
+            }
+            game.tick();
+        }
+    }
+}
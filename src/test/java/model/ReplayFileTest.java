@@ -0,0 +1,188 @@
+package model;
+
+import model.manager.EndlessConfig;
+import model.manager.GameManager;
+import model.manager.InputCommand;
+import model.manager.InputLog;
+import model.manager.ReplayReader;
+import model.manager.ReplayRecorder;
+import model.manager.ReplayWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra file replay nhị phân: ghi trong lúc chơi, đọc lại dạng luồng và chịu được đuôi file hỏng.
+ */
+public class ReplayFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void recordedFileReplaysGame() throws IOException {
+        GameManager game = GameManager.newSimulation();
+        ReplayRecorder recorder = new ReplayRecorder(game, tempDir);
+        game.addEventListener(recorder);
+        game.startGame(2024L);
+        Path file = recorder.getCurrentFile();
+        assertNotNull(file);
+
+        RandomPlayer.play(game, 11);
+        InputLog log = game.getInputLog();
+        assertTrue(log.isFinished());
+        assertNull(recorder.getCurrentFile(), "File phải được đóng khi ván kết thúc");
+
+        InputLog read = ReplayReader.readLog(file);
+        assertLogsEqual(log, read);
+
+        try (ReplayReader reader = new ReplayReader(file)) {
+            GameManager replayed = GameManager.replay(reader);
+            assertTrue(reader.isComplete());
+            assertFalse(reader.isCorrupted());
+            assertEquals(log.getEndTick(), replayed.getTickCount());
+            assertEquals(game.getScore(), replayed.getScore());
+            assertEquals(game.getLives(), replayed.getLives());
+        }
+    }
+
+    @Test
+    void rewoundPracticeGameIsStillRecorded() throws IOException {
+        GameManager game = GameManager.newSimulation();
+        game.setPracticeMode(true);
+        ReplayRecorder recorder = new ReplayRecorder(game, tempDir);
+        game.addEventListener(recorder);
+        game.startGame(2025L);
+        Path file = recorder.getCurrentFile();
+
+        // Chơi vài giây rồi tua lại; các lệnh sau điểm tua phải biến mất khỏi file
+        game.submitInput(InputCommand.LAUNCH);
+        for (int i = 0; i < 5 * 60; i++) {
+            game.submitInput(i % 120 < 60 ? InputCommand.MOVE_LEFT_PRESS : InputCommand.MOVE_LEFT_RELEASE);
+            game.tick();
+        }
+        assertTrue(game.rewind());
+        assertEquals(file, recorder.getCurrentFile(), "Tua lại không được dừng ghi replay");
+
+        RandomPlayer.play(game, 13);
+        InputLog log = game.getInputLog();
+        assertTrue(log.isFinished());
+        assertNull(recorder.getCurrentFile());
+
+        assertLogsEqual(log, ReplayReader.readLog(file));
+        try (ReplayReader reader = new ReplayReader(file)) {
+            GameManager replayed = GameManager.replay(reader);
+            assertTrue(reader.isComplete());
+            assertEquals(log.getEndTick(), replayed.getTickCount());
+            assertEquals(game.getScore(), replayed.getScore());
+        }
+    }
+
+    @Test
+    void corruptedTailKeepsEarlierChunks() throws IOException {
+        InputLog log = syntheticLog(1000);
+        Path file = tempDir.resolve("tail.arkr");
+        ReplayWriter.writeLog(file, log);
+
+        // Đổi một byte gần cuối file: chunk cuối và trailer mất, các chunk trước vẫn đọc được
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer b = ByteBuffer.allocate(1);
+            channel.read(b, size - 20);
+            b.put(0, (byte) (b.get(0) ^ 0x5A));
+            b.rewind();
+            channel.write(b, size - 20);
+        }
+        assertPrefixReadable(file, log);
+    }
+
+    @Test
+    void truncatedFileKeepsEarlierChunks() throws IOException {
+        InputLog log = syntheticLog(1000);
+        Path file = tempDir.resolve("cut.arkr");
+        ReplayWriter.writeLog(file, log);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 50);
+        }
+        assertPrefixReadable(file, log);
+    }
+
+    @Test
+    void fileWithoutTrailerIsIncompleteButNotCorrupted() throws IOException {
+        InputLog log = syntheticLog(300);
+        Path file = tempDir.resolve("open.arkr");
+        try (ReplayWriter writer = new ReplayWriter(file, log)) {
+            for (int i = 0; i < log.size(); i++) {
+                writer.write(log.getTick(i), log.getCommand(i));
+            }
+        }
+        try (ReplayReader reader = new ReplayReader(file)) {
+            int count = 0;
+            while (reader.next()) {
+                count++;
+            }
+            assertEquals(log.size(), count);
+            assertFalse(reader.isComplete());
+            assertFalse(reader.isCorrupted());
+        }
+    }
+
+    @Test
+    void fileIsCompact() throws IOException {
+        InputLog log = syntheticLog(1000);
+        Path file = tempDir.resolve("size.arkr");
+        ReplayWriter.writeLog(file, log);
+        // Tick cách nhau vài chục tick: mỗi lệnh khoảng 2 byte
+        assertTrue(Files.size(file) < log.size() * 3L, "Kích thước: " + Files.size(file));
+    }
+
+    private void assertPrefixReadable(Path file, InputLog log) throws IOException {
+        try (ReplayReader reader = new ReplayReader(file)) {
+            int count = 0;
+            while (reader.next()) {
+                assertEquals(log.getTick(count), reader.getTick());
+                assertEquals(log.getCommand(count), reader.getCommand());
+                count++;
+            }
+            assertTrue(reader.isCorrupted());
+            assertFalse(reader.isComplete());
+            assertTrue(count > 0 && count < log.size(), "Số lệnh đọc được: " + count);
+        }
+    }
+
+    private InputLog syntheticLog(int events) {
+        InputLog log = new InputLog(77L, GameManager.DEFAULT_TICK_RATE, true, false, true, EndlessConfig.DEFAULT);
+        SplittableRandom random = new SplittableRandom(3);
+        InputCommand[] commands = InputCommand.values();
+        int tick = 0;
+        for (int i = 0; i < events; i++) {
+            tick += random.nextInt(40);
+            log.record(tick, commands[random.nextInt(commands.length)]);
+        }
+        log.finish(tick + 100, 12345);
+        return log;
+    }
+
+    private void assertLogsEqual(InputLog expected, InputLog actual) {
+        assertEquals(expected.getSeed(), actual.getSeed());
+        assertEquals(expected.getTickRate(), actual.getTickRate());
+        assertEquals(expected.isEndlessMode(), actual.isEndlessMode());
+        assertEquals(expected.isFinished(), actual.isFinished());
+        assertEquals(expected.getEndTick(), actual.getEndTick());
+        assertEquals(expected.getFinalScore(), actual.getFinalScore());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getTick(i), actual.getTick(i));
+            assertEquals(expected.getCommand(i), actual.getCommand(i));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package model;
+
+import model.brick.Brick;
+import model.brick.BrickGrid;
+import model.manager.GameManager;
+import model.manager.InputLog;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra một ván chơi phát lại từ seed và nhật ký input cho ra đúng trạng thái ban đầu.
+ */
+public class ReplayTest {
+
+    @Test
+    void replayReproducesRecordedGame() {
+        GameManager game = GameManager.newSimulation();
+        game.startGame(12345L);
+        RandomPlayer.play(game, new SplittableRandom(7), true);
+
+        InputLog log = game.getInputLog();
+        assertTrue(log.isFinished(), "Ván phải kết thúc trong giới hạn tick");
+        assertTrue(log.size() > 10, "Nhật ký phải có lệnh");
+        assertEquals(game.getScore(), log.getFinalScore());
+
+        GameManager replayed = GameManager.replay(log);
+
+        assertEquals(log.getEndTick(), replayed.getTickCount());
+        assertEquals(game.getScore(), replayed.getScore());
+        assertEquals(game.getLives(), replayed.getLives());
+        assertEquals(game.getPaddle().getX(), replayed.getPaddle().getX());
+        assertEquals(gridSignature(game.getBrickGrid()), gridSignature(replayed.getBrickGrid()));
+
+        // Bản phát lại ghi lại đúng nhật ký ban đầu
+        InputLog replayLog = replayed.getInputLog();
+        assertEquals(log.size(), replayLog.size());
+        for (int i = 0; i < log.size(); i++) {
+            assertEquals(log.getTick(i), replayLog.getTick(i));
+            assertEquals(log.getCommand(i), replayLog.getCommand(i));
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameLevel() {
+        GameManager a = GameManager.newSimulation();
+        GameManager b = GameManager.newSimulation();
+        a.startGame(99L);
+        b.startGame(99L);
+        assertEquals(gridSignature(a.getBrickGrid()), gridSignature(b.getBrickGrid()));
+    }
+
+    private String gridSignature(BrickGrid grid) {
+        StringBuilder sb = new StringBuilder();
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                Brick brick = grid.get(row, col);
+                sb.append(brick == null ? "." : brick.getClass().getSimpleName().charAt(0) + "" + brick.getHitPoints());
+            }
+            sb.append('/');
+        }
+        return sb.toString();
+    }
+}
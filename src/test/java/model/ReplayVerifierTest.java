@@ -0,0 +1,131 @@
+package model;
+
+import core.ReplayVerifier;
+import model.manager.EndlessConfig;
+import model.manager.GameManager;
+import model.manager.InputLog;
+import model.manager.ReplayWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra xác minh điểm bằng mô phỏng lại replay: ván thật được chấp nhận, điểm, tick hoặc header bị sửa
+ * thì bị từ chối.
+ */
+public class ReplayVerifierTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void genuineReplayIsVerified() throws IOException {
+        Path file = tempDir.resolve("real.arkr");
+        ReplayWriter.writeLog(file, playGame(5L));
+
+        ReplayVerifier.Result result = ReplayVerifier.verify(file);
+        assertEquals(ReplayVerifier.Status.VERIFIED, result.getStatus());
+        assertEquals(result.getClaimedScore(), result.getSimulatedScore());
+        assertTrue(result.isEndlessMode());
+        assertEquals("endless", result.getMode());
+    }
+
+    @Test
+    void editedScoreIsRejected() throws IOException {
+        InputLog log = playGame(6L);
+        InputLog forged = copy(log, log.getEndTick(), log.getFinalScore() + 1000);
+        Path file = tempDir.resolve("forged.arkr");
+        ReplayWriter.writeLog(file, forged);
+
+        ReplayVerifier.Result result = ReplayVerifier.verify(file);
+        assertEquals(ReplayVerifier.Status.SCORE_MISMATCH, result.getStatus());
+        assertEquals(log.getFinalScore(), result.getSimulatedScore());
+    }
+
+    @Test
+    void editedEndTickIsRejected() throws IOException {
+        InputLog log = playGame(7L);
+        InputLog forged = copy(log, log.getEndTick() - 1, log.getFinalScore());
+        assertEquals(ReplayVerifier.Status.END_MISMATCH, ReplayVerifier.verify(forged).getStatus());
+    }
+
+    @Test
+    void tamperedHeaderIsRejected() throws IOException {
+        InputLog log = playGame(9L);
+        InputLog fastTicks = copy(log, GameManager.DEFAULT_TICK_RATE * 2, log.getEndlessConfig());
+        InputLog emptyRows = copy(log, log.getTickRate(), new EndlessConfig(16.0, 6.0, 0.03, 0.99, 0.99));
+        Path fastFile = tempDir.resolve("fast.arkr");
+        Path emptyFile = tempDir.resolve("empty.arkr");
+        ReplayWriter.writeLog(fastFile, fastTicks);
+        ReplayWriter.writeLog(emptyFile, emptyRows);
+
+        ReplayVerifier.Result fast = ReplayVerifier.verify(fastFile);
+        assertEquals(ReplayVerifier.Status.UNOFFICIAL_SETTINGS, fast.getStatus());
+        assertEquals(-1, fast.getSimulatedScore());
+        assertEquals(ReplayVerifier.Status.UNOFFICIAL_SETTINGS, ReplayVerifier.verify(emptyFile).getStatus());
+        assertEquals(ReplayVerifier.Status.UNOFFICIAL_SETTINGS, ReplayVerifier.verify(emptyRows).getStatus());
+    }
+
+    @Test
+    void unfinishedReplayIsRejected() throws IOException {
+        InputLog log = playGame(8L);
+        Path file = tempDir.resolve("open.arkr");
+        try (ReplayWriter writer = new ReplayWriter(file, log)) {
+            for (int i = 0; i < log.size(); i++) {
+                writer.write(log.getTick(i), log.getCommand(i));
+            }
+        }
+        assertEquals(ReplayVerifier.Status.INCOMPLETE, ReplayVerifier.verify(file).getStatus());
+        assertEquals(ReplayVerifier.Status.UNREADABLE,
+                ReplayVerifier.verify(tempDir.resolve("missing.arkr")).getStatus());
+    }
+
+    @Test
+    void batchKeepsFileOrder() throws IOException {
+        Path a = tempDir.resolve("a.arkr");
+        Path b = tempDir.resolve("b.arkr");
+        Path c = tempDir.resolve("c.arkr");
+        ReplayWriter.writeLog(a, playGame(1L));
+        InputLog log = playGame(2L);
+        ReplayWriter.writeLog(b, copy(log, log.getEndTick(), log.getFinalScore() + 1));
+        ReplayWriter.writeLog(c, playGame(3L));
+
+        ReplayVerifier.Result[] results = ReplayVerifier.verifyAll(List.of(a, b, c), 2);
+        assertEquals(a, results[0].getFile());
+        assertTrue(results[0].isVerified());
+        assertEquals(ReplayVerifier.Status.SCORE_MISMATCH, results[1].getStatus());
+        assertTrue(results[2].isVerified());
+    }
+
+    private InputLog playGame(long seed) {
+        GameManager game = GameManager.newSimulation();
+        game.startGame(seed);
+        RandomPlayer.play(game, seed);
+        assertTrue(game.getInputLog().isFinished());
+        return game.getInputLog();
+    }
+
+    private InputLog copy(InputLog log, int endTick, int finalScore) {
+        return copy(log, log.getTickRate(), log.getEndlessConfig(), endTick, finalScore);
+    }
+
+    // Bản sao giữ nguyên lệnh và điểm nhưng sửa header
+    private InputLog copy(InputLog log, int tickRate, EndlessConfig endlessConfig) {
+        return copy(log, tickRate, endlessConfig, log.getEndTick(), log.getFinalScore());
+    }
+
+    private InputLog copy(InputLog log, int tickRate, EndlessConfig endlessConfig, int endTick, int finalScore) {
+        InputLog copy = new InputLog(log.getSeed(), tickRate, log.isEndlessMode(), log.isBallStormMode(),
+                log.isContinuousCollision(), endlessConfig);
+        for (int i = 0; i < log.size(); i++) {
+            copy.record(log.getTick(i), log.getCommand(i));
+        }
+        copy.finish(endTick, finalScore);
+        return copy;
+    }
+}
@@ -0,0 +1,90 @@
+package model;
+
+import model.entity.Ball;
+import model.entity.Paddle;
+import model.manager.GameEventBuffer;
+import model.manager.GameEventListener;
+import model.manager.GameManager;
+import model.manager.ScoreMilestones;
+import model.state.GameState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra mốc điểm: mỗi lần cộng điểm báo nhiều nhất một mốc (mốc cao nhất), và mỗi ván bắt đầu lại từ mốc đầu.
+ */
+public class ScoreMilestonesTest {
+
+    private static final int MAX_TICKS = 60 * 60 * 10;
+
+    private static class MilestoneListener implements GameEventListener {
+        int first = -1;
+
+        @Override
+        public void onTickEvents(GameEventBuffer events) {
+            for (int i = 0; i < events.size(); i++) {
+                if (events.getKind(i) == GameEventBuffer.SCORE_MILESTONE && first < 0) {
+                    first = events.getA(i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void bigScoreJumpReportsOnlyHighestMilestone() {
+        ScoreMilestones milestones = new ScoreMilestones();
+        assertEquals(-1, milestones.advance(ScoreMilestones.STEP - 1));
+        assertEquals(ScoreMilestones.STEP, milestones.advance(ScoreMilestones.STEP));
+        assertEquals(-1, milestones.advance(ScoreMilestones.STEP + 10));
+
+        // Một combo dài vượt qua 500, 750 và 1000 cùng lúc: chỉ báo 1000
+        assertEquals(4 * ScoreMilestones.STEP, milestones.advance(4 * ScoreMilestones.STEP + 40));
+        assertEquals(5 * ScoreMilestones.STEP, milestones.getNext());
+    }
+
+    @Test
+    void resetStartsFromFirstMilestone() {
+        ScoreMilestones milestones = new ScoreMilestones();
+        milestones.advance(10 * ScoreMilestones.STEP);
+        milestones.reset();
+        assertEquals(ScoreMilestones.STEP, milestones.advance(ScoreMilestones.STEP + 5));
+    }
+
+    @Test
+    void eachGameStartsAtFirstMilestone() {
+        GameManager game = GameManager.newSimulation();
+        MilestoneListener listener = new MilestoneListener();
+        game.addEventListener(listener);
+
+        game.startGame(21L);
+        playUntilScore(game, 2 * ScoreMilestones.STEP);
+        assertEquals(ScoreMilestones.STEP, listener.first);
+
+        // Tạm dừng rồi chơi ván mới: mốc đầu tiên lại là STEP chứ không phải mốc tiếp theo của ván trước
+        game.pauseGame();
+        game.tick();
+        assertEquals(GameState.PAUSED, game.getCurrentState());
+        listener.first = -1;
+        game.startGame(22L);
+        playUntilScore(game, ScoreMilestones.STEP);
+        assertEquals(ScoreMilestones.STEP, listener.first);
+    }
+
+    // Paddle bám theo bóng cho tới khi đạt điểm cho trước
+    private void playUntilScore(GameManager game, int score) {
+        for (int i = 0; i < MAX_TICKS && game.getScore() < score; i++) {
+            Ball ball = game.getBall();
+            Paddle paddle = game.getPaddle();
+            if (ball != null && game.getCurrentState() == GameState.RUNNING) {
+                if (!ball.isLaunched()) {
+                    ball.launch(240, -300);
+                }
+                int target = ball.getX() + ball.getWidth() / 2 - paddle.getWidth() / 2;
+                paddle.setX(Math.max(0, Math.min(GameManager.SCREEN_WIDTH - paddle.getWidth(), target)));
+            }
+            game.tick();
+        }
+        assertTrue(game.getScore() >= score, "Điểm: " + game.getScore());
+    }
+}
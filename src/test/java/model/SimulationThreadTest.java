@@ -0,0 +1,106 @@
+package model;
+
+import core.SimulationThread;
+import model.manager.GameManager;
+import model.manager.InputCommand;
+import model.manager.RenderSnapshot;
+import model.state.GameState;
+import org.junit.jupiter.api.Test;
+import util.TripleBuffer;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra mô phỏng chạy trên luồng riêng và bản vẽ công bố qua bộ đệm ba lớp.
+ */
+public class SimulationThreadTest {
+
+    private static final class Frame {
+        long a;
+        long b;
+    }
+
+    @Test
+    void tripleBufferNeverHandsOutTornOrOlderFrames() throws InterruptedException {
+        TripleBuffer<Frame> buffer = new TripleBuffer<>(Frame::new);
+        final long frames = 200_000;
+        Thread writer = new Thread(() -> {
+            for (long i = 1; i <= frames; i++) {
+                Frame f = buffer.getWriteBuffer();
+                f.a = i;
+                f.b = -i;
+                buffer.publish();
+            }
+        });
+        writer.start();
+
+        long last = 0;
+        while (last < frames) {
+            Frame f = buffer.read();
+            assertEquals(f.a, -f.b, "Bản đang đọc không được bị ghi dở");
+            assertTrue(f.a >= last, "Không được đọc lại bản cũ hơn");
+            last = f.a;
+        }
+        writer.join();
+        assertEquals(frames, buffer.read().a);
+    }
+
+    @Test
+    void simulationRunsOnItsOwnThreadAndPublishesSnapshots() throws InterruptedException {
+        GameManager game = GameManager.newSimulation();
+        SimulationThread simulation = new SimulationThread(game);
+        assertEquals(GameState.MENU, simulation.readSnapshot().getState());
+
+        simulation.start();
+        try {
+            game.post(() -> game.startGame(5L));
+            RenderSnapshot frame = awaitState(simulation, GameState.RUNNING);
+            assertEquals(1, frame.getBallCount());
+            assertTrue(frame.getBrickCount() > 0);
+            assertTrue(frame.getPaddleWidth() > 0);
+
+            // Lệnh input từ luồng khác đi qua hàng đợi không khoá
+            int paddleX = frame.getPaddleX();
+            game.submitInput(InputCommand.MOVE_LEFT_PRESS);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (simulation.readSnapshot().getPaddleX() >= paddleX && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(simulation.readSnapshot().getPaddleX() < paddleX, "Paddle phải di chuyển sang trái");
+        } finally {
+            simulation.stop();
+        }
+    }
+
+    private RenderSnapshot awaitState(SimulationThread simulation, GameState state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        RenderSnapshot frame = simulation.readSnapshot();
+        while (frame.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            frame = simulation.readSnapshot();
+        }
+        assertEquals(state, frame.getState());
+        return frame;
+    }
+
+    @Test
+    void snapshotFollowsBricksAcrossRestartedGames() {
+        GameManager game = GameManager.newSimulation();
+        RenderSnapshot frame = new RenderSnapshot();
+        int cells = game.getBrickGrid().getCols() * game.getBrickGrid().getRows();
+        byte[] expected = new byte[cells];
+        int versionBefore = game.getBrickGrid().getVersion();
+
+        // Phiên bản không được trùng ván trước, nếu không bản vẽ và lớp gạch giữ gạch của ván cũ
+        for (long seed = 1; seed <= 200; seed++) {
+            game.startGame(seed);
+            frame.capture(game, null);
+            assertNotEquals(versionBefore, frame.getBrickVersion(), "Ván " + seed);
+            game.getBrickGrid().writeCells(expected);
+            assertArrayEquals(expected, frame.getBrickCells(), "Ván " + seed);
+            versionBefore = frame.getBrickVersion();
+        }
+    }
+}
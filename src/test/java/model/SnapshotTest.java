@@ -0,0 +1,159 @@
+package model;
+
+import com.sun.management.ThreadMXBean;
+import model.brick.Brick;
+import model.brick.BrickGrid;
+import model.entity.Ball;
+import model.manager.GameManager;
+import model.manager.GameSnapshot;
+import model.manager.InputCommand;
+import model.manager.InputLog;
+import model.manager.ReplayPlayer;
+import model.manager.SnapshotRing;
+import model.state.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Kiểm tra snapshot: khôi phục rồi mô phỏng tiếp cho đúng kết quả như chưa từng tua, và lịch sử nhỏ gọn.
+ */
+public class SnapshotTest {
+
+    @Test
+    void seekMatchesStraightReplay() {
+        GameManager game = GameManager.newSimulation();
+        game.startGame(31L);
+        RandomPlayer.play(game, 31);
+        InputLog log = game.getInputLog();
+        assertTrue(log.isFinished());
+
+        ReplayPlayer player = new ReplayPlayer(log, 30, 16);
+        player.seek(log.getEndTick());
+        assertEquals(signature(game), signature(player.getSimulation()));
+
+        // Tua lùi vào giữa ván (trong và ngoài phạm vi các snapshot còn giữ) rồi tua tới cuối
+        int[] targets = {log.getEndTick() - 45, log.getEndTick() / 2, 7, log.getEndTick() - 200};
+        for (int target : targets) {
+            player.seek(target);
+            ReplayPlayer straight = new ReplayPlayer(log, 1_000_000, 1);
+            straight.seek(target);
+            assertEquals(signature(straight.getSimulation()), signature(player.getSimulation()), "tick " + target);
+        }
+        player.seek(log.getEndTick());
+        assertEquals(signature(game), signature(player.getSimulation()));
+    }
+
+    @Test
+    void restoreThenContinueIsDeterministic() {
+        GameManager game = GameManager.newSimulation();
+        game.setBallStormMode(true);
+        game.startGame(8L);
+        for (int i = 0; i < 60; i++) {
+            game.tick();
+        }
+        game.launchBall();
+        for (int i = 0; i < 120; i++) {
+            game.tick();
+        }
+        assertTrue(game.getStormBalls().size() > 0);
+
+        GameSnapshot snapshot = new GameSnapshot();
+        game.saveSnapshot(snapshot);
+        for (int i = 0; i < 300; i++) {
+            game.tick();
+        }
+        String expected = signature(game);
+
+        game.restoreSnapshot(snapshot);
+        assertEquals(snapshot.getTick(), game.getTickCount());
+        for (int i = 0; i < 300; i++) {
+            game.tick();
+        }
+        assertEquals(expected, signature(game));
+    }
+
+    @Test
+    void practiceRewindGoesBackAndTruncatesLog() {
+        GameManager game = GameManager.newSimulation();
+        game.setPracticeMode(true);
+        game.startGame(4L);
+        for (int i = 0; i < 60; i++) {
+            game.tick();
+        }
+        game.launchBall();
+        for (int i = 0; i < 5 * 60; i++) {
+            game.submitInput(i % 120 < 60 ? InputCommand.MOVE_LEFT_PRESS : InputCommand.MOVE_LEFT_RELEASE);
+            game.tick();
+        }
+        int before = game.getTickCount();
+        assertTrue(game.rewind());
+        int after = game.getTickCount();
+        assertTrue(before - after >= 2 * 60, "Phải tua lại ít nhất 2 giây: " + before + " -> " + after);
+        InputLog log = game.getInputLog();
+        assertTrue(log.size() == 0 || log.getTick(log.size() - 1) < after);
+        assertEquals(GameState.RUNNING, game.getCurrentState());
+    }
+
+    @Test
+    void historyIsSmallAndCaptureDoesNotAllocate() {
+        GameManager game = GameManager.newSimulation();
+        game.startGame(2L);
+        for (int i = 0; i < 60; i++) {
+            game.tick();
+        }
+        SnapshotRing ring = new SnapshotRing(40, 15);
+        for (int i = 0; i < 40; i++) {
+            ring.capture(game);
+        }
+        // 10 giây lịch sử (4 snapshot/giây) chỉ tốn vài chục KB
+        assertTrue(ring.getSizeInBytes() < 32 * 1024, "Dung lượng: " + ring.getSizeInBytes());
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < 10_000; i++) {
+            ring.capture(game);
+        }
+        long calibrationStart = threads.getThreadAllocatedBytes(threadId);
+        long calibrationEnd = threads.getThreadAllocatedBytes(threadId);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1000; i++) {
+            ring.capture(game);
+        }
+        long after = threads.getThreadAllocatedBytes(threadId);
+        assertEquals(0, after - before - (calibrationEnd - calibrationStart), "Chụp snapshot không được cấp phát");
+    }
+
+    private String signature(GameManager game) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(game.getTickCount()).append(' ').append(game.getCurrentState())
+                .append(" score=").append(game.getScore())
+                .append(" lives=").append(game.getLives())
+                .append(" combo=").append(game.getComboCount())
+                .append(" paddle=").append(game.getPaddle().getX()).append(',').append(game.getPaddle().getWidth());
+        Ball ball = game.getBall();
+        if (ball != null) {
+            sb.append(" ball=").append(ball.getX()).append(',').append(ball.getY())
+                    .append(',').append(ball.getDx()).append(',').append(ball.getDy());
+        }
+        for (Ball b : game.getExtraBalls()) {
+            sb.append(" extra=").append(b.getX()).append(',').append(b.getY());
+        }
+        sb.append(" powerUps=").append(game.getPowerUps().size())
+                .append(" storm=").append(game.getStormBalls().size()).append(' ');
+        BrickGrid grid = game.getBrickGrid();
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                Brick brick = grid.get(row, col);
+                sb.append(brick == null ? "." : brick.getClass().getSimpleName().charAt(0) + "" + brick.getHitPoints());
+            }
+            sb.append('/');
+        }
+        return sb.toString();
+    }
+}
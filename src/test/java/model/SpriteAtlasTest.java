@@ -0,0 +1,50 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import util.SpriteAtlas;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra cách xếp sprite vào atlas (không cần JavaFX toolkit).
+ */
+public class SpriteAtlasTest {
+
+    @Test
+    void layoutPlacesSpritesWithoutOverlapInsidePage() {
+        // Các biến thể AssetManager giải mã: nền, paddle thường/mở rộng, bóng, 4 gạch, 4 power-up
+        int[] widths = {800, 100, 150, 20, 70, 70, 70, 70, 20, 20, 20, 20};
+        int[] heights = {600, 20, 20, 20, 30, 30, 30, 30, 20, 20, 20, 20};
+        int[] xs = new int[widths.length];
+        int[] ys = new int[widths.length];
+
+        int[] page = SpriteAtlas.layout(widths, heights, xs, ys);
+        int pad = SpriteAtlas.PADDING;
+
+        for (int i = 0; i < widths.length; i++) {
+            assertTrue(xs[i] >= pad && ys[i] >= pad, "Chừa khoảng đệm trái/trên");
+            assertTrue(xs[i] + widths[i] + pad <= page[0], "Nằm trong chiều rộng atlas");
+            assertTrue(ys[i] + heights[i] + pad <= page[1], "Nằm trong chiều cao atlas");
+            for (int j = i + 1; j < widths.length; j++) {
+                boolean apart = xs[i] + widths[i] + pad <= xs[j] - pad || xs[j] + widths[j] + pad <= xs[i] - pad
+                        || ys[i] + heights[i] + pad <= ys[j] - pad || ys[j] + heights[j] + pad <= ys[i] - pad;
+                assertTrue(apart, "Sprite " + i + " và " + j + " (kể cả đệm) không chồng nhau");
+            }
+        }
+        // Nền một kệ, mọi sprite nhỏ vừa một kệ thứ hai
+        assertEquals(800 + 2 * pad, page[0]);
+        assertEquals(600 + 30 + 4 * pad, page[1]);
+    }
+
+    @Test
+    void layoutSkipsMissingSprites() {
+        int[] widths = {0, 70};
+        int[] heights = {0, 30};
+        int[] xs = new int[2];
+        int[] ys = new int[2];
+
+        int[] page = SpriteAtlas.layout(widths, heights, xs, ys);
+        assertEquals(70 + 2 * SpriteAtlas.PADDING, page[0]);
+        assertEquals(30 + 2 * SpriteAtlas.PADDING, page[1]);
+    }
+}
@@ -0,0 +1,122 @@
+package model;
+
+import model.brick.Brick;
+import model.brick.StrongBrick;
+import model.brick.BrickGrid;
+import model.entity.Ball;
+import model.entity.Paddle;
+import model.entity.SweptAabb;
+import model.manager.GameEventBuffer;
+import model.manager.GameEventListener;
+import model.manager.GameManager;
+import model.state.GameState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra va chạm liên tục cho bóng di chuyển nhanh hơn chiều cao gạch.
+ */
+public class SweptCollisionTest {
+
+    // Mỗi tick đi xa hơn chiều cao gạch cộng cỡ bóng: kiểm tra rời rạc sẽ cho bóng xuyên qua cả gạch lẫn paddle
+    private static final int FAST_SPEED =
+            (GameManager.BRICK_HEIGHT + GameManager.BALL_SIZE + 30) * GameManager.DEFAULT_TICK_RATE;
+    private static final int MAX_TICKS = 60 * 10;
+
+    private static class HitCounter implements GameEventListener {
+        int paddleHits;
+        int brickHits;
+
+        @Override
+        public void onTickEvents(GameEventBuffer events) {
+            paddleHits += events.count(GameEventBuffer.PADDLE_HIT);
+            brickHits += events.count(GameEventBuffer.BRICK_HIT);
+        }
+    }
+
+    @Test
+    void fastBallNeitherTunnelsNorDoubleHitsInSimulation() {
+        GameManager game = GameManager.newSimulation();
+        game.setContinuousCollision(true);
+        HitCounter hits = new HitCounter();
+        game.addEventListener(hits);
+        game.startGame(11L);
+        for (int i = 0; i < MAX_TICKS && (game.getCurrentState() != GameState.RUNNING || game.isResetting()); i++) {
+            game.tick();
+        }
+        assertEquals(GameState.RUNNING, game.getCurrentState());
+
+        // Chỉ để lại một gạch cứng; bóng bay thẳng lên từ ngay dưới gạch, paddle nằm đúng đường rơi về
+        BrickGrid grid = game.getBrickGrid();
+        grid.clear();
+        int col = grid.getCols() / 2;
+        StrongBrick brick = new StrongBrick(grid.columnX(col), grid.rowY(0),
+                GameManager.BRICK_WIDTH, GameManager.BRICK_HEIGHT);
+        grid.set(0, col, brick);
+        int brickBottom = brick.getY() + brick.getHeight();
+
+        Ball ball = game.getBall();
+        Paddle paddle = game.getPaddle();
+        ball.setX(brick.getX() + (brick.getWidth() - ball.getWidth()) / 2);
+        ball.setY(brickBottom + 5);
+        ball.launch(0, -FAST_SPEED);
+        paddle.setX(ball.getX() + ball.getWidth() / 2 - paddle.getWidth() / 2);
+        hits.brickHits = 0;
+        hits.paddleHits = 0;
+
+        game.tick();
+        assertEquals(1, hits.brickHits, "Bóng nhanh phải chạm gạch đúng một lần thay vì xuyên qua");
+        assertEquals(1, brick.getHitPoints(), "Gạch cứng chỉ mất một máu");
+        assertTrue(ball.getDy() > 0, "Bóng phải bật xuống sau khi chạm gạch");
+        assertTrue(ball.getY() >= brickBottom, "Bóng không được lấn vào gạch");
+
+        int lives = game.getLives();
+        for (int i = 0; i < MAX_TICKS && hits.paddleHits == 0; i++) {
+            game.tick();
+            assertTrue(ball.getY() + ball.getHeight() <= paddle.getY(), "Bóng không được xuyên qua paddle");
+        }
+        assertEquals(1, hits.paddleHits, "Bóng nhanh phải chạm paddle đúng một lần");
+        assertEquals(1, hits.brickHits, "Không được chạm gạch lần hai trên đường rơi");
+        assertEquals(lives, game.getLives());
+        assertTrue(ball.getDy() < 0, "Bóng phải bật lên khỏi paddle");
+    }
+
+    @Test
+    void fastBallHitsThinBrickInsteadOfTunneling() {
+        // Bóng 20px bay lên 100px mỗi tick, gạch cao 30px nằm giữa đường đi
+        Ball ball = new Ball(110, 200, 20, 0, -100 * GameManager.DEFAULT_TICK_RATE);
+        Brick brick = new StrongBrick(100, 140, 70, 30);
+
+        // Kiểm tra rời rạc: sau một bước bóng đã ở phía trên gạch, không phát hiện va chạm
+        ball.update(GameManager.DEFAULT_TICK_RATE);
+        assertFalse(ball.intersects(brick), "Va chạm rời rạc bỏ lỡ gạch khi bóng quá nhanh");
+
+        SweptAabb sweep = new SweptAabb();
+        boolean hit = sweep.sweep(110, 200, 20, 20, 0, -100, 100, 140, 70, 30, 1.0);
+
+        assertTrue(hit, "Va chạm liên tục phải phát hiện gạch");
+        assertEquals(0.3, sweep.getTime(), 1e-9, "Bóng chạm mặt dưới gạch sau 30px");
+        assertEquals(0, sweep.getNormalX());
+        assertEquals(1, sweep.getNormalY(), "Pháp tuyến hướng xuống (mặt dưới gạch)");
+    }
+
+    @Test
+    void sideHitReportsHorizontalNormal() {
+        SweptAabb sweep = new SweptAabb();
+        boolean hit = sweep.sweep(0, 145, 20, 20, 50, 0, 100, 140, 70, 30, 2.0);
+
+        assertTrue(hit);
+        assertEquals(1.6, sweep.getTime(), 1e-9);
+        assertEquals(-1, sweep.getNormalX(), "Chạm cạnh trái của gạch");
+        assertEquals(0, sweep.getNormalY());
+    }
+
+    @Test
+    void missesWhenPathDoesNotCrossBox() {
+        SweptAabb sweep = new SweptAabb();
+        assertFalse(sweep.sweep(0, 0, 20, 20, 50, 0, 100, 140, 70, 30, 5.0));
+        assertFalse(sweep.sweep(110, 200, 20, 20, 0, -100, 100, 140, 70, 30, 0.2),
+                "Va chạm sau maxTime không được tính");
+    }
+}
@@ -0,0 +1,108 @@
+package model;
+
+import model.brick.BrickGrid;
+import model.brick.NormalBrick;
+import model.entity.Ball;
+import model.entity.Paddle;
+import model.manager.GameManager;
+import model.manager.InputLog;
+import model.powerup.PowerUpPool;
+import model.powerup.PowerUpType;
+import model.state.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kiểm tra vận tốc tính theo pixel/giây: một giây mô phỏng đi đúng cùng quãng đường ở mọi tần số tick.
+ */
+public class TickRateTest {
+
+    private static final int[] TICK_RATES = { GameManager.DEFAULT_TICK_RATE, 120 };
+    private static final int MAX_START_TICKS = 60 * 10;
+
+    @Test
+    void entitiesCoverVelocityInOneSecondAtAnyTickRate() {
+        // Vận tốc không chia hết cho tần số tick: phần lẻ dưới một pixel phải được cộng dồn chính xác
+        for (int tickRate : new int[] { 60, 120, 144, 7 }) {
+            Ball ball = new Ball(1000, 1000, 20, 103, -282);
+            Paddle paddle = new Paddle(0, 0, 100, 20, 725);
+            paddle.setMovingRight(true);
+            for (int i = 0; i < tickRate; i++) {
+                ball.update(tickRate);
+                paddle.update(10_000, tickRate);
+            }
+            assertEquals(1103, ball.getX(), "tickRate " + tickRate);
+            assertEquals(718, ball.getY(), "tickRate " + tickRate);
+            assertEquals(725, paddle.getX(), "tickRate " + tickRate);
+        }
+    }
+
+    @Test
+    void oneSimulatedSecondCoversSameDistanceAt60And120Hz() {
+        for (boolean continuous : new boolean[] { false, true }) {
+            int[] expected = null;
+            for (int tickRate : TICK_RATES) {
+                int[] moved = distanceInOneSecond(tickRate, continuous);
+                if (expected == null) {
+                    expected = moved;
+                } else {
+                    assertArrayEquals(expected, moved, "continuous=" + continuous + ", tickRate " + tickRate);
+                }
+            }
+            // Bóng phóng với (120, -300) pixel/giây, power-up rơi FALL_SPEED pixel/giây
+            assertArrayEquals(new int[] { 120, -300, PowerUpType.FALL_SPEED }, expected);
+        }
+    }
+
+    @Test
+    void replayRunsAtRecordedTickRate() {
+        GameManager game = GameManager.newSimulation();
+        game.setTickRate(120);
+        game.startGame(4242L);
+        RandomPlayer.play(game, new SplittableRandom(3), false);
+
+        InputLog log = game.getInputLog();
+        assertTrue(log.isFinished(), "Ván phải kết thúc trong giới hạn tick");
+        assertEquals(120, log.getTickRate());
+
+        GameManager replayed = GameManager.replay(log);
+        assertEquals(120, replayed.getTickRate());
+        assertEquals(log.getEndTick(), replayed.getTickCount());
+        assertEquals(game.getScore(), replayed.getScore());
+        assertEquals(game.getPaddle().getX(), replayed.getPaddle().getX());
+    }
+
+    // Quãng đường (x, y) của bóng và y của power-up sau đúng một giây mô phỏng, không chạm vật cản nào
+    private int[] distanceInOneSecond(int tickRate, boolean continuous) {
+        GameManager game = GameManager.newSimulation();
+        game.setTickRate(tickRate);
+        game.setContinuousCollision(continuous);
+        game.startGame(8L);
+        for (int i = 0; i < MAX_START_TICKS && (game.getCurrentState() != GameState.RUNNING || game.isResetting()); i++) {
+            game.tick();
+        }
+        assertEquals(GameState.RUNNING, game.getCurrentState());
+        // Chỉ giữ một gạch ở góc trái trên (hết gạch là thắng ván), xa đường bay của bóng
+        BrickGrid grid = game.getBrickGrid();
+        grid.clear();
+        grid.set(0, 0, new NormalBrick(grid.columnX(0), grid.rowY(0), GameManager.BRICK_WIDTH, GameManager.BRICK_HEIGHT));
+
+        Ball ball = game.getBall();
+        ball.launch(120, -300);
+        int ballX = ball.getX();
+        int ballY = ball.getY();
+        PowerUpPool powerUps = game.getPowerUps();
+        powerUps.clear();
+        powerUps.spawn(PowerUpType.EXTRA_LIFE, 20, 100, PowerUpType.FALL_SPEED);
+
+        for (int i = 0; i < tickRate; i++) {
+            game.tick();
+        }
+        assertEquals(GameState.RUNNING, game.getCurrentState());
+        assertEquals(1, powerUps.size());
+        return new int[] { ball.getX() - ballX, ball.getY() - ballY, powerUps.getY(0) - 100 };
+    }
+}